@@ -64,7 +64,6 @@ import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
-import org.springframework.util.ObjectUtils;
 
 /**
  * Default implementation of {@link StringRedisConnection}.
@@ -87,6 +86,8 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 
 	private static final byte[][] EMPTY_2D_BYTE_ARRAY = new byte[0][];
 
+	@SuppressWarnings("rawtypes") private static final Converter IDENTITY_CONVERTER = Converters.identityConverter();
+
 	private final Log log = LogFactory.getLog(DefaultStringRedisConnection.class);
 	private final RedisConnection delegate;
 	private final RedisSerializer<String> serializer;
@@ -95,11 +96,14 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 	private final TupleConverter tupleConverter = new TupleConverter();
 	private SetConverter<Tuple, StringTuple> tupleToStringTuple = new SetConverter<>(tupleConverter);
 	private SetConverter<StringTuple, Tuple> stringTupleToTuple = new SetConverter<>(new StringTupleConverter());
-	private ListConverter<Tuple, StringTuple> tupleListToStringTuple = new ListConverter<>(new TupleConverter());
+	private ListConverter<Tuple, StringTuple> tupleListToStringTuple = new ListConverter<>(tupleConverter);
 	private ListConverter<byte[], String> byteListToStringList = new ListConverter<>(bytesToString);
 	private MapConverter<byte[], String> byteMapToStringMap = new MapConverter<>(bytesToString);
 	private MapConverter<String, byte[]> stringMapToByteMap = new MapConverter<>(stringToBytes);
 	private SetConverter<byte[], String> byteSetToStringSet = new SetConverter<>(bytesToString);
+	private final Converter<Entry<byte[], byte[]>, Entry<String, String>> byteEntryToStringEntry = this::convertEntry;
+	private final ListConverter<Entry<byte[], byte[]>, Entry<String, String>> byteEntryListToStringEntryList = new ListConverter<>(
+			byteEntryToStringEntry);
 	private Converter<GeoResults<GeoLocation<byte[]>>, GeoResults<GeoLocation<String>>> byteGeoResultsToStringGeoResults;
 	private Converter<ByteRecord, StringRecord> byteMapRecordToStringMapRecordConverter = new Converter<ByteRecord, StringRecord>() {
 
@@ -113,8 +117,8 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 	private ListConverter<ByteRecord, StringRecord> listByteMapRecordToStringMapRecordConverter = new ListConverter<>(
 			byteMapRecordToStringMapRecordConverter);
 
-	@SuppressWarnings("rawtypes") private Queue<Converter> pipelineConverters = new LinkedList<>();
-	@SuppressWarnings("rawtypes") private Queue<Converter> txConverters = new LinkedList<>();
+	@SuppressWarnings("rawtypes") private Queue<Converter> pipelineConverters = new ArrayDeque<>();
+	@SuppressWarnings("rawtypes") private Queue<Converter> txConverters = new ArrayDeque<>();
 	private boolean deserializePipelineAndTxResults = false;
 
 	private Entry<String, String> convertEntry(Entry<byte[], byte[]> source) {
@@ -333,7 +337,7 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 		try {
 			List<Object> results = delegate.exec();
 			if (isPipelined()) {
-				pipelineConverters.add(new TransactionResultConverter(new LinkedList<>(txConverters)));
+				pipelineConverters.add(new TransactionResultConverter(new ArrayDeque<>(txConverters)));
 				return results;
 			}
 			return convertResults(results, txConverters);
@@ -690,6 +694,11 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 		return convertAndReturn(delegate.publish(channel, message), Converters.identityConverter());
 	}
 
+	@Override
+	public Long sPublish(byte[] shardChannel, byte[] message) {
+		return convertAndReturn(delegate.sPublish(shardChannel, message), Converters.identityConverter());
+	}
+
 	@Override
 	public byte[] randomKey() {
 		return convertAndReturn(delegate.randomKey(), Converters.identityConverter());
@@ -1583,8 +1592,7 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 	@Nullable
 	@Override
 	public Entry<String, String> hRandFieldWithValues(String key) {
-		return convertAndReturn(delegate.hRandFieldWithValues(serialize(key)),
-				(Converter<Entry<byte[], byte[]>, Entry<String, String>>) this::convertEntry);
+		return convertAndReturn(delegate.hRandFieldWithValues(serialize(key)), byteEntryToStringEntry);
 	}
 
 	@Nullable
@@ -1596,8 +1604,7 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 	@Nullable
 	@Override
 	public List<Entry<String, String>> hRandFieldWithValues(String key, long count) {
-		return convertAndReturn(delegate.hRandFieldWithValues(serialize(key), count),
-				new ListConverter<>(this::convertEntry));
+		return convertAndReturn(delegate.hRandFieldWithValues(serialize(key), count), byteEntryListToStringEntryList);
 	}
 
 	@Override
@@ -1750,6 +1757,11 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 		return publish(serialize(channel), serialize(message));
 	}
 
+	@Override
+	public Long sPublish(String shardChannel, String message) {
+		return sPublish(serialize(shardChannel), serialize(message));
+	}
+
 	@Override
 	public void rename(String oldKey, String newKey) {
 		delegate.rename(serialize(oldKey), serialize(newKey));
@@ -2136,7 +2148,7 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 
 	@Override
 	public StringTuple zRandMemberWithScore(String key) {
-		return convertAndReturn(delegate.zRandMemberWithScore(serialize(key)), new TupleConverter());
+		return convertAndReturn(delegate.zRandMemberWithScore(serialize(key)), tupleConverter);
 	}
 
 	@Override
@@ -2602,7 +2614,7 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 	@Override
 	public Cursor<Entry<String, String>> hScan(String key, ScanOptions options) {
 
-		return new ConvertingCursor<>(this.delegate.hScan(this.serialize(key), options), this::convertEntry);
+		return new ConvertingCursor<>(this.delegate.hScan(this.serialize(key), options), byteEntryToStringEntry);
 	}
 
 	@Override
@@ -2617,7 +2629,7 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 
 	@Override
 	public Cursor<StringTuple> zScan(String key, ScanOptions options) {
-		return new ConvertingCursor<>(delegate.zScan(this.serialize(key), options), new TupleConverter());
+		return new ConvertingCursor<>(delegate.zScan(this.serialize(key), options), tupleConverter);
 	}
 
 	@Override
@@ -3046,13 +3058,15 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 			return null;
 		}
 
+		if (value == null || converter == IDENTITY_CONVERTER) {
+			return (T) value;
+		}
+
 		if (!(converter instanceof ListConverter) && value instanceof List) {
 			return (T) new ListConverter<>(converter).convert((List) value);
 		}
 
-		return value == null ? null
-				: ObjectUtils.nullSafeEquals(converter, Converters.identityConverter()) ? (T) value
-						: (T) converter.convert(value);
+		return (T) converter.convert(value);
 	}
 
 	private void addResultConverter(Converter<?, ?> converter) {
@@ -3081,7 +3095,7 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 		for (Object result : results) {
 
 			Converter converter = converters.remove();
-			convertedResults.add(result == null ? null : converter.convert(result));
+			convertedResults.add(result == null || converter == IDENTITY_CONVERTER ? result : converter.convert(result));
 		}
 		return convertedResults;
 	}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.util.List;
+
+/**
+ * Specifies that the connection exposes the position of pipelined commands so that pipeline results can be matched to
+ * the command that produced them.
+ *
+ * @author agent
+ * @since 3.1
+ */
+public interface IndexedPipelineConnection {
+
+	/**
+	 * Gets the number of commands issued since the pipeline was opened.
+	 *
+	 * @return the number of pipelined commands or {@literal 0} if the connection is not pipelined.
+	 */
+	int getPipelinedCommandCount();
+
+	/**
+	 * Executes the commands in the pipeline and returns one result per issued command in the order the commands were
+	 * issued. Unlike {@link RedisConnection#closePipeline()}, commands completing with a status reply are not omitted but
+	 * contribute a {@literal null} result.
+	 *
+	 * @return the result of each pipelined command, never {@literal null}.
+	 * @throws RedisPipelineException if the pipeline contains any incorrect/invalid statements.
+	 * @see RedisConnection#closePipeline()
+	 */
+	List<Object> closeIndexedPipeline() throws RedisPipelineException;
+
+}
@@ -52,6 +52,24 @@ public interface RedisPubSubCommands {
 	@Nullable
 	Long publish(byte[] channel, byte[] message);
 
+	/**
+	 * Publishes the given message to the given shard channel using sharded Pub/Sub. In Redis Cluster, the message is
+	 * propagated only within the shard owning the slot of {@code shardChannel} instead of being broadcast across the
+	 * cluster bus. Requires Redis 7.0 or newer. Only publishing is supported, subscribing to shard channels
+	 * ({@code SSUBSCRIBE}) is not available through Spring Data Redis.
+	 *
+	 * @param shardChannel the shard channel to publish to. Must not be {@literal null}.
+	 * @param message message to publish. Must not be {@literal null}.
+	 * @return the number of clients that received the message or {@literal null} when used in pipeline / transaction.
+	 * @throws UnsupportedOperationException if the connection does not support sharded Pub/Sub.
+	 * @see <a href="https://redis.io/commands/spublish">Redis Documentation: SPUBLISH</a>
+	 * @since 3.1
+	 */
+	@Nullable
+	default Long sPublish(byte[] shardChannel, byte[] message) {
+		throw new UnsupportedOperationException("SPUBLISH is not supported by this connection");
+	}
+
 	/**
 	 * Subscribes the connection to the given channels. Once subscribed, a connection enters listening mode and can only
 	 * subscribe to other channels or unsubscribe. No other commands are accepted until the connection is unsubscribed.
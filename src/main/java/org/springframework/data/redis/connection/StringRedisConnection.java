@@ -2603,6 +2603,18 @@ public interface StringRedisConnection extends RedisConnection {
 	 */
 	Long publish(String channel, String message);
 
+	/**
+	 * Publishes the given message to the given shard channel using sharded Pub/Sub.
+	 *
+	 * @param shardChannel the shard channel to publish to, must not be {@literal null}.
+	 * @param message message to publish
+	 * @return the number of clients that received the message
+	 * @see <a href="https://redis.io/commands/spublish">Redis Documentation: SPUBLISH</a>
+	 * @see RedisPubSubCommands#sPublish(byte[], byte[])
+	 * @since 3.1
+	 */
+	Long sPublish(String shardChannel, String message);
+
 	/**
 	 * Subscribes the connection to the given channels. Once subscribed, a connection enters listening mode and can only
 	 * subscribe to other channels or unsubscribe. No other commands are accepted until the connection is unsubscribed.
@@ -15,12 +15,11 @@
  */
 package org.springframework.data.redis.connection.convert;
 
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.util.CollectionUtils;
 
 /**
  * Converts a Map of values of one key/value type to a Map of values of another type
@@ -45,11 +44,14 @@ public class MapConverter<S, T> implements Converter<Map<S, S>, Map<T, T>> {
 	@Override
 	public Map<T, T> convert(Map<S, S> source) {
 
-		return source.entrySet().stream() //
-				.collect(Collectors.toMap( //
-						e -> itemConverter.convert(e.getKey()), //
-						e -> itemConverter.convert(e.getValue()), //
-						(a, b) -> a, source instanceof LinkedHashMap ? LinkedHashMap::new : HashMap::new));
+		Map<T, T> target = source instanceof LinkedHashMap ? CollectionUtils.newLinkedHashMap(source.size())
+				: CollectionUtils.newHashMap(source.size());
+
+		for (Map.Entry<S, S> entry : source.entrySet()) {
+			target.putIfAbsent(itemConverter.convert(entry.getKey()), itemConverter.convert(entry.getValue()));
+		}
+
+		return target;
 	}
 
 }
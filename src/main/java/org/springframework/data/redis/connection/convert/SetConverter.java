@@ -16,12 +16,12 @@
 package org.springframework.data.redis.connection.convert;
 
 import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.Collections;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
 /**
  * Converts a Set of values of one type to a Set of values of another type preserving item order.
@@ -46,11 +46,18 @@ public class SetConverter<S, T> implements Converter<Set<S>, Set<T>> {
 
 	@Override
 	public Set<T> convert(Set<S> source) {
-		return source.stream().map(itemConverter::convert).collect(Collectors.toCollection(LinkedHashSet::new));
+		return convert((Collection<S>) source);
 	}
 
 	public Set<T> convert(Collection<S> source) {
-		return source.stream().map(itemConverter::convert).collect(Collectors.toCollection(LinkedHashSet::new));
+
+		Set<T> target = Collections.newSetFromMap(CollectionUtils.newLinkedHashMap(source.size()));
+
+		for (S item : source) {
+			target.add(itemConverter.convert(item));
+		}
+
+		return target;
 	}
 
 }
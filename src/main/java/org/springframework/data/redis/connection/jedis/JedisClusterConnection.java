@@ -361,6 +361,19 @@ public class JedisClusterConnection implements RedisClusterConnection {
 		}
 	}
 
+	@Override
+	public Long sPublish(byte[] shardChannel, byte[] message) {
+
+		Assert.notNull(shardChannel, "Shard channel must not be null");
+		Assert.notNull(message, "Message must not be null");
+
+		try {
+			return cluster.spublish(shardChannel, message);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
 	@Override
 	public void subscribe(MessageListener listener, byte[]... channels) {
 
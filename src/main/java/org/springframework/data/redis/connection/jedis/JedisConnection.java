@@ -73,7 +73,7 @@ import org.springframework.util.CollectionUtils;
  * @author Guy Korland
  * @author Dengliming
  */
-public class JedisConnection extends AbstractRedisConnection {
+public class JedisConnection extends AbstractRedisConnection implements IndexedPipelineConnection {
 
 	private final Log LOGGER = LogFactory.getLog(getClass());
 
@@ -379,9 +379,23 @@ public class JedisConnection extends AbstractRedisConnection {
 
 	@Override
 	public List<Object> closePipeline() {
+		return closePipeline(false);
+	}
+
+	@Override
+	public int getPipelinedCommandCount() {
+		return isPipelined() ? pipelinedResults.size() : 0;
+	}
+
+	@Override
+	public List<Object> closeIndexedPipeline() {
+		return closePipeline(true);
+	}
+
+	private List<Object> closePipeline(boolean includeStatus) {
 		if (pipeline != null) {
 			try {
-				return convertPipelineResults();
+				return convertPipelineResults(includeStatus);
 			} finally {
 				pipeline = null;
 				pipelinedResults.clear();
@@ -390,7 +404,7 @@ public class JedisConnection extends AbstractRedisConnection {
 		return Collections.emptyList();
 	}
 
-	private List<Object> convertPipelineResults() {
+	private List<Object> convertPipelineResults(boolean includeStatus) {
 		List<Object> results = new ArrayList<>();
 		getRequiredPipeline().sync();
 		Exception cause = null;
@@ -401,6 +415,8 @@ public class JedisConnection extends AbstractRedisConnection {
 
 				if (!result.isStatus()) {
 					results.add(result.conversionRequired() ? result.convert(data) : data);
+				} else if (includeStatus) {
+					results.add(null);
 				}
 			} catch (JedisDataException e) {
 				DataAccessException dataAccessException = convertJedisAccessException(e);
@@ -597,6 +613,15 @@ public class JedisConnection extends AbstractRedisConnection {
 		return invoke().just(j -> j.publish(channel, message));
 	}
 
+	@Override
+	public Long sPublish(byte[] shardChannel, byte[] message) {
+
+		Assert.notNull(shardChannel, "Shard channel must not be null");
+		Assert.notNull(message, "Message must not be null");
+
+		return (Long) execute("SPUBLISH", shardChannel, message);
+	}
+
 	@Override
 	public Subscription getSubscription() {
 		return subscription;
@@ -91,7 +91,7 @@ import org.springframework.util.ObjectUtils;
  * @author Tamil Selvan
  * @author ihaohong
  */
-public class LettuceConnection extends AbstractRedisConnection {
+public class LettuceConnection extends AbstractRedisConnection implements IndexedPipelineConnection {
 
 	private final Log LOGGER = LogFactory.getLog(getClass());
 
@@ -425,6 +425,20 @@ public class LettuceConnection extends AbstractRedisConnection {
 
 	@Override
 	public List<Object> closePipeline() {
+		return closePipeline(false);
+	}
+
+	@Override
+	public int getPipelinedCommandCount() {
+		return isPipelined ? ppline.size() : 0;
+	}
+
+	@Override
+	public List<Object> closeIndexedPipeline() {
+		return closePipeline(true);
+	}
+
+	private List<Object> closePipeline(boolean includeStatus) {
 
 		if (!isPipelined) {
 			return Collections.emptyList();
@@ -467,6 +481,8 @@ public class LettuceConnection extends AbstractRedisConnection {
 							}
 							results.add(e);
 						}
+					} else if (includeStatus) {
+						results.add(null);
 					}
 				}
 			}
@@ -622,6 +638,16 @@ public class LettuceConnection extends AbstractRedisConnection {
 		return invoke().just(RedisClusterAsyncCommands::publish, channel, message);
 	}
 
+	@Override
+	public Long sPublish(byte[] shardChannel, byte[] message) {
+
+		Assert.notNull(shardChannel, "Shard channel must not be null");
+		Assert.notNull(message, "Message must not be null");
+
+		// the shard channel is passed as key to route the command to the slot owner in cluster mode
+		return (Long) execute("SPUBLISH", new IntegerOutput<>(CODEC), shardChannel, message);
+	}
+
 	@Override
 	public Subscription getSubscription() {
 		return subscription;
@@ -1082,6 +1108,7 @@ public class LettuceConnection extends AbstractRedisConnection {
 			COMMAND_OUTPUT_TYPE_MAPPING.put(SDIFFSTORE, IntegerOutput.class);
 			COMMAND_OUTPUT_TYPE_MAPPING.put(SETBIT, IntegerOutput.class);
 			COMMAND_OUTPUT_TYPE_MAPPING.put(SETRANGE, IntegerOutput.class);
+			COMMAND_OUTPUT_TYPE_MAPPING.put(SINTERCARD, IntegerOutput.class);
 			COMMAND_OUTPUT_TYPE_MAPPING.put(SINTERSTORE, IntegerOutput.class);
 			COMMAND_OUTPUT_TYPE_MAPPING.put(SREM, IntegerOutput.class);
 			COMMAND_OUTPUT_TYPE_MAPPING.put(SUNIONSTORE, IntegerOutput.class);
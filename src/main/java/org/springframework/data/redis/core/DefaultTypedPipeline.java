@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.IndexedPipelineConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link TypedPipeline} implementation recording a {@link DefaultPipelineResult} for each queued command. Each
+ * {@link PipelineResult} records the position of its command within the pipeline at the time the command is queued and
+ * is matched against the result at that position once the pipeline is closed. Queued callbacks must issue exactly one
+ * command.
+ *
+ * @author agent
+ * @since 3.1
+ * @see IndexedPipelineConnection
+ */
+class DefaultTypedPipeline implements TypedPipeline {
+
+	private final RedisConnection connection;
+
+	private final IndexedPipelineConnection indexedConnection;
+
+	private final List<DefaultPipelineResult<?, ?>> results = new ArrayList<>();
+
+	DefaultTypedPipeline(RedisConnection connection) {
+
+		if (!(connection instanceof IndexedPipelineConnection indexedConnection)) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Connection %s does not expose pipelined command positions; Typed pipelines are not supported",
+							connection.getClass().getName()));
+		}
+
+		this.connection = connection;
+		this.indexedConnection = indexedConnection;
+	}
+
+	@Override
+	public <T> PipelineResult<T> queue(RedisCallback<T> command) {
+		return queue(command, it -> it);
+	}
+
+	@Override
+	public <S, T> PipelineResult<T> queue(RedisCallback<S> command, Converter<? super S, ? extends T> converter) {
+
+		Assert.notNull(command, "Command callback must not be null");
+		Assert.notNull(converter, "Converter must not be null");
+
+		int commandIndex = indexedConnection.getPipelinedCommandCount();
+		command.doInRedis(connection);
+		int issued = indexedConnection.getPipelinedCommandCount() - commandIndex;
+
+		if (issued != 1) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Queued callback issued %d commands; Make sure each queued callback issues exactly one command and use execute(…) for other commands",
+					issued));
+		}
+
+		DefaultPipelineResult<S, T> result = new DefaultPipelineResult<>(converter, commandIndex);
+		results.add(result);
+		return result;
+	}
+
+	@Override
+	public void execute(RedisCallback<?> command) {
+
+		Assert.notNull(command, "Command callback must not be null");
+
+		command.doInRedis(connection);
+	}
+
+	/**
+	 * Close the pipeline and complete the recorded {@link PipelineResult results} with the result at the position of their
+	 * command.
+	 *
+	 * @return a {@link List} view converting results lazily upon access.
+	 * @see IndexedPipelineConnection#closeIndexedPipeline()
+	 */
+	List<Object> close() {
+
+		int commands = indexedConnection.getPipelinedCommandCount();
+		List<Object> rawResults = indexedConnection.closeIndexedPipeline();
+
+		if (rawResults.size() != commands) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Pipeline returned %d results but %d commands were issued", rawResults.size(), commands));
+		}
+
+		for (DefaultPipelineResult<?, ?> result : results) {
+			result.complete(rawResults.get(result.commandIndex));
+		}
+
+		return new AbstractList<>() {
+
+			@Override
+			public Object get(int index) {
+				return results.get(index).get();
+			}
+
+			@Override
+			public int size() {
+				return results.size();
+			}
+		};
+	}
+
+	/**
+	 * {@link PipelineResult} converting the raw result once upon first access.
+	 *
+	 * @param <S> raw result type.
+	 * @param <T> converted result type.
+	 */
+	static class DefaultPipelineResult<S, T> implements PipelineResult<T> {
+
+		private final Converter<? super S, ? extends T> converter;
+
+		private final int commandIndex;
+
+		private @Nullable Object raw;
+
+		private @Nullable T value;
+
+		private volatile int state; // 0: pending, 1: completed, 2: converted
+
+		DefaultPipelineResult(Converter<? super S, ? extends T> converter, int commandIndex) {
+			this.converter = converter;
+			this.commandIndex = commandIndex;
+		}
+
+		void complete(@Nullable Object raw) {
+
+			this.raw = raw;
+			this.state = 1;
+		}
+
+		@Override
+		@Nullable
+		@SuppressWarnings("unchecked")
+		public T get() {
+
+			if (state == 2) {
+				return value;
+			}
+
+			synchronized (this) {
+
+				if (state == 0) {
+					throw new IllegalStateException("Pipeline not yet closed; Result not available");
+				}
+
+				if (state == 1) {
+					value = raw == null ? null : converter.convert((S) raw);
+					raw = null;
+					state = 2;
+				}
+
+				return value;
+			}
+		}
+
+		@Override
+		public boolean isDone() {
+			return state != 0;
+		}
+	}
+}
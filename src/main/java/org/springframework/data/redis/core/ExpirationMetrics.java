@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.time.Duration;
+
+/**
+ * Metrics about keyspace expiration handling of {@link RedisKeyValueAdapter}. Metrics are cumulative since the creation
+ * of the adapter and can be bound to a monitoring system by polling the accessor methods.
+ *
+ * @author agent
+ * @since 3.1
+ * @see RedisKeyValueAdapter#getExpirationMetrics()
+ */
+public interface ExpirationMetrics {
+
+	/**
+	 * @return total number of received expiration events.
+	 */
+	long getReceived();
+
+	/**
+	 * @return total number of handled expiration events.
+	 */
+	long getProcessed();
+
+	/**
+	 * @return number of expiration events waiting to be handled.
+	 */
+	long getPending();
+
+	/**
+	 * @return total number of expiration events handled on the listener thread because the queue was full.
+	 */
+	long getOverflows();
+
+	/**
+	 * @return time between receiving and handling of the oldest event of the most recently handled batch.
+	 */
+	Duration getLastLag();
+
+	/**
+	 * @return the maximum time between receiving and handling an expiration event.
+	 */
+	Duration getMaxLag();
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ExpirationMetrics} implementation recording expiration statistics.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class ExpirationStatistics implements ExpirationMetrics {
+
+	private final LongAdder received = new LongAdder();
+	private final LongAdder processed = new LongAdder();
+	private final LongAdder pending = new LongAdder();
+	private final LongAdder overflows = new LongAdder();
+	private final AtomicLong lastLag = new AtomicLong();
+	private final AtomicLong maxLag = new AtomicLong();
+
+	void received() {
+		received.increment();
+		pending.increment();
+	}
+
+	void overflow() {
+		overflows.increment();
+	}
+
+	void processed(int events, long lagNanos) {
+
+		processed.add(events);
+		pending.add(-events);
+		lastLag.set(lagNanos);
+		maxLag.accumulateAndGet(lagNanos, Math::max);
+	}
+
+	@Override
+	public long getReceived() {
+		return received.sum();
+	}
+
+	@Override
+	public long getProcessed() {
+		return processed.sum();
+	}
+
+	@Override
+	public long getPending() {
+		return Math.max(0, pending.sum());
+	}
+
+	@Override
+	public long getOverflows() {
+		return overflows.sum();
+	}
+
+	@Override
+	public Duration getLastLag() {
+		return Duration.ofNanos(lastLag.get());
+	}
+
+	@Override
+	public Duration getMaxLag() {
+		return Duration.ofNanos(maxLag.get());
+	}
+}
@@ -15,20 +15,30 @@
  */
 package org.springframework.data.redis.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.convert.GeoIndexedPropertyValue;
 import org.springframework.data.redis.core.convert.IndexedData;
 import org.springframework.data.redis.core.convert.RedisConverter;
 import org.springframework.data.redis.core.convert.RemoveIndexedData;
 import org.springframework.data.redis.core.convert.SimpleIndexedPropertyValue;
+import org.springframework.data.redis.core.convert.SortIndexedPropertyValue;
 import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
-import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -43,6 +53,8 @@ import org.springframework.util.ObjectUtils;
  */
 class IndexWriter {
 
+	private static final int SCAN_BATCH_SIZE = 1000;
+
 	private final RedisConnection connection;
 	private final RedisConverter converter;
 
@@ -118,7 +130,8 @@ class IndexWriter {
 	}
 
 	/**
-	 * Removes a key from all available indexes.
+	 * Removes a key from all available indexes. Index keys are read from the index helper set and removal is issued in
+	 * a single pipeline.
 	 *
 	 * @param key must not be {@literal null}.
 	 */
@@ -127,38 +140,187 @@ class IndexWriter {
 		Assert.notNull(key, "Key must not be null");
 
 		byte[] binKey = toBytes(key);
-		byte[] indexHelperKey = ByteUtils.concatAll(toBytes(keyspace + ":"), binKey, toBytes(":idx"));
+		byte[] indexHelperKey = getIndexHelperKey(keyspace, binKey);
+
+		Set<byte[]> members = connection.sMembers(indexHelperKey);
+		List<byte[]> indexKeys = members != null ? new ArrayList<>(members) : Collections.emptyList();
+		List<DataType> types = getTypes(indexKeys);
+
+		doPipelined(() -> {
+
+			for (int i = 0; i < indexKeys.size(); i++) {
+
+				if (DataType.ZSET.equals(types.get(i))) {
+					connection.zRem(indexKeys.get(i), binKey);
+				} else {
+					connection.sRem(indexKeys.get(i), binKey);
+				}
+			}
+
+			connection.del(indexHelperKey);
+		});
+	}
+
+	/**
+	 * Removes the given keys from all available indexes. Index helper sets of all keys are read in a single pipeline and
+	 * removal of all keys is issued in a single pipeline.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param keys must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void removeKeysFromIndexes(String keyspace, Collection<?> keys) {
+
+		Assert.notNull(keys, "Keys must not be null");
+
+		if (keys.isEmpty()) {
+			return;
+		}
 
-		for (byte[] indexKey : connection.sMembers(indexHelperKey)) {
+		List<byte[]> binKeys = new ArrayList<>(keys.size());
+		List<byte[]> indexHelperKeys = new ArrayList<>(keys.size());
 
-			DataType type = connection.type(indexKey);
-			if (DataType.ZSET.equals(type)) {
-				connection.zRem(indexKey, binKey);
-			} else {
-				connection.sRem(indexKey, binKey);
+		for (Object key : keys) {
+
+			byte[] binKey = toBytes(key);
+			binKeys.add(binKey);
+			indexHelperKeys.add(getIndexHelperKey(keyspace, binKey));
+		}
+
+		List<Set<byte[]>> members = getMembers(indexHelperKeys);
+		List<byte[]> indexKeys = new ArrayList<>();
+		List<byte[]> indexedKeys = new ArrayList<>();
+
+		for (int i = 0; i < binKeys.size(); i++) {
+			for (byte[] indexKey : members.get(i)) {
+				indexKeys.add(indexKey);
+				indexedKeys.add(binKeys.get(i));
 			}
 		}
 
-		connection.del(indexHelperKey);
+		List<DataType> types = getTypes(indexKeys);
+
+		doPipelined(() -> {
+
+			for (int i = 0; i < indexKeys.size(); i++) {
+
+				if (DataType.ZSET.equals(types.get(i))) {
+					connection.zRem(indexKeys.get(i), indexedKeys.get(i));
+				} else {
+					connection.sRem(indexKeys.get(i), indexedKeys.get(i));
+				}
+			}
+
+			connection.del(indexHelperKeys.toArray(new byte[0][]));
+		});
 	}
 
 	/**
-	 * Removes all indexes.
+	 * Removes all indexes. Keys are discovered using {@code SCAN} and removed in batches.
 	 */
 	public void removeAllIndexes(String keyspace) {
 
-		Set<byte[]> potentialIndex = connection.keys(toBytes(keyspace + ":*"));
+		ScanOptions options = ScanOptions.scanOptions().match(keyspace + ":*").count(SCAN_BATCH_SIZE).build();
+
+		if (connection instanceof RedisClusterConnection) {
 
-		if (!potentialIndex.isEmpty()) {
-			connection.del(potentialIndex.toArray(new byte[potentialIndex.size()][]));
+			RedisClusterConnection clusterConnection = (RedisClusterConnection) connection;
+
+			for (RedisClusterNode node : clusterConnection.clusterGetNodes()) {
+				if (node.isMaster()) {
+					deleteAll(clusterConnection.scan(node, options));
+				}
+			}
+		} else {
+			deleteAll(connection.scan(options));
 		}
 	}
 
+	private void deleteAll(Cursor<byte[]> cursor) {
+
+		try (Cursor<byte[]> keys = cursor) {
+
+			List<byte[]> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+			while (keys.hasNext()) {
+
+				batch.add(keys.next());
+
+				if (batch.size() == SCAN_BATCH_SIZE) {
+					connection.del(batch.toArray(new byte[0][]));
+					batch.clear();
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				connection.del(batch.toArray(new byte[0][]));
+			}
+		}
+	}
+
+	/**
+	 * Remove given key from all indexes matching {@link IndexedData#getIndexName()} of {@code indexValues}. Index keys
+	 * are read from the index helper set and removal is issued in a single pipeline.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param indexValues must not be {@literal null}.
+	 */
 	private void removeKeyFromExistingIndexes(byte[] key, Iterable<IndexedData> indexValues) {
 
-		for (IndexedData indexData : indexValues) {
-			removeKeyFromExistingIndexes(key, indexData);
+		Map<String, Set<byte[]>> existingKeysByKeyspace = new HashMap<>(1);
+		Map<String, List<byte[]>> removals = new LinkedHashMap<>(1);
+		List<byte[]> geoIndexKeys = new ArrayList<>();
+		List<byte[]> sortIndexKeys = new ArrayList<>();
+
+		for (IndexedData indexedData : indexValues) {
+
+			Assert.notNull(indexedData, "IndexedData must not be null");
+
+			Set<byte[]> existingKeys = existingKeysByKeyspace.computeIfAbsent(indexedData.getKeyspace(), keyspace -> {
+
+				Set<byte[]> members = connection.sMembers(getIndexHelperKey(keyspace, key));
+				return members != null ? members : Collections.emptySet();
+			});
+
+			byte[] indexName = toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName());
+			boolean geo = indexedData instanceof GeoIndexedPropertyValue;
+			boolean sort = indexedData instanceof SortIndexedPropertyValue;
+
+			for (byte[] existingKey : existingKeys) {
+
+				if (geo || sort ? Arrays.equals(existingKey, indexName) : isValueIndexOf(existingKey, indexName)) {
+
+					removals.computeIfAbsent(indexedData.getKeyspace(), it -> new ArrayList<>()).add(existingKey);
+					if (geo) {
+						geoIndexKeys.add(existingKey);
+					} else if (sort) {
+						sortIndexKeys.add(existingKey);
+					}
+				}
+			}
 		}
+
+		if (removals.isEmpty()) {
+			return;
+		}
+
+		doPipelined(() -> {
+
+			removals.forEach((keyspace, indexKeys) -> {
+
+				for (byte[] indexKey : indexKeys) {
+
+					if (geoIndexKeys.contains(indexKey)) {
+						connection.geoRemove(indexKey, key);
+					} else if (sortIndexKeys.contains(indexKey)) {
+						connection.zRem(indexKey, key);
+					} else {
+						connection.sRem(indexKey, key);
+					}
+				}
+
+				connection.sRem(getIndexHelperKey(keyspace, key), indexKeys.toArray(new byte[0][]));
+			});
+		});
 	}
 
 	/**
@@ -171,21 +333,110 @@ class IndexWriter {
 
 		Assert.notNull(indexedData, "IndexedData must not be null");
 
-		Set<byte[]> existingKeys = connection
-				.keys(toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName() + ":*"));
+		removeKeyFromExistingIndexes(key, Collections.singleton(indexedData));
+	}
 
-		if (!CollectionUtils.isEmpty(existingKeys)) {
-			for (byte[] existingKey : existingKeys) {
+	/**
+	 * @return {@literal true} if {@code indexKey} is a value index ({@code keyspace:indexName:value}) of {@code indexName}.
+	 */
+	private static boolean isValueIndexOf(byte[] indexKey, byte[] indexName) {
 
-				if (indexedData instanceof GeoIndexedPropertyValue) {
-					connection.geoRemove(existingKey, key);
-				} else {
-					connection.sRem(existingKey, key);
-				}
+		if (indexKey.length <= indexName.length || indexKey[indexName.length] != ':') {
+			return false;
+		}
+
+		return Arrays.equals(indexKey, 0, indexName.length, indexName, 0, indexName.length);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Set<byte[]>> getMembers(List<byte[]> keys) {
+
+		List<Set<byte[]>> members = new ArrayList<>(keys.size());
+
+		if (!canPipeline()) {
+
+			for (byte[] key : keys) {
+				Set<byte[]> result = connection.sMembers(key);
+				members.add(result != null ? result : Collections.emptySet());
 			}
+			return members;
+		}
+
+		connection.openPipeline();
+		try {
+			for (byte[] key : keys) {
+				connection.sMembers(key);
+			}
+		} catch (RuntimeException e) {
+			connection.closePipeline();
+			throw e;
+		}
+
+		List<Object> results = connection.closePipeline();
+		for (int i = 0; i < keys.size(); i++) {
+			members.add(results != null && i < results.size() && results.get(i) instanceof Set
+					? (Set<byte[]>) results.get(i)
+					: Collections.emptySet());
+		}
+		return members;
+	}
+
+	private List<DataType> getTypes(List<byte[]> keys) {
+
+		if (keys.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		if (!canPipeline()) {
+
+			List<DataType> types = new ArrayList<>(keys.size());
+			for (byte[] key : keys) {
+				types.add(connection.type(key));
+			}
+			return types;
+		}
+
+		connection.openPipeline();
+		try {
+			for (byte[] key : keys) {
+				connection.type(key);
+			}
+		} catch (RuntimeException e) {
+			connection.closePipeline();
+			throw e;
+		}
+
+		List<Object> results = connection.closePipeline();
+		List<DataType> types = new ArrayList<>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			types.add(results != null && i < results.size() && results.get(i) instanceof DataType ? (DataType) results.get(i)
+					: null);
+		}
+		return types;
+	}
+
+	private void doPipelined(Runnable commands) {
+
+		if (!canPipeline()) {
+			commands.run();
+			return;
+		}
+
+		connection.openPipeline();
+		try {
+			commands.run();
+		} finally {
+			connection.closePipeline();
 		}
 	}
 
+	/**
+	 * Pipelining requires a standalone connection that is neither pipelining nor queueing a transaction already.
+	 */
+	private boolean canPipeline() {
+		return !(connection instanceof RedisClusterConnection) && !connection.isPipelined() && !connection.isQueueing();
+	}
+
 	private void addKeyToIndexes(byte[] key, Iterable<IndexedData> indexValues) {
 
 		for (IndexedData indexData : indexValues) {
@@ -204,42 +455,77 @@ class IndexWriter {
 		Assert.notNull(key, "Key must not be null");
 		Assert.notNull(indexedData, "IndexedData must not be null");
 
-		if (indexedData instanceof RemoveIndexedData) {
+		byte[] indexKey = getIndexKey(indexedData);
+
+		if (indexKey == null) {
 			return;
 		}
 
+		if (indexedData instanceof GeoIndexedPropertyValue) {
+			connection.geoAdd(indexKey, ((GeoIndexedPropertyValue) indexedData).getPoint(), key);
+		} else if (indexedData instanceof SortIndexedPropertyValue) {
+			connection.zAdd(indexKey, ((SortIndexedPropertyValue) indexedData).getScore(), key);
+		} else {
+			connection.sAdd(indexKey, key);
+		}
+
+		// keep track of indexes used for the object
+		connection.sAdd(getIndexHelperKey(indexedData.getKeyspace(), key), indexKey);
+	}
+
+	/**
+	 * Resolve the key of the index structure the given {@link IndexedData} is written to.
+	 *
+	 * @param indexedData must not be {@literal null}.
+	 * @return the index key or {@literal null} if {@link IndexedData} does not contribute an index value.
+	 * @since 3.1
+	 */
+	@Nullable
+	byte[] getIndexKey(IndexedData indexedData) {
+
+		if (indexedData instanceof RemoveIndexedData) {
+			return null;
+		}
+
 		if (indexedData instanceof SimpleIndexedPropertyValue) {
 
 			Object value = ((SimpleIndexedPropertyValue) indexedData).getValue();
 
 			if (value == null) {
-				return;
+				return null;
 			}
 
 			byte[] indexKey = toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName() + ":");
-			indexKey = ByteUtils.concat(indexKey, toBytes(value));
-			connection.sAdd(indexKey, key);
-
-			// keep track of indexes used for the object
-			connection.sAdd(ByteUtils.concatAll(toBytes(indexedData.getKeyspace() + ":"), key, toBytes(":idx")), indexKey);
-		} else if (indexedData instanceof GeoIndexedPropertyValue) {
+			return ByteUtils.concat(indexKey, toBytes(value));
+		}
 
-			GeoIndexedPropertyValue geoIndexedData = ((GeoIndexedPropertyValue) indexedData);
+		if (indexedData instanceof GeoIndexedPropertyValue) {
 
-			Object value = geoIndexedData.getValue();
-			if (value == null) {
-				return;
+			if (((GeoIndexedPropertyValue) indexedData).getValue() == null) {
+				return null;
 			}
 
-			byte[] indexKey = toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName());
-			connection.geoAdd(indexKey, geoIndexedData.getPoint(), key);
+			return toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName());
+		}
 
-			// keep track of indexes used for the object
-			connection.sAdd(ByteUtils.concatAll(toBytes(indexedData.getKeyspace() + ":"), key, toBytes(":idx")), indexKey);
-		} else {
-			throw new IllegalArgumentException(
-					String.format("Cannot write index data for unknown index type %s", indexedData.getClass()));
+		if (indexedData instanceof SortIndexedPropertyValue) {
+			return toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName());
 		}
+
+		throw new IllegalArgumentException(
+				String.format("Cannot write index data for unknown index type %s", indexedData.getClass()));
+	}
+
+	/**
+	 * Resolve the key of the helper set keeping track of all indexes the given {@code key} was added to.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @return the index helper key.
+	 * @since 3.1
+	 */
+	byte[] getIndexHelperKey(String keyspace, byte[] key) {
+		return ByteUtils.concatAll(toBytes(keyspace + ":"), key, toBytes(":idx"));
 	}
 
 	private byte[] toBytes(@Nullable Object source) {
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Handle to the result of a command queued on a {@link TypedPipeline}. The result becomes available once the pipeline
+ * is closed and is converted upon first access.
+ *
+ * @author agent
+ * @since 3.1
+ * @param <T> the result type.
+ */
+public interface PipelineResult<T> {
+
+	/**
+	 * Obtain the converted result.
+	 *
+	 * @return the converted result. Can be {@literal null}.
+	 * @throws IllegalStateException if the pipeline was not yet closed.
+	 */
+	@Nullable
+	T get();
+
+	/**
+	 * @return {@literal true} if the pipeline was closed and the result is available.
+	 */
+	boolean isDone();
+
+}
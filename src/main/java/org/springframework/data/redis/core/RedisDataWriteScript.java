@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.convert.GeoIndexedPropertyValue;
+import org.springframework.data.redis.core.convert.IndexedData;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.convert.SortIndexedPropertyValue;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.script.ScriptUtils;
+
+/**
+ * Server-side script writing a {@link RedisData} entity. The script replaces the entity hash, registers the id with the
+ * keyspace, applies the time to live, maintains the phantom copy, removes the id from previously used indexes of
+ * existing entities and adds it to the current indexes. Previously used index keys are read from the index helper set
+ * before running the script so that the script declares every key it accesses.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class RedisDataWriteScript {
+
+	private static final RedisScript<Long> SCRIPT = RedisScript
+			.of(new ClassPathResource("redis-data-write.lua", RedisDataWriteScript.class), Long.class);
+
+	private static final byte[] SET_INDEX = bytes("set");
+	private static final byte[] GEO_INDEX = bytes("geo");
+	private static final byte[] SORT_INDEX = bytes("zset");
+
+	private final IndexWriter indexWriter;
+
+	/**
+	 * Creates new {@link RedisDataWriteScript}.
+	 *
+	 * @param indexWriter the {@link IndexWriter} to resolve index keys.
+	 */
+	RedisDataWriteScript(IndexWriter indexWriter) {
+		this.indexWriter = indexWriter;
+	}
+
+	/**
+	 * Write the given {@link RedisData}.
+	 *
+	 * @param connection the connection to use.
+	 * @param rdo the entity to write.
+	 * @param id the binary entity id.
+	 * @param objectKey the key of the entity hash.
+	 * @param keyspaceKey the key of the keyspace set.
+	 * @param phantomKey the key of the phantom copy.
+	 * @param phantomCopy how to treat the phantom copy.
+	 * @param phantomTimeToLive time to live of the phantom copy in seconds.
+	 */
+	void write(RedisConnection connection, RedisData rdo, byte[] id, byte[] objectKey, byte[] keyspaceKey,
+			byte[] phantomKey, PhantomCopy phantomCopy, long phantomTimeToLive) {
+
+		Long timeToLive = rdo.getTimeToLive();
+		Map<byte[], byte[]> hash = rdo.getBucket().rawMap();
+		byte[] helperKey = indexWriter.getIndexHelperKey(rdo.getKeyspace(), id);
+
+		// read upfront so that the script declares all keys it accesses
+		Collection<byte[]> previousIndexKeys = rdo.getIndexedData().isEmpty() ? Collections.emptySet()
+				: connection.sMembers(helperKey);
+
+		if (previousIndexKeys == null) { // pipeline or transaction
+			previousIndexKeys = Collections.emptySet();
+		}
+
+		List<byte[]> keys = new ArrayList<>(4 + previousIndexKeys.size() + rdo.getIndexedData().size() * 2);
+		keys.add(objectKey);
+		keys.add(keyspaceKey);
+		keys.add(phantomKey);
+		keys.add(helperKey);
+		keys.addAll(previousIndexKeys);
+
+		List<byte[]> args = new ArrayList<>(6 + hash.size() * 2 + rdo.getIndexedData().size());
+		args.add(id);
+		args.add(bytes(timeToLive != null && timeToLive > 0 ? timeToLive : 0));
+		args.add(bytes(phantomCopy.ordinal()));
+		args.add(bytes(phantomTimeToLive));
+		args.add(bytes(previousIndexKeys.size()));
+		args.add(bytes(hash.size() * 2));
+
+		for (Map.Entry<byte[], byte[]> entry : hash.entrySet()) {
+			args.add(entry.getKey());
+			args.add(entry.getValue());
+		}
+
+		for (IndexedData data : rdo.getIndexedData()) {
+
+			byte[] indexKey = indexWriter.getIndexKey(data);
+
+			if (indexKey == null) {
+				continue;
+			}
+
+			keys.add(indexKey);
+			keys.add(indexWriter.getIndexHelperKey(data.getKeyspace(), id));
+
+			if (data instanceof GeoIndexedPropertyValue) {
+
+				Point point = ((GeoIndexedPropertyValue) data).getPoint();
+
+				args.add(GEO_INDEX);
+				args.add(bytes(point.getX()));
+				args.add(bytes(point.getY()));
+			} else if (data instanceof SortIndexedPropertyValue) {
+
+				args.add(SORT_INDEX);
+				args.add(bytes(((SortIndexedPropertyValue) data).getScore()));
+			} else {
+				args.add(SET_INDEX);
+			}
+		}
+
+		byte[][] keysAndArgs = new byte[keys.size() + args.size()][];
+		int i = 0;
+		for (byte[] key : keys) {
+			keysAndArgs[i++] = key;
+		}
+		for (byte[] arg : args) {
+			keysAndArgs[i++] = arg;
+		}
+
+		execute(connection, keys.size(), keysAndArgs);
+	}
+
+	private static void execute(RedisConnection connection, int numKeys, byte[][] keysAndArgs) {
+
+		if (connection.isPipelined() || connection.isQueueing()) {
+			// a NOSCRIPT error would surface only with the pipeline/transaction result, so send the script body
+			connection.eval(scriptBytes(), ReturnType.INTEGER, numKeys, keysAndArgs);
+			return;
+		}
+
+		try {
+			connection.evalSha(SCRIPT.getSha1(), ReturnType.INTEGER, numKeys, keysAndArgs);
+		} catch (RuntimeException e) {
+
+			if (!ScriptUtils.exceptionContainsNoScriptError(e)) {
+				throw e;
+			}
+
+			connection.eval(scriptBytes(), ReturnType.INTEGER, numKeys, keysAndArgs);
+		}
+	}
+
+	private static byte[] scriptBytes() {
+		return bytes(SCRIPT.getScriptAsString());
+	}
+
+	private static byte[] bytes(Object value) {
+		return value.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Treatment of the phantom copy. Constants are passed to the script by their ordinal.
+	 */
+	enum PhantomCopy {
+
+		/**
+		 * Leave the phantom copy untouched.
+		 */
+		NONE,
+
+		/**
+		 * Replace the phantom copy with the written entity.
+		 */
+		WRITE,
+
+		/**
+		 * Remove the phantom copy of an existing entity.
+		 */
+		REMOVE
+	}
+}
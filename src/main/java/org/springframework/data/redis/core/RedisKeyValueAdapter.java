@@ -15,16 +15,32 @@
  */
 package org.springframework.data.redis.core;
 
+import java.time.Duration;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.InitializingBean;
@@ -34,15 +50,20 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.keyvalue.core.AbstractKeyValueAdapter;
 import org.springframework.data.keyvalue.core.KeyValueAdapter;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.convert.Converters;
 import org.springframework.data.redis.core.PartialUpdate.PropertyUpdate;
 import org.springframework.data.redis.core.PartialUpdate.UpdateCommand;
+import org.springframework.data.redis.core.RedisDataWriteScript.PhantomCopy;
 import org.springframework.data.redis.core.RedisKeyValueAdapter.RedisUpdateObject.Index;
 import org.springframework.data.redis.core.convert.GeoIndexedPropertyValue;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
@@ -54,6 +75,9 @@ import org.springframework.data.redis.core.convert.RedisConverter;
 import org.springframework.data.redis.core.convert.RedisCustomConversions;
 import org.springframework.data.redis.core.convert.RedisData;
 import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
+import org.springframework.data.redis.core.index.IndexDefinition;
+import org.springframework.data.redis.core.index.SortIndexDefinition;
+import org.springframework.data.redis.core.index.SortIndexed;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
 import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
@@ -119,6 +143,13 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 	private EnableKeyspaceEvents enableKeyspaceEvents = EnableKeyspaceEvents.OFF;
 	private @Nullable String keyspaceNotificationsConfigParameter = null;
 	private ShadowCopy shadowCopy = ShadowCopy.DEFAULT;
+	private int fetchBatchSize = 1000;
+	private @Nullable Executor conversionExecutor;
+	private Duration queryResultTimeToLive = Duration.ZERO;
+	private @Nullable Executor expirationEventExecutor;
+	private int expirationEventBatchSize = 100;
+	private int expirationEventQueueCapacity = 10000;
+	private final ExpirationStatistics expirationStatistics = new ExpirationStatistics();
 
 	/**
 	 * Creates new {@link RedisKeyValueAdapter} with default {@link RedisMappingContext} and default
@@ -212,6 +243,19 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 			byte[] key = toBytes(rdo.getId());
 			byte[] objectKey = createKey(rdo.getKeyspace(), rdo.getId());
 
+			if (!(connection instanceof RedisClusterConnection)) {
+
+				// single round trip; cluster keys of an entity and its indexes do not share a slot
+				byte[] phantomKey = ByteUtils.concat(objectKey, BinaryKeyspaceIdentifier.PHANTOM_SUFFIX);
+				PhantomCopy phantomCopy = !keepShadowCopy() ? PhantomCopy.NONE
+						: expires(rdo) ? PhantomCopy.WRITE : PhantomCopy.REMOVE;
+				long phantomTimeToLive = expires(rdo) ? rdo.getTimeToLive() + PHANTOM_KEY_TTL : 0;
+
+				new RedisDataWriteScript(new IndexWriter(connection, converter)).write(connection, rdo, key, objectKey,
+						toBytes(rdo.getKeyspace()), phantomKey, phantomCopy, phantomTimeToLive);
+				return null;
+			}
+
 			boolean isNew = connection.del(objectKey) == 0;
 
 			connection.hMSet(objectKey, rdo.getBucket().rawMap());
@@ -350,11 +394,21 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 	 */
 	public <T> List<T> getAllOf(String keyspace, Class<T> type, long offset, int rows) {
 
+		if (offset > 0 || rows > 0) {
+
+			RedisPersistentProperty idProperty = getSortIndexedIdProperty(keyspace, type);
+			List<byte[]> ids = idProperty != null ? getIdsFromSortIndex(keyspace, idProperty.getName(), true, offset, rows)
+					: null;
+
+			if (ids != null) {
+				return getAllOf(keyspace, ids, type, true);
+			}
+		}
+
 		byte[] binKeyspace = toBytes(keyspace);
 
 		Set<byte[]> ids = redisOps.execute((RedisCallback<Set<byte[]>>) connection -> connection.sMembers(binKeyspace));
 
-		List<T> result = new ArrayList<>();
 		List<byte[]> keys = new ArrayList<>(ids);
 
 		if (keys.isEmpty() || keys.size() < offset) {
@@ -366,12 +420,315 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 			keys = keys.subList((int) offset, Math.min((int) offset + rows, keys.size()));
 		}
 
-		for (byte[] key : keys) {
-			result.add(get(key, keyspace, type));
+		return getAllOf(keyspace, keys, type, true);
+	}
+
+	/**
+	 * Get a page of elements for given keyspace ordered by {@link Sort}. Reads only the requested page from the
+	 * {@link SortIndexed sort index} of the sort property.
+	 *
+	 * @param keyspace the keyspace to fetch entities from.
+	 * @param type the desired target type.
+	 * @param sort the requested order.
+	 * @param offset index value to start reading.
+	 * @param rows maximum number or entities to return.
+	 * @return the ordered entities or {@literal null} if {@code sort} does not consist of a single order by a sort-indexed
+	 *         property or the index does not cover all entities of the keyspace.
+	 * @since 3.1
+	 */
+	@Nullable
+	<T> List<T> getAllOf(String keyspace, Class<T> type, Sort sort, long offset, int rows) {
+
+		List<Order> orders = sort.toList();
+
+		if (orders.size() != 1 || !hasSortIndex(keyspace, type, orders.get(0).getProperty())) {
+			return null;
+		}
+
+		Order order = orders.get(0);
+		List<byte[]> ids = getIdsFromSortIndex(keyspace, order.getProperty(), order.isAscending(), offset, rows);
+
+		if (ids == null) {
+			return null;
+		}
+
+		List<T> result = new ArrayList<>(ids.size());
+		for (T converted : getAllOf(keyspace, ids, type, true)) {
+			if (converted != null) {
+				result.add(converted);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Read a range of ids from the sort index {@code indexName}. Returns {@literal null} if the index does not hold all
+	 * ids of the keyspace, e.g. because entities were written before the index was declared. The coverage check is
+	 * best-effort: it is not atomic with reading the range, so entities written or removed concurrently may be missing
+	 * from or still contained in the page, the same as with the unsorted reads of the keyspace set.
+	 */
+	@Nullable
+	private List<byte[]> getIdsFromSortIndex(String keyspace, String indexName, boolean ascending, long offset,
+			int rows) {
+
+		byte[] binKeyspace = toBytes(keyspace);
+		byte[] sortKey = toBytes(keyspace + ":" + indexName);
+		long start = Math.max(0, offset);
+		long end = rows > 0 ? start + rows - 1 : -1;
+
+		return redisOps.execute((RedisCallback<List<byte[]>>) connection -> {
+
+			Long indexed = connection.zCard(sortKey);
+			if (indexed == null || !indexed.equals(connection.sCard(binKeyspace))) {
+				return null;
+			}
+
+			Set<byte[]> ids = ascending ? connection.zRange(sortKey, start, end) : connection.zRevRange(sortKey, start, end);
+			return ids != null ? new ArrayList<>(ids) : Collections.emptyList();
+		});
+	}
+
+	private boolean hasSortIndex(String keyspace, Class<?> type, String path) {
+
+		RedisPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(type);
+		RedisPersistentProperty property = entity != null ? entity.getPersistentProperty(path) : null;
+
+		if (property != null && property.isAnnotationPresent(SortIndexed.class)) {
+			return true;
+		}
+
+		for (IndexDefinition definition : converter.getMappingContext().getMappingConfiguration().getIndexConfiguration()
+				.getIndexDefinitionsFor(keyspace, path)) {
+
+			if (definition instanceof SortIndexDefinition && definition.getIndexName().equals(path)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Nullable
+	private RedisPersistentProperty getSortIndexedIdProperty(String keyspace, Class<?> type) {
+
+		RedisPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(type);
+
+		if (entity == null || !entity.hasIdProperty() || !keyspace.equals(entity.getKeySpace())) {
+			return null;
+		}
+
+		RedisPersistentProperty idProperty = entity.getRequiredIdProperty();
+		return idProperty.isAnnotationPresent(SortIndexed.class) ? idProperty : null;
+	}
+
+	/**
+	 * Get the elements stored under the given {@code ids}. Hashes are fetched using pipelined {@code HGETALL} commands
+	 * in batches of {@link #setFetchBatchSize(int) fetch batch size}. Each batch is converted on the
+	 * {@link #setConversionExecutor(Executor) conversion executor}, if configured, while the next batch is fetched.
+	 *
+	 * @param keyspace the keyspace to fetch entities from.
+	 * @param ids the binary entity ids.
+	 * @param type the desired target type.
+	 * @param readTimeToLive whether to read back the time to live into an explicit {@link TimeToLive} property.
+	 * @return the entities in the order of {@code ids}. Contains {@literal null} for ids without a stored hash.
+	 * @since 3.1
+	 */
+	<T> List<T> getAllOf(String keyspace, List<byte[]> ids, Class<T> type, boolean readTimeToLive) {
+
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		String stringKeyspace = asString(keyspace);
+		byte[] prefix = toBytes(stringKeyspace + ":");
+		RedisPersistentProperty ttlProperty = readTimeToLive ? getExplicitTimeToLiveProperty(type) : null;
+		TimeToLive ttl = ttlProperty != null ? ttlProperty.findAnnotation(TimeToLive.class) : null;
+
+		// the actual type is known only after reading the hash, fetch the time to live if the keyspace may require it
+		boolean fetchMillisToLive = readTimeToLive && Object.class.equals(type)
+				&& hasExplicitTimeToLiveProperty(stringKeyspace);
+
+		List<CompletableFuture<List<T>>> batches = new ArrayList<>();
+
+		redisOps.execute((RedisCallback<Void>) connection -> {
+
+			for (int from = 0; from < ids.size(); from += fetchBatchSize) {
+
+				List<byte[]> batch = ids.subList(from, Math.min(from + fetchBatchSize, ids.size()));
+				List<Object> raw = fetchAll(connection, prefix, batch, ttl, fetchMillisToLive);
+
+				batches.add(convertAsync(() -> {
+
+					List<T> converted = new ArrayList<>(batch.size());
+					int stride = ttl != null || fetchMillisToLive ? 2 : 1;
+
+					for (int i = 0; i < batch.size(); i++) {
+						converted.add(read(stringKeyspace, batch.get(i), raw, i * stride, type, ttlProperty, readTimeToLive,
+								fetchMillisToLive));
+					}
+
+					return converted;
+				}));
+			}
+
+			return null;
+		});
+
+		List<T> result = new ArrayList<>(ids.size());
+		for (CompletableFuture<List<T>> batch : batches) {
+
+			try {
+				result.addAll(batch.join());
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
 		}
+
 		return result;
 	}
 
+	/**
+	 * Fetch the hashes stored under {@code ids} followed by their time to live if {@code ttl} is present respective their
+	 * time to live in milliseconds if {@code fetchMillisToLive} is set.
+	 */
+	private List<Object> fetchAll(RedisConnection connection, byte[] prefix, List<byte[]> ids, @Nullable TimeToLive ttl,
+			boolean fetchMillisToLive) {
+
+		boolean pipeline = !(connection instanceof RedisClusterConnection) && !connection.isPipelined()
+				&& !connection.isQueueing();
+
+		if (pipeline) {
+			connection.openPipeline();
+		}
+
+		List<Object> results = new ArrayList<>(ttl != null || fetchMillisToLive ? ids.size() * 2 : ids.size());
+
+		try {
+			for (byte[] id : ids) {
+
+				byte[] key = ByteUtils.concat(prefix, id);
+
+				results.add(connection.hGetAll(key));
+
+				if (ttl != null) {
+					results.add(ObjectUtils.nullSafeEquals(TimeUnit.SECONDS, ttl.unit()) ? connection.ttl(key)
+							: connection.pTtl(key, ttl.unit()));
+				} else if (fetchMillisToLive) {
+					results.add(connection.pTtl(key));
+				}
+			}
+		} finally {
+			if (pipeline) {
+				results = connection.closePipeline();
+			}
+		}
+
+		return results;
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> T read(String keyspace, byte[] id, List<Object> raw, int index, Class<T> type,
+			@Nullable RedisPersistentProperty ttlProperty, boolean readTimeToLive, boolean millisToLiveFetched) {
+
+		Map<byte[], byte[]> hash = index < raw.size() ? (Map<byte[], byte[]>) raw.get(index) : null;
+
+		if (CollectionUtils.isEmpty(hash)) {
+			return null;
+		}
+
+		String stringId = asString(id);
+
+		RedisData data = new RedisData(hash);
+		data.setId(stringId);
+		data.setKeyspace(keyspace);
+
+		T target = converter.read(type, data);
+
+		if (ttlProperty != null) {
+			return applyTimeToLive(target, ttlProperty, (Long) raw.get(index + 1));
+		}
+
+		if (millisToLiveFetched) {
+			return applyMillisToLive(target, (Long) raw.get(index + 1));
+		}
+
+		return readTimeToLive ? readBackTimeToLiveIfSet(createKey(keyspace, stringId), target) : target;
+	}
+
+	/**
+	 * Apply the time to live obtained through {@code PTTL} to the explicit {@link TimeToLive} property of the given
+	 * target, if declared, converting it to the unit of the property.
+	 */
+	@Nullable
+	private <T> T applyMillisToLive(@Nullable T target, @Nullable Long millisToLive) {
+
+		if (target == null) {
+			return null;
+		}
+
+		RedisPersistentProperty ttlProperty = getExplicitTimeToLiveProperty(target.getClass());
+
+		if (ttlProperty == null) {
+			return target;
+		}
+
+		TimeToLive ttl = ttlProperty.getRequiredAnnotation(TimeToLive.class);
+		Long timeout = millisToLive;
+
+		if (millisToLive != null && millisToLive > 0) {
+			// TTL rounds to the nearest second
+			timeout = ObjectUtils.nullSafeEquals(TimeUnit.SECONDS, ttl.unit()) ? (millisToLive + 500) / 1000
+					: Converters.millisecondsToTimeUnit(millisToLive, ttl.unit());
+		}
+
+		return applyTimeToLive(target, ttlProperty, timeout);
+	}
+
+	private <T> CompletableFuture<List<T>> convertAsync(Supplier<List<T>> conversion) {
+
+		if (conversionExecutor == null) {
+
+			try {
+				return CompletableFuture.completedFuture(conversion.get());
+			} catch (RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+
+		return CompletableFuture.supplyAsync(conversion, conversionExecutor);
+	}
+
+	/**
+	 * @return {@literal true} if any persistent entity known to the mapping context stored in {@code keyspace} declares
+	 *         an explicit {@link TimeToLive} property.
+	 */
+	private boolean hasExplicitTimeToLiveProperty(String keyspace) {
+
+		for (RedisPersistentEntity<?> entity : converter.getMappingContext().getPersistentEntities()) {
+			if (entity.hasExplictTimeToLiveProperty() && keyspace.equals(entity.getKeySpace())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return the explicit {@link TimeToLive} property of {@code type} or {@literal null} if the type does not declare
+	 *         one or is not a persistent entity.
+	 */
+	@Nullable
+	private RedisPersistentProperty getExplicitTimeToLiveProperty(Class<?> type) {
+
+		if (Object.class.equals(type) || !converter.getMappingContext().hasPersistentEntityFor(type)) {
+			return null;
+		}
+
+		RedisPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(type);
+		return entity.hasExplictTimeToLiveProperty() ? entity.getExplicitTimeToLiveProperty() : null;
+	}
+
 	@Override
 	public void deleteAllOf(String keyspace) {
 
@@ -385,7 +742,12 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 
 	@Override
 	public CloseableIterator<Entry<Object, Object>> entries(String keyspace) {
-		throw new UnsupportedOperationException("Not yet implemented");
+
+		byte[] binKeyspace = toBytes(keyspace);
+		Cursor<byte[]> ids = redisOps.executeWithStickyConnection((RedisCallback<Cursor<byte[]>>) connection -> connection
+				.sScan(binKeyspace, ScanOptions.scanOptions().count(fetchBatchSize).build()));
+
+		return new KeyspaceEntriesIterator(keyspace, ids);
 	}
 
 	@Override
@@ -422,7 +784,8 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 						|| (pUpdate.getValue() != null && pUpdate.getValue().getClass().isArray()) || (pUpdate.getValue() != null
 								&& !converter.getConversionService().canConvert(pUpdate.getValue().getClass(), byte[].class))) {
 
-					redisUpdateObject = fetchDeletePathsFromHashAndUpdateIndex(redisUpdateObject, propertyPath, connection);
+					redisUpdateObject = fetchDeletePathsFromHashAndUpdateIndex(redisUpdateObject, update.getTarget(),
+							propertyPath, connection);
 				}
 			}
 
@@ -475,10 +838,18 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 		});
 	}
 
-	private RedisUpdateObject fetchDeletePathsFromHashAndUpdateIndex(RedisUpdateObject redisUpdateObject, String path,
-			RedisConnection connection) {
+	private RedisUpdateObject fetchDeletePathsFromHashAndUpdateIndex(RedisUpdateObject redisUpdateObject,
+			Class<?> type, String path, RedisConnection connection) {
 
 		redisUpdateObject.addFieldToRemove(toBytes(path));
+
+		// scalar sort-indexed values return early below
+		if (hasSortIndex(redisUpdateObject.keyspace, type, path)) {
+
+			byte[] sortIndexKey = toBytes(redisUpdateObject.keyspace + ":" + path);
+			redisUpdateObject.addIndexToUpdate(new RedisUpdateObject.Index(sortIndexKey, DataType.ZSET));
+		}
+
 		byte[] value = connection.hGet(redisUpdateObject.targetKey, toBytes(path));
 
 		if (value != null && value.length > 0) {
@@ -522,6 +893,16 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 			redisUpdateObject.addIndexToUpdate(new RedisUpdateObject.Index(existingGeoIndexKey, DataType.ZSET));
 		}
 
+		if (!pathToUse.equals(path)) {
+
+			byte[] existingSortIndexKey = ByteUtils.concatAll(toBytes(redisUpdateObject.keyspace), toBytes(":"),
+					toBytes(path));
+
+			if (connection.zRank(existingSortIndexKey, toBytes(redisUpdateObject.targetId)) != null) {
+				redisUpdateObject.addIndexToUpdate(new RedisUpdateObject.Index(existingSortIndexKey, DataType.ZSET));
+			}
+		}
+
 		return redisUpdateObject;
 	}
 
@@ -609,15 +990,25 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 				return connection.pTtl(key, ttl.unit());
 			});
 
-			if (timeout != null || !ttlProperty.getType().isPrimitive()) {
+			target = applyTimeToLive(target, ttlProperty, timeout);
+		}
+
+		return target;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private <T> T applyTimeToLive(T target, RedisPersistentProperty ttlProperty, @Nullable Long timeout) {
 
-				PersistentPropertyAccessor<T> propertyAccessor = entity.getPropertyAccessor(target);
+		if (timeout != null || !ttlProperty.getType().isPrimitive()) {
 
-				propertyAccessor.setProperty(ttlProperty,
-						converter.getConversionService().convert(timeout, ttlProperty.getType()));
+			RedisPersistentEntity<?> entity = this.converter.getMappingContext()
+					.getRequiredPersistentEntity(target.getClass());
+			PersistentPropertyAccessor<T> propertyAccessor = entity.getPropertyAccessor(target);
 
-				target = propertyAccessor.getBean();
-			}
+			propertyAccessor.setProperty(ttlProperty,
+					converter.getConversionService().convert(timeout, ttlProperty.getType()));
+
+			return propertyAccessor.getBean();
 		}
 
 		return target;
@@ -675,6 +1066,106 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 		this.keyspaceNotificationsConfigParameter = keyspaceNotificationsConfigParameter;
 	}
 
+	/**
+	 * Configure the number of entities to fetch per pipelined batch when reading multiple entities. Defaults to
+	 * {@literal 1000}.
+	 *
+	 * @param fetchBatchSize must be greater than zero.
+	 * @since 3.1
+	 */
+	public void setFetchBatchSize(int fetchBatchSize) {
+
+		Assert.isTrue(fetchBatchSize > 0, "Fetch batch size must be greater than zero");
+
+		this.fetchBatchSize = fetchBatchSize;
+	}
+
+	/**
+	 * Configure an {@link Executor} to handle keyspace expiration events. Events are put into a bounded queue and handled
+	 * in batches on the executor. Reading phantom copies and removing expired ids from keyspaces and indexes is issued
+	 * in pipelines per batch and phantom copies are converted on the {@link #setConversionExecutor(Executor) conversion
+	 * executor}, if configured. If the queue is full, events are handled on the listener thread concurrently with queued
+	 * batches, therefore {@link RedisKeyExpiredEvent}s are not guaranteed to be published in the order keys expired.
+	 * Events whose phantom copy cannot be converted are published without a value. Defaults to {@literal null} to handle
+	 * each event on the listener thread. Must be configured before the expiration listener is started.
+	 *
+	 * @param expirationEventExecutor can be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setExpirationEventExecutor(@Nullable Executor expirationEventExecutor) {
+		this.expirationEventExecutor = expirationEventExecutor;
+	}
+
+	/**
+	 * Configure the maximum number of expiration events handled in a single batch. Defaults to {@literal 100}.
+	 *
+	 * @param expirationEventBatchSize must be greater than zero.
+	 * @since 3.1
+	 * @see #setExpirationEventExecutor(Executor)
+	 */
+	public void setExpirationEventBatchSize(int expirationEventBatchSize) {
+
+		Assert.isTrue(expirationEventBatchSize > 0, "Expiration event batch size must be greater than zero");
+
+		this.expirationEventBatchSize = expirationEventBatchSize;
+	}
+
+	/**
+	 * Configure the capacity of the queue holding expiration events to be handled. Defaults to {@literal 10000}.
+	 *
+	 * @param expirationEventQueueCapacity must be greater than zero.
+	 * @since 3.1
+	 * @see #setExpirationEventExecutor(Executor)
+	 */
+	public void setExpirationEventQueueCapacity(int expirationEventQueueCapacity) {
+
+		Assert.isTrue(expirationEventQueueCapacity > 0, "Expiration event queue capacity must be greater than zero");
+
+		this.expirationEventQueueCapacity = expirationEventQueueCapacity;
+	}
+
+	/**
+	 * Return {@link ExpirationMetrics} about keyspace expiration events handled by this adapter.
+	 *
+	 * @return the {@link ExpirationMetrics}.
+	 * @since 3.1
+	 */
+	public ExpirationMetrics getExpirationMetrics() {
+		return expirationStatistics;
+	}
+
+	/**
+	 * Configure the time to live of materialized query results. Intersections of index keys computed for count and
+	 * paged queries are stored in temporary {@literal keyspace:$query:…} keys and reused by identical queries until they
+	 * expire. Expiration of these keys does not publish {@link RedisKeyExpiredEvent}s. Cached results do not reflect
+	 * writes issued while they are alive. Defaults to {@link Duration#ZERO} to not write query results to Redis.
+	 *
+	 * @param queryResultTimeToLive must not be {@literal null} or negative.
+	 * @since 3.1
+	 */
+	public void setQueryResultTimeToLive(Duration queryResultTimeToLive) {
+
+		Assert.notNull(queryResultTimeToLive, "Query result time to live must not be null");
+		Assert.isTrue(!queryResultTimeToLive.isNegative(), "Query result time to live must not be negative");
+
+		this.queryResultTimeToLive = queryResultTimeToLive;
+	}
+
+	Duration getQueryResultTimeToLive() {
+		return queryResultTimeToLive;
+	}
+
+	/**
+	 * Configure an {@link Executor} to convert fetched batches of entities while the next batch is fetched. Use a
+	 * bounded executor as each batch is submitted as a task. Conversion runs on the calling thread if not set.
+	 *
+	 * @param conversionExecutor can be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setConversionExecutor(@Nullable Executor conversionExecutor) {
+		this.conversionExecutor = conversionExecutor;
+	}
+
 	/**
 	 * Configure storage of phantom keys (shadow copies) of expiring entities.
 	 *
@@ -736,7 +1227,8 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 		if (this.expirationListener.get() == null) {
 
 			MappingExpirationListener listener = new MappingExpirationListener(this.messageListenerContainer, this.redisOps,
-					this.converter);
+					this.converter, this.expirationStatistics, this.expirationEventExecutor, this.conversionExecutor,
+					this.expirationEventBatchSize, this.expirationEventQueueCapacity);
 			listener.setKeyspaceNotificationsConfigParameter(keyspaceNotificationsConfigParameter);
 
 			if (this.eventPublisher != null) {
@@ -749,6 +1241,70 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 		}
 	}
 
+	/**
+	 * {@link CloseableIterator} over the entities of a keyspace. Walks the keyspace set using {@code SSCAN} and fetches
+	 * and converts entities in batches of {@link #setFetchBatchSize(int) fetch batch size} so that only a single batch is
+	 * held in memory. {@code SSCAN} may return an id more than once if the keyspace is modified during iteration.
+	 *
+	 * @author agent
+	 * @since 3.1
+	 */
+	private class KeyspaceEntriesIterator implements CloseableIterator<Entry<Object, Object>> {
+
+		private final String keyspace;
+		private final Cursor<byte[]> ids;
+		private Iterator<Entry<Object, Object>> batch = Collections.emptyIterator();
+
+		KeyspaceEntriesIterator(String keyspace, Cursor<byte[]> ids) {
+			this.keyspace = keyspace;
+			this.ids = ids;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			while (!batch.hasNext() && ids.hasNext()) {
+				batch = fetchNextBatch();
+			}
+
+			return batch.hasNext();
+		}
+
+		@Override
+		public Entry<Object, Object> next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return batch.next();
+		}
+
+		private Iterator<Entry<Object, Object>> fetchNextBatch() {
+
+			List<byte[]> batchIds = new ArrayList<>(fetchBatchSize);
+			while (ids.hasNext() && batchIds.size() < fetchBatchSize) {
+				batchIds.add(ids.next());
+			}
+
+			List<Object> entities = getAllOf(keyspace, batchIds, Object.class, true);
+			List<Entry<Object, Object>> entries = new ArrayList<>(entities.size());
+
+			for (int i = 0; i < entities.size(); i++) {
+				if (entities.get(i) != null) {
+					entries.add(new AbstractMap.SimpleImmutableEntry<>(asString(batchIds.get(i)), entities.get(i)));
+				}
+			}
+
+			return entries.iterator();
+		}
+
+		@Override
+		public void close() {
+			ids.close();
+		}
+	}
+
 	/**
 	 * {@link MessageListener} implementation used to capture Redis keyspace notifications. Tries to read a previously
 	 * created phantom key {@code keyspace:id:phantom} to provide the expired object as part of the published
@@ -759,8 +1315,16 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 	 */
 	static class MappingExpirationListener extends KeyExpirationEventMessageListener {
 
+		private static final Log LOGGER = LogFactory.getLog(MappingExpirationListener.class);
+
 		private final RedisOperations<?, ?> ops;
 		private final RedisConverter converter;
+		private final ExpirationStatistics statistics;
+		private final @Nullable Executor executor;
+		private final @Nullable Executor conversionExecutor;
+		private final int batchSize;
+		private final @Nullable BlockingQueue<PendingExpiration> queue;
+		private final AtomicBoolean draining = new AtomicBoolean();
 
 		/**
 		 * Creates new {@link MappingExpirationListener}.
@@ -771,10 +1335,35 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 		 */
 		MappingExpirationListener(RedisMessageListenerContainer listenerContainer, RedisOperations<?, ?> ops,
 				RedisConverter converter) {
+			this(listenerContainer, ops, converter, new ExpirationStatistics(), null, null, 1, 0);
+		}
+
+		/**
+		 * Creates new {@link MappingExpirationListener}. Expiration events are handled on the listener thread if no
+		 * {@code executor} is given. Otherwise events are queued and handled on the {@code executor} in batches of up to
+		 * {@code batchSize} events.
+		 *
+		 * @param listenerContainer
+		 * @param ops
+		 * @param converter
+		 * @param statistics
+		 * @param executor can be {@literal null}.
+		 * @param conversionExecutor can be {@literal null}.
+		 * @param batchSize
+		 * @param queueCapacity
+		 */
+		MappingExpirationListener(RedisMessageListenerContainer listenerContainer, RedisOperations<?, ?> ops,
+				RedisConverter converter, ExpirationStatistics statistics, @Nullable Executor executor,
+				@Nullable Executor conversionExecutor, int batchSize, int queueCapacity) {
 
 			super(listenerContainer);
 			this.ops = ops;
 			this.converter = converter;
+			this.statistics = statistics;
+			this.executor = executor;
+			this.conversionExecutor = conversionExecutor;
+			this.batchSize = batchSize;
+			this.queue = executor != null ? new ArrayBlockingQueue<>(queueCapacity) : null;
 		}
 
 		@Override
@@ -784,43 +1373,240 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 				return;
 			}
 
-			byte[] key = message.getBody();
+			statistics.received();
+			PendingExpiration expiration = new PendingExpiration(message, System.nanoTime());
 
-			byte[] phantomKey = ByteUtils.concat(key,
-					converter.getConversionService().convert(KeyspaceIdentifier.PHANTOM_SUFFIX, byte[].class));
+			if (queue == null) {
+				handleExpirations(Collections.singletonList(expiration));
+				return;
+			}
 
-			Map<byte[], byte[]> hash = ops.execute((RedisCallback<Map<byte[], byte[]>>) connection -> {
+			if (!queue.offer(expiration)) {
 
-				Map<byte[], byte[]> hash1 = connection.hGetAll(phantomKey);
+				// apply back pressure to the listener container instead of dropping the event. The event is handled
+				// concurrently with queued batches so it may be published ahead of events that expired earlier.
+				statistics.overflow();
+				handleExpirations(Collections.singletonList(expiration));
+				return;
+			}
 
-				if (!CollectionUtils.isEmpty(hash1)) {
+			scheduleDrain();
+		}
+
+		private void scheduleDrain() {
+
+			if (!draining.compareAndSet(false, true)) {
+				return;
+			}
+
+			try {
+				executor.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+
+				draining.set(false);
+				drain();
+			}
+		}
+
+		private void drain() {
+
+			try {
+
+				List<PendingExpiration> batch = new ArrayList<>(batchSize);
+				while (queue.drainTo(batch, batchSize) > 0) {
+
+					try {
+						handleExpirations(batch);
+					} catch (RuntimeException e) {
+						LOGGER.error("Failed to handle keyspace expiration events", e);
+					}
+
+					batch.clear();
+				}
+			} finally {
+				draining.set(false);
+			}
+
+			if (!queue.isEmpty()) {
+				scheduleDrain();
+			}
+		}
+
+		/**
+		 * Handle a batch of expiration events: read and remove phantom copies in a single pipeline, convert the phantom
+		 * copies, remove the expired ids from their keyspaces and indexes and publish {@link RedisKeyExpiredEvent}s. A
+		 * phantom copy that cannot be converted does not affect other events of the batch; its event is published without
+		 * a value.
+		 */
+		private void handleExpirations(List<PendingExpiration> expirations) {
+
+			try {
+
+				List<byte[]> phantomKeys = new ArrayList<>(expirations.size());
+				for (PendingExpiration expiration : expirations) {
+					phantomKeys.add(ByteUtils.concat(expiration.message.getBody(),
+							converter.getConversionService().convert(KeyspaceIdentifier.PHANTOM_SUFFIX, byte[].class)));
+				}
+
+				List<Map<byte[], byte[]>> hashes = ops
+						.execute((RedisCallback<List<Map<byte[], byte[]>>>) connection -> readAndDelete(connection, phantomKeys));
+
+				List<RedisKeyExpiredEvent> events = toEvents(expirations, hashes);
+
+				ops.execute((RedisCallback<Void>) connection -> {
+
+					Map<String, List<byte[]>> idsByKeyspace = new LinkedHashMap<>();
+					for (PendingExpiration expiration : expirations) {
+
+						BinaryKeyspaceIdentifier identifier = BinaryKeyspaceIdentifier.of(expiration.message.getBody());
+						idsByKeyspace.computeIfAbsent(
+								converter.getConversionService().convert(identifier.getKeyspace(), String.class),
+								it -> new ArrayList<>()).add(identifier.getId());
+					}
+
+					IndexWriter indexWriter = new IndexWriter(connection, converter);
+
+					for (Entry<String, List<byte[]>> entry : idsByKeyspace.entrySet()) {
+
+						connection.sRem(converter.getConversionService().convert(entry.getKey(), byte[].class),
+								entry.getValue().toArray(new byte[0][]));
+						indexWriter.removeKeysFromIndexes(entry.getKey(), entry.getValue());
+					}
+
+					return null;
+				});
+
+				for (RedisKeyExpiredEvent event : events) {
+					publishEvent(event);
+				}
+			} finally {
+				statistics.processed(expirations.size(), System.nanoTime() - expirations.get(0).receivedAt);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private static List<Map<byte[], byte[]>> readAndDelete(RedisConnection connection, List<byte[]> phantomKeys) {
+
+			List<Map<byte[], byte[]>> hashes = new ArrayList<>(phantomKeys.size());
+
+			if (connection instanceof RedisClusterConnection || connection.isPipelined() || connection.isQueueing()) {
+
+				for (byte[] phantomKey : phantomKeys) {
+
+					Map<byte[], byte[]> hash = connection.hGetAll(phantomKey);
+
+					if (!CollectionUtils.isEmpty(hash)) {
+						connection.del(phantomKey);
+					}
+
+					hashes.add(hash);
+				}
+
+				return hashes;
+			}
+
+			connection.openPipeline();
+			try {
+				for (byte[] phantomKey : phantomKeys) {
+					connection.hGetAll(phantomKey);
 					connection.del(phantomKey);
 				}
+			} catch (RuntimeException e) {
+				connection.closePipeline();
+				throw e;
+			}
 
-				return hash1;
-			});
+			List<Object> results = connection.closePipeline();
+			for (int i = 0; i < phantomKeys.size(); i++) {
+
+				Object hash = results != null && i * 2 < results.size() ? results.get(i * 2) : null;
+				hashes.add(hash instanceof Map ? (Map<byte[], byte[]>) hash : null);
+			}
+
+			return hashes;
+		}
+
+		/**
+		 * Convert phantom copies into {@link RedisKeyExpiredEvent}s. Conversion runs in parallel on the conversion
+		 * executor, if configured.
+		 */
+		private List<RedisKeyExpiredEvent> toEvents(List<PendingExpiration> expirations,
+				List<Map<byte[], byte[]>> hashes) {
+
+			List<CompletableFuture<RedisKeyExpiredEvent>> futures = new ArrayList<>(expirations.size());
+
+			for (int i = 0; i < expirations.size(); i++) {
+
+				Message message = expirations.get(i).message;
+				Map<byte[], byte[]> hash = hashes.get(i);
+				Supplier<RedisKeyExpiredEvent> conversion = () -> toEvent(message, hash);
+
+				futures.add(supply(conversion, expirations.size() > 1));
+			}
+
+			List<RedisKeyExpiredEvent> events = new ArrayList<>(futures.size());
+			for (CompletableFuture<RedisKeyExpiredEvent> future : futures) {
+				events.add(future.join());
+			}
+
+			return events;
+		}
+
+		private CompletableFuture<RedisKeyExpiredEvent> supply(Supplier<RedisKeyExpiredEvent> conversion,
+				boolean async) {
 
-			Object value = CollectionUtils.isEmpty(hash) ? null : converter.read(Object.class, new RedisData(hash));
+			if (conversionExecutor != null && async) {
+
+				try {
+					return CompletableFuture.supplyAsync(conversion, conversionExecutor);
+				} catch (RejectedExecutionException e) {
+					// fall back to converting on the current thread
+				}
+			}
+
+			return CompletableFuture.completedFuture(conversion.get());
+		}
+
+		private RedisKeyExpiredEvent toEvent(Message message, @Nullable Map<byte[], byte[]> hash) {
+
+			Object value = null;
+
+			if (!CollectionUtils.isEmpty(hash)) {
+
+				try {
+					value = converter.read(Object.class, new RedisData(hash));
+				} catch (RuntimeException e) {
+					LOGGER.error(String.format("Failed to read phantom copy of expired key '%s'", new String(message.getBody())),
+							e);
+				}
+			}
 
 			byte[] channelAsBytes = message.getChannel();
 			String channel = !ObjectUtils.isEmpty(channelAsBytes)
 					? converter.getConversionService().convert(channelAsBytes, String.class)
 					: null;
 
-			RedisKeyExpiredEvent event = new RedisKeyExpiredEvent(channel, key, value);
-
-			ops.execute((RedisCallback<Void>) connection -> {
+			return new RedisKeyExpiredEvent(channel, message.getBody(), value);
+		}
 
-				connection.sRem(converter.getConversionService().convert(event.getKeyspace(), byte[].class), event.getId());
-				new IndexWriter(connection, converter).removeKeyFromIndexes(event.getKeyspace(), event.getId());
-				return null;
-			});
+		private boolean isKeyExpirationMessage(Message message) {
 
-			publishEvent(event);
+			byte[] key = message.getBody();
+			return BinaryKeyspaceIdentifier.isValid(key) && !RedisQueryEngine.isQueryResultKey(key);
 		}
 
-		private boolean isKeyExpirationMessage(Message message) {
-			return BinaryKeyspaceIdentifier.isValid(message.getBody());
+		/**
+		 * Expiration event along with the time it was received.
+		 */
+		private static class PendingExpiration {
+
+			private final Message message;
+			private final long receivedAt;
+
+			PendingExpiration(Message message, long receivedAt) {
+				this.message = message;
+				this.receivedAt = receivedAt;
+			}
 		}
 	}
 
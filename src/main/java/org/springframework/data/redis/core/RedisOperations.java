@@ -118,6 +118,18 @@ public interface RedisOperations<K, V> {
 	 */
 	List<Object> executePipelined(SessionCallback<?> session, RedisSerializer<?> resultSerializer);
 
+	/**
+	 * Executes the given {@link TypedPipelineCallback} on a pipelined connection. In contrast to
+	 * {@link #executePipelined(RedisCallback)}, each command is queued along with the conversion to apply to its result so
+	 * that results are converted exactly once and only when accessed. Results are matched by command position so that
+	 * queued commands completing with a status reply (e.g. {@code OK}) yield {@literal null}.
+	 *
+	 * @param callback callback object to queue commands. Must not be {@literal null}.
+	 * @return list of lazily converted results in the order of {@link TypedPipeline#queue(RedisCallback) queued} commands.
+	 * @since 3.1
+	 */
+	List<Object> executeTypedPipeline(TypedPipelineCallback callback);
+
 	/**
 	 * Executes the given {@link RedisScript}
 	 *
@@ -599,6 +611,20 @@ public interface RedisOperations<K, V> {
 	@Nullable
 	Long convertAndSend(String destination, Object message);
 
+	/**
+	 * Publishes the given message to the given shard channel using sharded Pub/Sub. In Redis Cluster, the message is sent
+	 * to the node owning the slot of {@code shardChannel} and propagated only within its shard. Requires Redis 7.0 or
+	 * newer. Listener containers cannot subscribe to shard channels.
+	 *
+	 * @param shardChannel the shard channel to publish to, must not be {@literal null}.
+	 * @param message message to publish.
+	 * @return the number of clients that received the message. {@literal null} when used in pipeline / transaction.
+	 * @see <a href="https://redis.io/commands/spublish">Redis Documentation: SPUBLISH</a>
+	 * @since 3.1
+	 */
+	@Nullable
+	Long convertAndSendSharded(String shardChannel, Object message);
+
 	// -------------------------------------------------------------------------
 	// Methods to obtain specific operations interface objects.
 	// -------------------------------------------------------------------------
@@ -15,14 +15,22 @@
  */
 package org.springframework.data.redis.core;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Range.Bound;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
@@ -31,13 +39,22 @@ import org.springframework.data.keyvalue.core.QueryEngine;
 import org.springframework.data.keyvalue.core.SortAccessor;
 import org.springframework.data.keyvalue.core.SpelSortAccessor;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.redis.connection.DefaultSortParameters;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.connection.SortParameters;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
 import org.springframework.data.redis.core.convert.GeoIndexedPropertyValue;
-import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.convert.MappingRedisConverter.BinaryKeyspaceIdentifier;
+import org.springframework.data.redis.core.index.SortIndexDefinition;
+import org.springframework.data.redis.core.script.DigestUtils;
 import org.springframework.data.redis.repository.query.RedisOperationChain;
 import org.springframework.data.redis.repository.query.RedisOperationChain.NearPath;
 import org.springframework.data.redis.repository.query.RedisOperationChain.PathAndValue;
+import org.springframework.data.redis.repository.query.RedisOperationChain.RangePath;
 import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.data.util.Version;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.CollectionUtils;
@@ -51,11 +68,18 @@ import org.springframework.util.CollectionUtils;
  */
 class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationChain, Comparator<?>> {
 
+	private static final String QUERY_RESULT_INFIX = ":$query:";
+	private static final byte[] QUERY_RESULT_ID_PREFIX = "$query:".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] NO_SORT = "nosort".getBytes(StandardCharsets.UTF_8);
+	private static final Version SINTERCARD_SINCE = Version.parse("7.0");
+
+	private volatile @Nullable Boolean sInterCardSupported;
+
 	/**
 	 * Creates new {@link RedisQueryEngine} with defaults.
 	 */
 	RedisQueryEngine() {
-		this(new RedisCriteriaAccessor(), new SpelSortAccessor(new SpelExpressionParser()));
+		this(new RedisCriteriaAccessor(), new RedisSortAccessor(new SpelSortAccessor(new SpelExpressionParser())));
 	}
 
 	/**
@@ -74,6 +98,16 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 	@SuppressWarnings("unchecked")
 	public <T> Collection<T> execute(RedisOperationChain criteria, Comparator<?> sort, long offset, int rows,
 			String keyspace, Class<T> type) {
+
+		if (sort instanceof SortComparator && isEmpty(criteria)) {
+
+			List<T> result = getAdapter().getAllOf(keyspace, type, ((SortComparator<?>) sort).getSort(), offset, rows);
+
+			if (result != null) {
+				return result;
+			}
+		}
+
 		List<T> result = doFind(criteria, offset, rows, keyspace, type);
 
 		if (sort != null) {
@@ -85,16 +119,21 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 
 	private <T> List<T> doFind(RedisOperationChain criteria, long offset, int rows, String keyspace, Class<T> type) {
 
-		if (criteria == null
-				|| (CollectionUtils.isEmpty(criteria.getOrSismember()) && CollectionUtils.isEmpty(criteria.getSismember()))
-						&& criteria.getNear() == null) {
+		if (isEmpty(criteria)) {
 			return getAdapter().getAllOf(keyspace, type, offset, rows);
 		}
 
-		RedisCallback<Map<byte[], Map<byte[], byte[]>>> callback = connection -> {
+		RedisCallback<List<byte[]>> callback = connection -> {
+
+			if (canReadPageFromResultKey(connection, criteria, offset, rows)) {
+				return readPageFromResultKey(connection, keyspace, keys(keyspace + ":", criteria.getSismember()), offset,
+						rows);
+			}
 
 			List<byte[]> allKeys = new ArrayList<>();
-			if (!criteria.getSismember().isEmpty()) {
+			if (!criteria.getRange().isEmpty()) {
+				allKeys.addAll(findInRange(connection, keyspace, criteria));
+			} else if (!criteria.getSismember().isEmpty()) {
 				allKeys.addAll(connection.sInter(keys(keyspace + ":", criteria.getSismember())));
 			}
 
@@ -111,43 +150,26 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 				}
 			}
 
-			byte[] keyspaceBin = getAdapter().getConverter().getConversionService().convert(keyspace + ":", byte[].class);
-
-			Map<byte[], Map<byte[], byte[]>> rawData = new LinkedHashMap<>();
-
 			if (allKeys.isEmpty() || allKeys.size() < offset) {
-				return Collections.emptyMap();
+				return Collections.emptyList();
 			}
 
 			int offsetToUse = Math.max(0, (int) offset);
 			if (rows > 0) {
 				allKeys = allKeys.subList(Math.max(0, offsetToUse), Math.min(offsetToUse + rows, allKeys.size()));
 			}
-			for (byte[] id : allKeys) {
 
-				byte[] singleKey = ByteUtils.concat(keyspaceBin, id);
-				rawData.put(id, connection.hGetAll(singleKey));
-			}
-
-			return rawData;
+			return allKeys;
 		};
 
-		Map<byte[], Map<byte[], byte[]>> raw = this.getAdapter().execute(callback);
-
-		List<T> result = new ArrayList<>(raw.size());
-		for (Map.Entry<byte[], Map<byte[], byte[]>> entry : raw.entrySet()) {
+		List<byte[]> ids = this.getAdapter().execute(callback);
 
-			if (CollectionUtils.isEmpty(entry.getValue())) {
-				continue;
+		// entities are fetched in pipelined batches, ids without a stored hash are skipped
+		List<T> result = new ArrayList<>(ids.size());
+		for (T converted : this.getAdapter().getAllOf(keyspace, ids, type, false)) {
+			if (converted != null) {
+				result.add(converted);
 			}
-
-			RedisData data = new RedisData(entry.getValue());
-			data.setId(getAdapter().getConverter().getConversionService().convert(entry.getKey(), String.class));
-			data.setKeyspace(keyspace);
-
-			T converted = this.getAdapter().getConverter().read(type, data);
-
-			result.add(converted);
 		}
 		return result;
 	}
@@ -169,18 +191,245 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 
 			long result = 0;
 
+			if (!criteria.getRange().isEmpty()) {
+				return (long) findInRange(connection, keyspace, criteria).size();
+			}
+
 			if (!criteria.getOrSismember().isEmpty()) {
 				result += connection.sUnion(keys(keyspace + ":", criteria.getOrSismember())).size();
 			}
 
 			if (!criteria.getSismember().isEmpty()) {
-				result += connection.sInter(keys(keyspace + ":", criteria.getSismember())).size();
+				result += intersectionSize(connection, keyspace, keys(keyspace + ":", criteria.getSismember()));
 			}
 
 			return result;
 		});
 	}
 
+	/**
+	 * Page reads can be served from a materialized intersection if only {@literal AND} criteria on simple indexes are
+	 * present and {@link RedisKeyValueAdapter#setQueryResultTimeToLive(Duration) result caching} is enabled.
+	 */
+	private boolean canReadPageFromResultKey(RedisConnection connection, RedisOperationChain criteria, long offset,
+			int rows) {
+
+		return (offset > 0 || rows > 0) && !getAdapter().getQueryResultTimeToLive().isZero()
+				&& !(connection instanceof RedisClusterConnection) && criteria.getSismember().size() > 1
+				&& criteria.getOrSismember().isEmpty() && criteria.getRange().isEmpty() && criteria.getNear() == null;
+	}
+
+	/**
+	 * Read a page of ids from the materialized intersection of {@code keys}. Uses {@code SORT … BY nosort LIMIT} so that
+	 * only the requested page is transferred.
+	 */
+	private List<byte[]> readPageFromResultKey(RedisConnection connection, String keyspace, byte[][] keys, long offset,
+			int rows) {
+
+		byte[] resultKey = getResultKey(keyspace, keys);
+
+		Long size = connection.sCard(resultKey);
+		if (size == null || size == 0) {
+			size = storeIntersection(connection, resultKey, keys, getAdapter().getQueryResultTimeToLive());
+		}
+
+		long offsetToUse = Math.max(0, offset);
+		if (size == 0 || size <= offsetToUse) {
+			return Collections.emptyList();
+		}
+
+		SortParameters parameters = new DefaultSortParameters().by(NO_SORT).limit(offsetToUse,
+				rows > 0 ? rows : size - offsetToUse);
+		return connection.sort(resultKey, parameters);
+	}
+
+	/**
+	 * Compute the size of the intersection of {@code keys}. If {@link RedisKeyValueAdapter#setQueryResultTimeToLive(Duration)
+	 * result caching} is enabled, the intersection is computed on the server without transferring the members and
+	 * stored in a temporary result key so that subsequent count and page reads of the same criteria can reuse it.
+	 * Otherwise the intersection is counted using {@literal SINTERCARD} on Redis 7.0 and newer and read using
+	 * {@literal SINTER} on older servers and Redis Cluster, without writing to the server.
+	 */
+	private long intersectionSize(RedisConnection connection, String keyspace, byte[][] keys) {
+
+		if (keys.length == 1) {
+
+			Long size = connection.sCard(keys[0]);
+			return size != null ? size : 0;
+		}
+
+		Duration timeToLive = getAdapter().getQueryResultTimeToLive();
+
+		if (timeToLive.isZero() || connection instanceof RedisClusterConnection) {
+
+			if (!(connection instanceof RedisClusterConnection) && isSInterCardSupported(connection)) {
+
+				byte[][] args = new byte[keys.length + 1][];
+				args[0] = String.valueOf(keys.length).getBytes(StandardCharsets.UTF_8);
+				System.arraycopy(keys, 0, args, 1, keys.length);
+
+				Object size = connection.execute("SINTERCARD", args);
+				return size instanceof Number ? ((Number) size).longValue() : 0;
+			}
+
+			Set<byte[]> ids = connection.sInter(keys);
+			return ids != null ? ids.size() : 0;
+		}
+
+		byte[] resultKey = getResultKey(keyspace, keys);
+
+		Long size = connection.sCard(resultKey);
+		if (size != null && size > 0) {
+			return size;
+		}
+
+		return storeIntersection(connection, resultKey, keys, timeToLive);
+	}
+
+	/**
+	 * Determine once whether the server supports {@literal SINTERCARD}. Servers not reporting their version are assumed
+	 * to not support it.
+	 */
+	private boolean isSInterCardSupported(RedisConnection connection) {
+
+		Boolean supported = sInterCardSupported;
+
+		if (supported == null) {
+
+			Properties info = connection.serverCommands().info("server");
+			String version = info != null ? info.getProperty("redis_version") : null;
+
+			supported = version != null && Version.parse(version).isGreaterThanOrEqualTo(SINTERCARD_SINCE);
+			sInterCardSupported = supported;
+		}
+
+		return supported;
+	}
+
+	private static long storeIntersection(RedisConnection connection, byte[] resultKey, byte[][] keys,
+			Duration timeToLive) {
+
+		Long size = connection.sInterStore(resultKey, keys);
+
+		if (size != null && size > 0) {
+			connection.pExpire(resultKey, timeToLive.toMillis());
+		}
+
+		return size != null ? size : 0;
+	}
+
+	/**
+	 * Check whether {@code key} is a temporary query result key of the form {@literal keyspace:$query:…}. Such keys pass
+	 * {@link BinaryKeyspaceIdentifier#isValid(byte[])} but do not refer to an entity.
+	 *
+	 * @param key the binary key.
+	 * @return {@literal true} if {@code key} is a query result key.
+	 */
+	static boolean isQueryResultKey(byte[] key) {
+
+		int keyspaceEndIndex = ByteUtils.indexOf(key, BinaryKeyspaceIdentifier.DELIMITER);
+		return keyspaceEndIndex > 0 && ByteUtils.startsWith(key, QUERY_RESULT_ID_PREFIX, keyspaceEndIndex + 1);
+	}
+
+	/**
+	 * Derive the result key from the keyspace and the intersected index keys. The key does not depend on the order of
+	 * {@code keys} and lives within the keyspace so that it is removed along with all keyspace data.
+	 */
+	private static byte[] getResultKey(String keyspace, byte[][] keys) {
+
+		List<String> encoded = new ArrayList<>(keys.length);
+		for (byte[] key : keys) {
+			encoded.add(Base64.getEncoder().encodeToString(key));
+		}
+		Collections.sort(encoded);
+
+		return (keyspace + QUERY_RESULT_INFIX + DigestUtils.sha1DigestAsHex(String.join(",", encoded)))
+				.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Evaluate the range criteria using {@code ZRANGEBYSCORE} against the sort indexes and intersect the result with the
+	 * ids matching the {@link RedisOperationChain#getSismember() sismember} criteria. Sort indexes that do not hold all
+	 * ids of the keyspace, e.g. because entities were written before the index was declared, are rejected as the range
+	 * would silently miss entities. As with sorted reads, the coverage check is best-effort and not atomic with reading
+	 * the range.
+	 */
+	private Collection<byte[]> findInRange(RedisConnection connection, String keyspace, RedisOperationChain criteria) {
+
+		Set<ByteArrayWrapper> result = null;
+		Long size = null;
+
+		for (RangePath rangePath : criteria.getRange()) {
+
+			byte[] sortKey = sortKey(keyspace + ":", rangePath);
+
+			if (size == null) {
+				size = connection.sCard(getAdapter().getConverter().getConversionService().convert(keyspace, byte[].class));
+			}
+
+			Long indexed = connection.zCard(sortKey);
+			if (indexed == null || !indexed.equals(size)) {
+				throw new InvalidDataAccessApiUsageException(String.format(
+						"Sort index '%s' does not cover all entities of keyspace '%s'; Range queries require a sort-indexed value for every entity",
+						rangePath.getPath(), keyspace));
+			}
+
+			Set<byte[]> ids = connection.zRangeByScore(sortKey, toScoreRange(rangePath.getRange()));
+			result = retain(result, ids);
+
+			if (result.isEmpty()) {
+				return Collections.emptyList();
+			}
+		}
+
+		if (!criteria.getSismember().isEmpty()) {
+			result = retain(result, connection.sInter(keys(keyspace + ":", criteria.getSismember())));
+		}
+
+		List<byte[]> ids = new ArrayList<>(result.size());
+		for (ByteArrayWrapper id : result) {
+			ids.add(id.getArray());
+		}
+		return ids;
+	}
+
+	private static Set<ByteArrayWrapper> retain(@Nullable Set<ByteArrayWrapper> current, @Nullable Set<byte[]> ids) {
+
+		Set<ByteArrayWrapper> next = new LinkedHashSet<>(ids != null ? ids.size() : 0);
+
+		if (ids != null) {
+			for (byte[] id : ids) {
+
+				ByteArrayWrapper wrapper = new ByteArrayWrapper(id);
+				if (current == null || current.contains(wrapper)) {
+					next.add(wrapper);
+				}
+			}
+		}
+
+		return next;
+	}
+
+	private static Range<Double> toScoreRange(Range<Object> range) {
+		return Range.of(toScoreBound(range.getLowerBound()), toScoreBound(range.getUpperBound()));
+	}
+
+	private static Bound<Double> toScoreBound(Bound<Object> bound) {
+
+		if (!bound.isBounded()) {
+			return Bound.unbounded();
+		}
+
+		double score = SortIndexDefinition.toScore(bound.getValue().get());
+		return bound.isInclusive() ? Bound.inclusive(score) : Bound.exclusive(score);
+	}
+
+	private static boolean isEmpty(@Nullable RedisOperationChain criteria) {
+		return criteria == null
+				|| (CollectionUtils.isEmpty(criteria.getOrSismember()) && CollectionUtils.isEmpty(criteria.getSismember()))
+						&& criteria.getNear() == null && CollectionUtils.isEmpty(criteria.getRange());
+	}
+
 	private byte[][] keys(String prefix, Collection<PathAndValue> source) {
 
 		byte[][] keys = new byte[source.size()][];
@@ -198,6 +447,10 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 		return keys;
 	}
 
+	private byte[] sortKey(String prefix, RangePath source) {
+		return getAdapter().getConverter().getConversionService().convert(prefix + source.getPath(), byte[].class);
+	}
+
 	private byte[] geoKey(String prefix, NearPath source) {
 
 		String path = GeoIndexedPropertyValue.geoIndexName(source.getPath());
@@ -205,6 +458,56 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 
 	}
 
+	/**
+	 * {@link SortAccessor} retaining the requested {@link Sort} so that sorted queries can be served from a sort index.
+	 *
+	 * @author agent
+	 * @since 3.1
+	 */
+	static class RedisSortAccessor implements SortAccessor<Comparator<?>> {
+
+		private final SortAccessor<Comparator<?>> delegate;
+
+		RedisSortAccessor(SortAccessor<Comparator<?>> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Nullable
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Comparator<?> resolve(KeyValueQuery<?> query) {
+
+			Comparator<?> comparator = delegate.resolve(query);
+			return comparator != null ? new SortComparator(query.getSort(), comparator) : null;
+		}
+	}
+
+	/**
+	 * {@link Comparator} for in-memory sorting that exposes the {@link Sort} it was created from.
+	 *
+	 * @author agent
+	 * @since 3.1
+	 */
+	static class SortComparator<T> implements Comparator<T> {
+
+		private final Sort sort;
+		private final Comparator<T> delegate;
+
+		SortComparator(Sort sort, Comparator<T> delegate) {
+			this.sort = sort;
+			this.delegate = delegate;
+		}
+
+		Sort getSort() {
+			return sort;
+		}
+
+		@Override
+		public int compare(T o1, T o2) {
+			return delegate.compare(o1, o2);
+		}
+	}
+
 	/**
 	 * @author Christoph Strobl
 	 * @since 1.7
@@ -33,6 +33,7 @@ import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.DecoratedRedisConnection;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisKeyCommands;
@@ -498,6 +499,33 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 		});
 	}
 
+	@Override
+	public List<Object> executeTypedPipeline(TypedPipelineCallback callback) {
+
+		Assert.notNull(callback, "Callback object must not be null");
+
+		return execute((RedisCallback<List<Object>>) connection -> {
+
+			// bypass decorating connections to retain raw results
+			RedisConnection target = connection instanceof DecoratedRedisConnection
+					? ((DecoratedRedisConnection) connection).getDelegate()
+					: connection;
+			DefaultTypedPipeline pipeline = new DefaultTypedPipeline(target);
+
+			target.openPipeline();
+			boolean pipelinedClosed = false;
+			try {
+				callback.doInPipeline(pipeline);
+				pipelinedClosed = true;
+				return pipeline.close();
+			} finally {
+				if (!pipelinedClosed) {
+					target.closePipeline();
+				}
+			}
+		});
+	}
+
 	@Override
 	public <T> T execute(RedisScript<T> script, List<K> keys, Object... args) {
 		return scriptExecutor.execute(script, keys, args);
@@ -953,6 +981,17 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 		return execute(connection -> connection.publish(rawChannel, rawMessage), true);
 	}
 
+	@Override
+	public Long convertAndSendSharded(String shardChannel, Object message) {
+
+		Assert.hasText(shardChannel, "a non-empty shard channel is required");
+
+		byte[] rawChannel = rawString(shardChannel);
+		byte[] rawMessage = rawValue(message);
+
+		return execute(connection -> connection.sPublish(rawChannel, rawMessage), true);
+	}
+
 	private void executeWithoutResult(Consumer<RedisConnection> action) {
 		execute(it -> {
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Pipeline that records the expected result conversion for each queued command. Results are converted exactly once and
+ * lazily upon accessing the {@link PipelineResult}. Each {@code queue(…)} callback must issue exactly one command.
+ * Results are matched by the position of the command within the pipeline, commands that complete with a status reply
+ * only (such as {@code HMSET} or {@code LTRIM}) yield a {@literal null} result.
+ * <p>
+ * Commands are issued on the raw {@link org.springframework.data.redis.connection.RedisConnection} so that results are
+ * not converted by a decorating connection upfront. The connection must implement
+ * {@link org.springframework.data.redis.connection.IndexedPipelineConnection}.
+ *
+ * @author agent
+ * @since 3.1
+ * @see RedisOperations#executeTypedPipeline(TypedPipelineCallback)
+ */
+public interface TypedPipeline {
+
+	/**
+	 * Queue a command and retain its raw result.
+	 *
+	 * @param command callback issuing exactly one command. Must not be {@literal null}.
+	 * @return the {@link PipelineResult} handle to obtain the result once the pipeline is closed.
+	 */
+	<T> PipelineResult<T> queue(RedisCallback<T> command);
+
+	/**
+	 * Queue a command and apply the given {@link Converter} to its result.
+	 *
+	 * @param command callback issuing exactly one command. Must not be {@literal null}.
+	 * @param converter the converter to apply to a non-null result. Must not be {@literal null}.
+	 * @return the {@link PipelineResult} handle to obtain the converted result once the pipeline is closed.
+	 */
+	<S, T> PipelineResult<T> queue(RedisCallback<S> command, Converter<? super S, ? extends T> converter);
+
+	/**
+	 * Queue a command returning a binary value and deserialize its result using the given {@link RedisSerializer}.
+	 *
+	 * @param command callback issuing exactly one command. Must not be {@literal null}.
+	 * @param serializer the serializer to deserialize the result. Must not be {@literal null}.
+	 * @return the {@link PipelineResult} handle to obtain the deserialized result once the pipeline is closed.
+	 */
+	default <T> PipelineResult<T> queue(RedisCallback<byte[]> command, RedisSerializer<T> serializer) {
+		return queue(command, serializer::deserialize);
+	}
+
+	/**
+	 * Issue one or more commands whose results are discarded.
+	 *
+	 * @param command callback issuing commands. Must not be {@literal null}.
+	 */
+	void execute(RedisCallback<?> command);
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Callback interface to queue commands on a {@link TypedPipeline}. To be used with
+ * {@link RedisOperations#executeTypedPipeline(TypedPipelineCallback)}.
+ *
+ * @author agent
+ * @since 3.1
+ */
+@FunctionalInterface
+public interface TypedPipelineCallback {
+
+	/**
+	 * Gets called by {@link RedisTemplate} with an open {@link TypedPipeline}. Does not need to care about opening or
+	 * closing the pipeline or handling exceptions.
+	 *
+	 * @param pipeline the pipeline to queue commands on.
+	 * @throws DataAccessException
+	 */
+	void doInPipeline(TypedPipeline pipeline) throws DataAccessException;
+}
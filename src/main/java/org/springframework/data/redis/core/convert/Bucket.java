@@ -17,27 +17,27 @@ package org.springframework.data.redis.core.convert;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.NavigableMap;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
-import org.springframework.util.comparator.NullSafeComparator;
 
 /**
- * Bucket is the data bag for Redis hash structures to be used with {@link RedisData}.
+ * Bucket is the data bag for Redis hash structures to be used with {@link RedisData}. Entries are kept in insertion
+ * order, {@link #extract(String) extracted} buckets are ordered by key.
+ * <p>
+ * Buckets created from a {@link #newBucketFromRawMap(Map) raw map} decode their keys lazily on first access, so even
+ * read-only access mutates internal state. Bucket is not thread-safe and must not be shared between threads without
+ * external synchronization.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -51,14 +51,26 @@ public class Bucket {
 	 */
 	public static final Charset CHARSET = StandardCharsets.UTF_8;
 
-	private static final Comparator<String> COMPARATOR = new NullSafeComparator<>(Comparator.<String> naturalOrder(),
-			true);
+	/**
+	 * Binary representation the {@link Bucket} was created from, {@literal null} if the bucket was created from
+	 * decoded data or modified. Keys get decoded lazily into {@link #data} on first access.
+	 */
+	private @Nullable Map<byte[], byte[]> raw;
+
+	/**
+	 * The Redis data as {@link Map} keyed by the property path, {@literal null} until first access.
+	 */
+	private @Nullable Map<String, byte[]> data;
 
 	/**
-	 * The Redis data as {@link Map} sorted by the keys.
+	 * Whether the bucket may contain nested or collection paths. Prefix lookups can only match such paths.
 	 */
-	private final NavigableMap<String, byte[]> data = new TreeMap<>(
-			COMPARATOR);
+	private boolean nested;
+
+	/**
+	 * Keys in natural order to look up nested and collection paths by their prefix, {@literal null} until required.
+	 */
+	private @Nullable String[] sortedKeys;
 
 	/**
 	 * Creates a new empty bucket.
@@ -68,7 +80,16 @@ public class Bucket {
 	Bucket(Map<String, byte[]> data) {
 
 		Assert.notNull(data, "Initial data must not be null");
-		this.data.putAll(data);
+
+		this.data = new LinkedHashMap<>(data);
+		this.nested = containsNestedPath(this.data.keySet());
+	}
+
+	private Bucket(Map<String, byte[]> data, String[] sortedKeys) {
+
+		this.data = data;
+		this.nested = true;
+		this.sortedKeys = sortedKeys;
 	}
 
 	/**
@@ -80,7 +101,12 @@ public class Bucket {
 	public void put(String path, @Nullable byte[] value) {
 
 		Assert.hasText(path, "Path to property must not be null or empty");
-		data.put(path, value);
+
+		Map<String, byte[]> data = data();
+
+		if (data.put(path, value) == null || raw != null) {
+			onKeyAdded(path);
+		}
 	}
 
 	/**
@@ -91,7 +117,10 @@ public class Bucket {
 	public void remove(String path) {
 
 		Assert.hasText(path, "Path to property must not be null or empty");
-		data.remove(path);
+
+		data().remove(path);
+		raw = null;
+		sortedKeys = null;
 	}
 
 	/**
@@ -104,7 +133,7 @@ public class Bucket {
 	public byte[] get(String path) {
 
 		Assert.hasText(path, "Path to property must not be null or empty");
-		return data.get(path);
+		return data().get(path);
 	}
 
 	/**
@@ -119,59 +148,81 @@ public class Bucket {
 	}
 
 	/**
-	 * A set view of the mappings contained in this bucket.
+	 * A set view of the mappings contained in this bucket in insertion order. Changes to the view are reflected in the
+	 * bucket.
 	 *
 	 * @return never {@literal null}.
 	 */
 	public Set<Entry<String, byte[]>> entrySet() {
-		return data.entrySet();
+		return mutableData().entrySet();
 	}
 
 	/**
 	 * @return {@literal true} when no data present in {@link Bucket}.
 	 */
 	public boolean isEmpty() {
-		return data.isEmpty();
+		return data != null ? data.isEmpty() : raw == null || raw.isEmpty();
 	}
 
 	/**
 	 * @return the number of key-value mappings of the {@link Bucket}.
 	 */
 	public int size() {
-		return data.size();
+		return data != null ? data.size() : raw != null ? raw.size() : 0;
 	}
 
 	/**
 	 * @return never {@literal null}.
 	 */
 	public Collection<byte[]> values() {
-		return data.values();
+		return mutableData().values();
 	}
 
 	/**
 	 * @return never {@literal null}.
 	 */
 	public Set<String> keySet() {
-		return data.keySet();
+		return mutableData().keySet();
 	}
 
 	/**
-	 * Key/value pairs contained in the {@link Bucket}.
+	 * Key/value pairs contained in the {@link Bucket} in insertion order.
 	 *
 	 * @return never {@literal null}.
 	 */
 	public Map<String, byte[]> asMap() {
-		return Collections.unmodifiableMap(this.data);
+		return Collections.unmodifiableMap(data());
 	}
 
 	/**
-	 * Extracts a bucket containing key/value pairs with the {@code prefix}.
+	 * Extracts a bucket containing key/value pairs with the {@code prefix}. Entries of the resulting bucket are ordered
+	 * by their key.
 	 *
 	 * @param prefix
 	 * @return
 	 */
 	public Bucket extract(String prefix) {
-		return new Bucket(data.subMap(prefix, prefix + Character.MAX_VALUE));
+
+		Map<String, byte[]> data = data();
+
+		if (!nested && isNestedPath(prefix)) {
+			return new Bucket();
+		}
+
+		String[] keys = sortedKeys();
+		int from = indexOf(keys, prefix);
+		int to = from;
+
+		while (to < keys.length && keys[to].startsWith(prefix)) {
+			to++;
+		}
+
+		Map<String, byte[]> extracted = new LinkedHashMap<>(Math.max(4, (int) ((to - from) / 0.75f) + 1));
+		for (int i = from; i < to; i++) {
+			extracted.put(keys[i], data.get(keys[i]));
+		}
+
+		return new Bucket(extracted, Arrays.copyOfRange(keys, from, to));
 	}
 
 	/**
@@ -186,18 +237,25 @@ public class Bucket {
 			return keySet();
 		}
 
-		Pattern pattern = Pattern.compile("^(" + Pattern.quote(path) + ")\\.\\[.*?\\]");
+		data();
+
+		if (!nested) {
+			return Collections.emptySet();
+		}
 
-		Set<String> keys = new LinkedHashSet<>();
-		for (Map.Entry<String, byte[]> entry : data.entrySet()) {
+		String prefix = path + ".[";
+		String[] keys = sortedKeys();
 
-			Matcher matcher = pattern.matcher(entry.getKey());
-			if (matcher.find()) {
-				keys.add(matcher.group());
+		Set<String> result = new LinkedHashSet<>();
+		for (int i = indexOf(keys, prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+
+			int end = keys[i].indexOf(']', prefix.length());
+			if (end != -1) {
+				result.add(keys[i].substring(0, end + 1));
 			}
 		}
 
-		return keys;
+		return result;
 	}
 
 	/**
@@ -207,8 +265,19 @@ public class Bucket {
 	 */
 	public Map<byte[], byte[]> rawMap() {
 
-		Map<byte[], byte[]> raw = new LinkedHashMap<>(data.size());
-		for (Map.Entry<String, byte[]> entry : data.entrySet()) {
+		if (raw != null) {
+
+			Map<byte[], byte[]> copy = new LinkedHashMap<>(raw.size());
+			for (Map.Entry<byte[], byte[]> entry : raw.entrySet()) {
+				if (entry.getValue() != null) {
+					copy.put(entry.getKey(), entry.getValue());
+				}
+			}
+			return copy;
+		}
+
+		Map<byte[], byte[]> raw = new LinkedHashMap<>(size());
+		for (Map.Entry<String, byte[]> entry : data().entrySet()) {
 			if (entry.getValue() != null) {
 				raw.put(entry.getKey().getBytes(CHARSET), entry.getValue());
 			}
@@ -238,7 +307,7 @@ public class Bucket {
 	}
 
 	/**
-	 * Creates a new Bucket from a given raw map.
+	 * Creates a new Bucket from a given raw map. Keys are decoded on first access to the bucket.
 	 *
 	 * @param source can be {@literal null}.
 	 * @return never {@literal null}.
@@ -247,8 +316,8 @@ public class Bucket {
 
 		Bucket bucket = new Bucket();
 
-		for (Map.Entry<byte[], byte[]> entry : source.entrySet()) {
-			bucket.put(new String(entry.getKey(), CHARSET), entry.getValue());
+		if (!source.isEmpty()) {
+			bucket.raw = new LinkedHashMap<>(source);
 		}
 		return bucket;
 	}
@@ -270,6 +339,84 @@ public class Bucket {
 		return bucket;
 	}
 
+	private Map<String, byte[]> data() {
+
+		Map<String, byte[]> data = this.data;
+
+		if (data == null) {
+
+			Map<byte[], byte[]> raw = this.raw;
+			data = new LinkedHashMap<>(raw != null ? Math.max(16, (int) (raw.size() / 0.75f) + 1) : 16);
+
+			if (raw != null) {
+				for (Map.Entry<byte[], byte[]> entry : raw.entrySet()) {
+
+					String key = new String(entry.getKey(), CHARSET);
+					data.put(key, entry.getValue());
+					nested |= isNestedPath(key);
+				}
+			}
+
+			this.data = data;
+		}
+
+		return data;
+	}
+
+	/**
+	 * Return the decoded data for views that allow modifications. The binary representation cannot track changes made
+	 * through these views and is therefore discarded.
+	 */
+	private Map<String, byte[]> mutableData() {
+
+		Map<String, byte[]> data = data();
+		raw = null;
+		return data;
+	}
+
+	private void onKeyAdded(String path) {
+
+		raw = null;
+		sortedKeys = null;
+		nested |= isNestedPath(path);
+	}
+
+	private String[] sortedKeys() {
+
+		String[] sortedKeys = this.sortedKeys;
+
+		// entries removed through a view leave a stale index behind
+		if (sortedKeys == null || sortedKeys.length != data().size()) {
+
+			sortedKeys = data().keySet().toArray(new String[0]);
+			Arrays.sort(sortedKeys);
+			this.sortedKeys = sortedKeys;
+		}
+
+		return sortedKeys;
+	}
+
+	private static int indexOf(String[] sortedKeys, String prefix) {
+
+		int index = Arrays.binarySearch(sortedKeys, prefix);
+		return index < 0 ? -index - 1 : index;
+	}
+
+	private static boolean containsNestedPath(Collection<String> keys) {
+
+		for (String key : keys) {
+			if (isNestedPath(key)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isNestedPath(String path) {
+		return path.indexOf('.') != -1 || path.indexOf('[') != -1;
+	}
+
 	@Override
 	public String toString() {
 		return "Bucket [data=" + safeToString() + "]";
@@ -277,6 +424,8 @@ public class Bucket {
 
 	private String safeToString() {
 
+		Map<String, byte[]> data = data();
+
 		if (data.isEmpty()) {
 			return "{}";
 		}
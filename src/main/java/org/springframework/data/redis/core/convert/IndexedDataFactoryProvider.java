@@ -19,6 +19,7 @@ import org.springframework.data.geo.Point;
 import org.springframework.data.redis.core.index.GeoIndexDefinition;
 import org.springframework.data.redis.core.index.IndexDefinition;
 import org.springframework.data.redis.core.index.SimpleIndexDefinition;
+import org.springframework.data.redis.core.index.SortIndexDefinition;
 import org.springframework.lang.Nullable;
 
 /**
@@ -38,6 +39,8 @@ class IndexedDataFactoryProvider {
 			return new SimpleIndexedPropertyValueFactory((SimpleIndexDefinition) definition);
 		} else if (definition instanceof GeoIndexDefinition) {
 			return new GeoIndexedPropertyValueFactory(((GeoIndexDefinition) definition));
+		} else if (definition instanceof SortIndexDefinition) {
+			return new SortIndexedPropertyValueFactory(((SortIndexDefinition) definition));
 		}
 		return null;
 	}
@@ -83,4 +86,23 @@ class IndexedDataFactoryProvider {
 					(Point) indexDefinition.valueTransformer().convert(value));
 		}
 	}
+
+	/**
+	 * @author agent
+	 * @since 3.1
+	 */
+	static class SortIndexedPropertyValueFactory implements IndexedDataFactory {
+
+		final SortIndexDefinition indexDefinition;
+
+		SortIndexedPropertyValueFactory(SortIndexDefinition indexDefinition) {
+			this.indexDefinition = indexDefinition;
+		}
+
+		public SortIndexedPropertyValue createIndexedDataFor(Object value) {
+
+			return new SortIndexedPropertyValue(indexDefinition.getKeyspace(), indexDefinition.getIndexName(),
+					(Double) indexDefinition.valueTransformer().convert(value));
+		}
+	}
 }
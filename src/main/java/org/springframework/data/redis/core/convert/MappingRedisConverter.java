@@ -16,6 +16,7 @@
 package org.springframework.data.redis.core.convert;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -34,6 +36,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.convert.CustomConversions;
@@ -62,6 +65,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.util.comparator.NullSafeComparator;
 
@@ -114,6 +118,7 @@ import org.springframework.util.comparator.NullSafeComparator;
 public class MappingRedisConverter implements RedisConverter, InitializingBean {
 
 	private static final String INVALID_TYPE_ASSIGNMENT = "Value of type %s cannot be assigned to property %s of type %s";
+	private static final TypeDescriptor BYTE_ARRAY_TYPE = TypeDescriptor.valueOf(byte[].class);
 
 	private final RedisMappingContext mappingContext;
 	private final GenericConversionService conversionService;
@@ -122,6 +127,9 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 	private final Comparator<String> listKeyComparator = new NullSafeComparator<>(NaturalOrderingKeyComparator.INSTANCE,
 			true);
 
+	private final Map<RedisPersistentEntity<?>, EntityPlan> entityPlans = new ConcurrentHashMap<>();
+	private final boolean usePropertyPlans = !overridesPropertyReading(getClass());
+
 	private IndexResolver indexResolver;
 	private @Nullable ReferenceResolver referenceResolver;
 	private CustomConversions customConversions;
@@ -234,20 +242,19 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 
 		PersistentPropertyAccessor<Object> accessor = entity.getPropertyAccessor(instance);
 
-		entity.doWithProperties((PropertyHandler<RedisPersistentProperty>) persistentProperty -> {
-
-			InstanceCreatorMetadata<RedisPersistentProperty> creator = entity.getInstanceCreatorMetadata();
+		for (PropertyPlan property : getEntityPlan(entity).properties) {
 
-			if (creator != null && creator.isCreatorParameter(persistentProperty)) {
-				return;
+			if (property.creatorParameter) {
+				continue;
 			}
 
-			Object targetValue = readProperty(path, source, persistentProperty);
+			Object targetValue = usePropertyPlans ? readProperty(path, source, property)
+					: readProperty(path, source, property.property);
 
 			if (targetValue != null) {
-				accessor.setProperty(persistentProperty, targetValue);
+				accessor.setProperty(property.property, targetValue);
 			}
-		});
+		}
 
 		readAssociation(path, source, entity, accessor);
 
@@ -261,6 +268,39 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 		TypeInformation<?> typeInformation = typeMapper.readType(source.getBucket().getPropertyPath(currentPath),
 				persistentProperty.getTypeInformation());
 
+		return readProperty(path, currentPath, typeInformation, source, persistentProperty);
+	}
+
+	/**
+	 * Read a property using its {@link PropertyPlan}. Simple properties without a type hint are converted directly from
+	 * their binary value using the resolved {@link TypeDescriptor}, all other properties are read using
+	 * {@link #readProperty(String, RedisData, RedisPersistentProperty)}.
+	 */
+	@Nullable
+	private Object readProperty(String path, RedisData source, PropertyPlan property) {
+
+		String currentPath = property.getPath(path);
+		TypeInformation<?> typeInformation = typeMapper.readType(source.getBucket().getPropertyPath(currentPath),
+				property.typeInformation);
+
+		if (!property.simple || typeInformation != property.typeInformation) {
+			return readProperty(path, currentPath, typeInformation, source, property.property);
+		}
+
+		byte[] sourceBytes = source.getBucket().get(currentPath);
+
+		if (sourceBytes == null) {
+			return !property.primitive && property.id && path.isEmpty() ? source.getId() : null;
+		}
+
+		return property.type.isInstance(sourceBytes) ? sourceBytes
+				: conversionService.convert(sourceBytes, BYTE_ARRAY_TYPE, property.typeDescriptor);
+	}
+
+	@Nullable
+	private Object readProperty(String path, String currentPath, TypeInformation<?> typeInformation, RedisData source,
+			RedisPersistentProperty persistentProperty) {
+
 		if (typeInformation.isMap()) {
 
 			Class<?> mapValueType = null;
@@ -622,39 +662,39 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 		RedisPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(value.getClass());
 		PersistentPropertyAccessor<Object> accessor = entity.getPropertyAccessor(value);
 
-		entity.doWithProperties((PropertyHandler<RedisPersistentProperty>) persistentProperty -> {
+		for (PropertyPlan property : getEntityPlan(entity).properties) {
 
-			String propertyStringPath = (!path.isEmpty() ? path + "." : "") + persistentProperty.getName();
+			RedisPersistentProperty persistentProperty = property.property;
+			String propertyStringPath = property.getPath(path);
 
 			Object propertyValue = accessor.getProperty(persistentProperty);
-			if (persistentProperty.isIdProperty()) {
+			if (property.id) {
 
 				if (propertyValue != null) {
 					sink.getBucket().put(propertyStringPath, toBytes(propertyValue));
 				}
-				return;
+				continue;
 			}
 
-			if (persistentProperty.isMap()) {
+			if (property.map) {
 
 				if (propertyValue != null) {
 					writeMap(keyspace, propertyStringPath, persistentProperty.getMapValueType(), (Map<?, ?>) propertyValue, sink);
 				}
-			} else if (persistentProperty.isCollectionLike() && !isByteArray(persistentProperty)) {
+			} else if (property.collection) {
 
 				if (propertyValue == null) {
-					writeCollection(keyspace, propertyStringPath, null,
-							persistentProperty.getTypeInformation().getRequiredComponentType(), sink);
+					writeCollection(keyspace, propertyStringPath, null, property.getComponentType(), sink);
 				} else {
 
 					if (Iterable.class.isAssignableFrom(propertyValue.getClass())) {
 
-						writeCollection(keyspace, propertyStringPath, (Iterable<?>) propertyValue,
-								persistentProperty.getTypeInformation().getRequiredComponentType(), sink);
+						writeCollection(keyspace, propertyStringPath, (Iterable<?>) propertyValue, property.getComponentType(),
+								sink);
 					} else if (propertyValue.getClass().isArray()) {
 
 						writeCollection(keyspace, propertyStringPath, CollectionUtils.arrayToList(propertyValue),
-								persistentProperty.getTypeInformation().getRequiredComponentType(), sink);
+								property.getComponentType(), sink);
 					} else {
 
 						throw new RuntimeException("Don't know how to handle " + propertyValue.getClass() + " type collection");
@@ -665,13 +705,12 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 
 				if (customConversions.isSimpleType(ProxyUtils.getUserClass(propertyValue.getClass()))) {
 
-					writeToBucket(propertyStringPath, propertyValue, sink, persistentProperty.getType());
+					writeToBucket(propertyStringPath, propertyValue, sink, property.type);
 				} else {
-					writeInternal(keyspace, propertyStringPath, propertyValue,
-							persistentProperty.getTypeInformation().getRequiredActualType(), sink);
+					writeInternal(keyspace, propertyStringPath, propertyValue, property.getActualType(), sink);
 				}
 			}
-		});
+		}
 
 		writeAssociation(path, entity, value, sink);
 	}
@@ -1043,6 +1082,7 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 	 */
 	public void setCustomConversions(@Nullable CustomConversions customConversions) {
 		this.customConversions = customConversions != null ? customConversions : new RedisCustomConversions();
+		this.entityPlans.clear();
 	}
 
 	@Override
@@ -1068,6 +1108,26 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 
 	private void initializeConverters() {
 		customConversions.registerConvertersIn(conversionService);
+		entityPlans.clear();
+	}
+
+	private EntityPlan getEntityPlan(RedisPersistentEntity<?> entity) {
+		return entityPlans.computeIfAbsent(entity, EntityPlan::new);
+	}
+
+	/**
+	 * Property plans bypass {@link #readProperty(String, RedisData, RedisPersistentProperty)} and
+	 * {@link #fromBytes(byte[], Class)} for simple properties and therefore must not be used if a subclass customizes
+	 * reading.
+	 */
+	private static boolean overridesPropertyReading(Class<?> type) {
+
+		Method readProperty = ReflectionUtils.findMethod(type, "readProperty", String.class, RedisData.class,
+				RedisPersistentProperty.class);
+		Method fromBytes = ReflectionUtils.findMethod(type, "fromBytes", byte[].class, Class.class);
+
+		return (readProperty != null && readProperty.getDeclaringClass() != MappingRedisConverter.class)
+				|| (fromBytes != null && fromBytes.getDeclaringClass() != MappingRedisConverter.class);
 	}
 
 	private static boolean isByteArray(RedisPersistentProperty property) {
@@ -1078,6 +1138,113 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 		return type.getType().equals(byte[].class);
 	}
 
+	/**
+	 * Metadata of a {@link RedisPersistentEntity} resolved once per entity to avoid repeated metadata lookups when
+	 * reading and writing entities.
+	 *
+	 * @author agent
+	 * @since 3.1
+	 */
+	private class EntityPlan {
+
+		private final List<PropertyPlan> properties = new ArrayList<>();
+
+		EntityPlan(RedisPersistentEntity<?> entity) {
+
+			InstanceCreatorMetadata<RedisPersistentProperty> creator = entity.getInstanceCreatorMetadata();
+
+			entity.doWithProperties((PropertyHandler<RedisPersistentProperty>) property -> properties
+					.add(new PropertyPlan(property, creator != null && creator.isCreatorParameter(property))));
+		}
+	}
+
+	/**
+	 * Resolved metadata of a single {@link RedisPersistentProperty}.
+	 *
+	 * @author agent
+	 * @since 3.1
+	 */
+	private class PropertyPlan {
+
+		private final RedisPersistentProperty property;
+		private final String name;
+		private final TypeInformation<?> typeInformation;
+		private final Class<?> type;
+		private final TypeDescriptor typeDescriptor;
+		private final boolean creatorParameter;
+		private final boolean id;
+		private final boolean primitive;
+		private final boolean map;
+		private final boolean collection;
+
+		/**
+		 * Whether the property value is stored as a single binary value if the bucket does not hold a type hint for it.
+		 */
+		private final boolean simple;
+
+		/**
+		 * Property paths below a parent path, keyed by the parent path. Paths below collection elements and map entries
+		 * ({@literal […]}) are not retained as their number depends on the data.
+		 */
+		private final Map<String, String> nestedPaths = new ConcurrentHashMap<>();
+
+		private @Nullable TypeInformation<?> componentType;
+		private @Nullable TypeInformation<?> actualType;
+
+		PropertyPlan(RedisPersistentProperty property, boolean creatorParameter) {
+
+			this.property = property;
+			this.name = property.getName();
+			this.typeInformation = property.getTypeInformation();
+			this.type = property.getType();
+			this.typeDescriptor = TypeDescriptor.valueOf(type);
+			this.creatorParameter = creatorParameter;
+			this.id = property.isIdProperty();
+			this.primitive = typeInformation.getType().isPrimitive();
+			this.map = property.isMap();
+			this.collection = property.isCollectionLike() && !isByteArray(property);
+			this.simple = !typeInformation.isMap() && !typeInformation.isCollectionLike()
+					&& (mappingContext.getPersistentEntity(typeInformation) == null
+							|| conversionService.canConvert(byte[].class, typeInformation.getRequiredActualType().getType()));
+		}
+
+		String getPath(String parent) {
+
+			if (parent.isEmpty()) {
+				return name;
+			}
+
+			String path = nestedPaths.get(parent);
+
+			if (path == null) {
+
+				path = parent + "." + name;
+
+				if (parent.indexOf('[') == -1) {
+					nestedPaths.put(parent, path);
+				}
+			}
+
+			return path;
+		}
+
+		TypeInformation<?> getComponentType() {
+
+			if (componentType == null) {
+				componentType = typeInformation.getRequiredComponentType();
+			}
+			return componentType;
+		}
+
+		TypeInformation<?> getActualType() {
+
+			if (actualType == null) {
+				actualType = typeInformation.getRequiredActualType();
+			}
+			return actualType;
+		}
+	}
+
 	/**
 	 * @author Christoph Strobl
 	 * @author Mark Paluch
@@ -36,6 +36,8 @@ import org.springframework.data.redis.core.index.IndexDefinition.Condition;
 import org.springframework.data.redis.core.index.IndexDefinition.IndexingContext;
 import org.springframework.data.redis.core.index.Indexed;
 import org.springframework.data.redis.core.index.SimpleIndexDefinition;
+import org.springframework.data.redis.core.index.SortIndexDefinition;
+import org.springframework.data.redis.core.index.SortIndexed;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
 import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
@@ -46,8 +48,8 @@ import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 
 /**
- * {@link IndexResolver} implementation considering properties annotated with {@link Indexed} or paths set up in
- * {@link IndexConfiguration}.
+ * {@link IndexResolver} implementation considering properties annotated with {@link Indexed}, {@link GeoIndexed},
+ * {@link SortIndexed} or paths set up in {@link IndexConfiguration}.
  *
  * @author Christoph Strobl
  * @author Greg Turnquist
@@ -234,6 +236,17 @@ public class PathIndexResolver implements IndexResolver {
 			data.add(indexedDataFactoryProvider.getIndexedDataFactory(indexDefinition).createIndexedDataFor(value));
 		}
 
+		if (property != null && value != null && property.isAnnotationPresent(SortIndexed.class)) {
+
+			// non-numeric identifiers use a constant score to order entities lexicographically by id
+			if (property.isIdProperty() && !SortIndexDefinition.isScoreValue(value)) {
+				data.add(new SortIndexedPropertyValue(keyspace, path, 0));
+			} else {
+				data.add(indexedDataFactoryProvider.getIndexedDataFactory(new SortIndexDefinition(keyspace, path))
+						.createIndexedDataFor(value));
+			}
+		}
+
 		return data;
 	}
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.convert;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link IndexedData} implementation indicating storage of data within a Redis {@literal ZSET} using the property value
+ * as score.
+ *
+ * @author agent
+ * @since 3.1
+ */
+public class SortIndexedPropertyValue implements IndexedData {
+
+	private final String keyspace;
+	private final String indexName;
+	private final double score;
+
+	public SortIndexedPropertyValue(String keyspace, String indexName, double score) {
+
+		this.keyspace = keyspace;
+		this.indexName = indexName;
+		this.score = score;
+	}
+
+	@Override
+	public String getIndexName() {
+		return indexName;
+	}
+
+	@Override
+	public String getKeyspace() {
+		return keyspace;
+	}
+
+	public double getScore() {
+		return score;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof SortIndexedPropertyValue)) {
+			return false;
+		}
+
+		SortIndexedPropertyValue that = (SortIndexedPropertyValue) o;
+		if (!ObjectUtils.nullSafeEquals(keyspace, that.keyspace)) {
+			return false;
+		}
+
+		if (!ObjectUtils.nullSafeEquals(indexName, that.indexName)) {
+			return false;
+		}
+
+		return Double.compare(score, that.score) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = ObjectUtils.nullSafeHashCode(keyspace);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(indexName);
+		result = 31 * result + Double.hashCode(score);
+		return result;
+	}
+
+	public String toString() {
+		return "SortIndexedPropertyValue(keyspace=" + this.getKeyspace() + ", indexName=" + this.getIndexName()
+				+ ", score=" + this.getScore() + ")";
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.index;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link PathBasedRedisIndexDefinition} for including property values in a sortable secondary index. <br />
+ * Uses Redis {@literal ZSET} for storage, using the property value as score. The index serves sorting as well as range
+ * queries such as {@code GreaterThan}, {@code LessThan} and {@code Between}. <br />
+ *
+ * @author agent
+ * @since 3.1
+ */
+public class SortIndexDefinition extends RedisIndexDefinition implements PathBasedRedisIndexDefinition {
+
+	/**
+	 * Creates new {@link SortIndexDefinition}.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param path
+	 */
+	public SortIndexDefinition(String keyspace, String path) {
+		this(keyspace, path, path);
+	}
+
+	/**
+	 * Creates new {@link SortIndexDefinition}.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param path
+	 * @param name must not be {@literal null}.
+	 */
+	public SortIndexDefinition(String keyspace, String path, String name) {
+		super(keyspace, path, name);
+		addCondition(new PathCondition(path));
+		setValueTransformer(new ScoreValueTransformer());
+	}
+
+	/**
+	 * Check whether the given {@code value} can be converted into a score.
+	 *
+	 * @param value can be {@literal null}.
+	 * @return {@literal true} if the value is numeric or a supported date/time type.
+	 */
+	public static boolean isScoreValue(@Nullable Object value) {
+		return value instanceof Number || value instanceof Date || value instanceof Instant || value instanceof LocalDate
+				|| value instanceof LocalDateTime;
+	}
+
+	/**
+	 * Convert the given {@code value} into a score.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return the score.
+	 * @throws IllegalArgumentException if the value cannot be converted.
+	 * @see #isScoreValue(Object)
+	 */
+	public static double toScore(Object value) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		return new ScoreValueTransformer().convert(value);
+	}
+
+	/**
+	 * Converts numeric and date/time values into a {@link Double} score. Dates use epoch milliseconds (UTC for
+	 * {@link LocalDateTime}), {@link LocalDate} uses the epoch day.
+	 *
+	 * @author agent
+	 * @since 3.1
+	 */
+	static class ScoreValueTransformer implements IndexValueTransformer {
+
+		@Override
+		public Double convert(@Nullable Object source) {
+
+			if (source == null) {
+				return null;
+			}
+
+			if (source instanceof Number) {
+				return ((Number) source).doubleValue();
+			}
+
+			if (source instanceof Date) {
+				return (double) ((Date) source).getTime();
+			}
+
+			if (source instanceof Instant) {
+				return (double) ((Instant) source).toEpochMilli();
+			}
+
+			if (source instanceof LocalDate) {
+				return (double) ((LocalDate) source).toEpochDay();
+			}
+
+			if (source instanceof LocalDateTime) {
+				return (double) ((LocalDateTime) source).toInstant(ZoneOffset.UTC).toEpochMilli();
+			}
+
+			throw new IllegalArgumentException(String.format(
+					"Cannot convert %s to a score; SortIndexed property needs to be numeric or a date/time type",
+					source.getClass()));
+		}
+	}
+}
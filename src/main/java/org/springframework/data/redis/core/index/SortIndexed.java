@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.index;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark properties value to be included in a sortable secondary index. <br />
+ * Uses Redis {@literal ZSET} for storage, using the property value as score. <br />
+ * Sorted and paged queries without criteria that sort by a single sort-indexed property read only the requested page
+ * from the index. Range queries ({@code GreaterThan}, {@code LessThan}, {@code Between}, {@code After},
+ * {@code Before}) on sort-indexed properties are evaluated using {@literal ZRANGEBYSCORE} and require the index to
+ * hold a value for every entity of the keyspace. Numeric and date/time values are supported. Annotating a non-numeric
+ * identifier property orders entities lexicographically by their id and allows paging through the keyspace without
+ * sorting.
+ *
+ * @author agent
+ * @since 3.1
+ * @see SortIndexDefinition
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.ANNOTATION_TYPE })
+public @interface SortIndexed {
+
+}
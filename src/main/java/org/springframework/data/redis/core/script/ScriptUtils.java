@@ -30,7 +30,7 @@ import org.springframework.data.redis.serializer.RedisSerializer;
  * @author Christoph Strobl
  * @since 2.0
  */
-class ScriptUtils {
+public final class ScriptUtils {
 
 	private ScriptUtils() {}
 
@@ -97,8 +97,9 @@ class ScriptUtils {
 	 *
 	 * @param e the exception.
 	 * @return {@literal true} if the exception or one of its causes contains a {@literal NOSCRIPT} error.
+	 * @since 3.1
 	 */
-	static boolean exceptionContainsNoScriptError(Throwable e) {
+	public static boolean exceptionContainsNoScriptError(Throwable e) {
 
 		if (!(e instanceof NonTransientDataAccessException)) {
 			return false;
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link MessageListener} receiving messages in batches. Batches are formed by {@link RedisMessageListenerContainer}
+ * when using {@link RedisMessageListenerContainer#setDispatchPartitions(int) partitioned dispatch} with a
+ * {@link RedisMessageListenerContainer#setMaxBatchSize(int) batch size} greater than one. All messages within a batch
+ * were received through the same channel or pattern and are ordered by their arrival.
+ *
+ * @author agent
+ * @since 3.1
+ */
+public interface BatchMessageListener extends MessageListener {
+
+	/**
+	 * Callback for processing a batch of received messages.
+	 *
+	 * @param messages the received messages in order of arrival, never {@literal null} or empty.
+	 * @param pattern pattern matching the channel (if specified) - can be {@literal null}.
+	 */
+	void onMessages(List<Message> messages, @Nullable byte[] pattern);
+
+	/**
+	 * Process a single message as batch of one message.
+	 *
+	 * @param message message must not be {@literal null}.
+	 * @param pattern pattern matching the channel (if specified) - can be {@literal null}.
+	 */
+	@Override
+	default void onMessage(Message message, @Nullable byte[] pattern) {
+		onMessages(Collections.singletonList(message), pattern);
+	}
+}
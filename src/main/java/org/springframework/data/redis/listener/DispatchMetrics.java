@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import java.time.Duration;
+
+/**
+ * Metrics about message dispatch of {@link RedisMessageListenerContainer}. Counts refer to deliveries, that is a message
+ * received for multiple listeners is counted once per listener. Metrics are cumulative since container initialization
+ * and can be bound to a monitoring system by polling the accessor methods. Metrics are recorded only with bounded
+ * dispatch, that is if dispatch partitions or a dispatch queue capacity are configured.
+ *
+ * @author agent
+ * @since 3.1
+ * @see RedisMessageListenerContainer#getDispatchMetrics()
+ */
+public interface DispatchMetrics {
+
+	/**
+	 * @return number of deliveries accepted but not yet handed to a listener.
+	 */
+	long getPendingMessages();
+
+	/**
+	 * @return total number of deliveries handed to a listener.
+	 */
+	long getDispatchedMessages();
+
+	/**
+	 * @return total number of deliveries dropped due to a full dispatch queue or because the task executor rejected
+	 *         their dispatch.
+	 */
+	long getDroppedMessages();
+
+	/**
+	 * @return the average time between receiving a message and handing it to a listener.
+	 */
+	Duration getAverageDispatchLatency();
+
+	/**
+	 * @return the maximum time between receiving a message and handing it to a listener.
+	 */
+	Duration getMaxDispatchLatency();
+}
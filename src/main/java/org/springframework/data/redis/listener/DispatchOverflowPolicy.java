@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+/**
+ * Strategy applied by {@link RedisMessageListenerContainer} when a bounded dispatch queue is full.
+ *
+ * @author agent
+ * @since 3.1
+ * @see RedisMessageListenerContainer#setDispatchQueueCapacity(int)
+ * @see RedisMessageListenerContainer#setDispatchOverflowPolicy(DispatchOverflowPolicy)
+ */
+public enum DispatchOverflowPolicy {
+
+	/**
+	 * Block the subscription thread until the queue has capacity. No messages are lost but the subscription stops reading
+	 * from the connection while blocked which eventually pushes back to the Redis server output buffer. Requires a
+	 * blocking subscription running on its own thread. Drivers that receive messages on a shared I/O thread such as
+	 * Lettuce do not support blocking.
+	 */
+	BLOCK,
+
+	/**
+	 * Drop the oldest queued message to accept the newly received message. Drops the newly received message if all
+	 * messages occupying the queue are already in process.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Drop the newly received message.
+	 */
+	DROP_NEWEST
+}
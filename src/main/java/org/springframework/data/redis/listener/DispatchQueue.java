@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded FIFO queue of {@link MessageDelivery deliveries} applying a {@link DispatchOverflowPolicy} once its capacity
+ * is reached. Accepted, dropped and discarded deliveries are recorded with {@link DispatchStatistics}.
+ * <p>
+ * Deliveries retrieved through {@link #pollForProcessing(MessageDelivery)} keep occupying capacity until they are
+ * {@link #completed() completed} so that the capacity bounds queued and in-flight deliveries.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class DispatchQueue {
+
+	private final ArrayDeque<MessageDelivery> deliveries = new ArrayDeque<>();
+
+	private final int capacity;
+
+	private final DispatchOverflowPolicy policy;
+
+	private final DispatchStatistics statistics;
+
+	private final Consumer<MessageDelivery> dropHandler;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition notEmpty = lock.newCondition();
+
+	private final Condition notFull = lock.newCondition();
+
+	private int inFlight;
+
+	DispatchQueue(int capacity, DispatchOverflowPolicy policy, DispatchStatistics statistics,
+			Consumer<MessageDelivery> dropHandler) {
+
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero");
+		Assert.notNull(policy, "DispatchOverflowPolicy must not be null");
+
+		this.capacity = capacity;
+		this.policy = policy;
+		this.statistics = statistics;
+		this.dropHandler = dropHandler;
+	}
+
+	/**
+	 * Enqueue the given {@link MessageDelivery} applying the {@link DispatchOverflowPolicy} if the queue is full. Using
+	 * {@link DispatchOverflowPolicy#BLOCK}, the calling thread waits for capacity and drops the delivery if interrupted
+	 * while waiting.
+	 *
+	 * @param delivery the delivery to enqueue.
+	 * @return {@literal true} if the delivery was enqueued, possibly replacing the oldest delivery; {@literal false} if
+	 *         it was dropped.
+	 */
+	boolean offer(MessageDelivery delivery) {
+
+		MessageDelivery dropped = null;
+		boolean added = false;
+
+		statistics.accepted();
+
+		lock.lock();
+		try {
+
+			if (policy == DispatchOverflowPolicy.BLOCK) {
+				awaitCapacity();
+			}
+
+			if (size() < capacity) {
+				deliveries.addLast(delivery);
+				added = true;
+			} else if (policy == DispatchOverflowPolicy.DROP_OLDEST && !deliveries.isEmpty()) {
+				dropped = deliveries.pollFirst();
+				deliveries.addLast(delivery);
+			} else {
+				dropped = delivery;
+			}
+
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+
+			if (!added) {
+				statistics.discarded();
+			}
+		}
+
+		if (dropped != null) {
+			statistics.dropped();
+			dropHandler.accept(dropped);
+		}
+
+		return dropped != delivery;
+	}
+
+	private void awaitCapacity() {
+
+		try {
+			while (size() >= capacity) {
+				notFull.await();
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Retrieve and remove the oldest delivery.
+	 *
+	 * @return the oldest delivery or {@literal null} if the queue is empty.
+	 */
+	@Nullable
+	MessageDelivery poll() {
+
+		lock.lock();
+		try {
+			return removeFirst();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove the given delivery retaining its capacity until {@link #completed()} is called.
+	 *
+	 * @param delivery the delivery to process.
+	 * @return {@literal true} if the delivery was removed; {@literal false} if it was dropped in the meantime.
+	 */
+	boolean pollForProcessing(MessageDelivery delivery) {
+
+		lock.lock();
+		try {
+
+			if (!deliveries.removeFirstOccurrence(delivery)) {
+				return false;
+			}
+
+			statistics.dispatched(delivery);
+			inFlight++;
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Release the capacity of a delivery retrieved through {@link #pollForProcessing()} after processing it.
+	 */
+	void completed() {
+
+		lock.lock();
+		try {
+			inFlight--;
+			notFull.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove the given delivery and report it as dropped. Used if the delivery cannot be scheduled for processing.
+	 *
+	 * @param delivery the delivery to drop.
+	 */
+	void drop(MessageDelivery delivery) {
+
+		boolean removed;
+
+		lock.lock();
+		try {
+			removed = deliveries.removeLastOccurrence(delivery);
+
+			if (removed) {
+				notFull.signal();
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		if (removed) {
+			statistics.discarded();
+			statistics.dropped();
+			dropHandler.accept(delivery);
+		}
+	}
+
+	/**
+	 * Retrieve and remove the oldest delivery waiting up to the given {@code timeout} for a delivery to become available.
+	 *
+	 * @return the oldest delivery or {@literal null} if the timeout elapsed.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	@Nullable
+	MessageDelivery poll(long timeout, TimeUnit unit) throws InterruptedException {
+
+		long nanos = unit.toNanos(timeout);
+
+		lock.lockInterruptibly();
+		try {
+
+			while (deliveries.isEmpty()) {
+
+				if (nanos <= 0) {
+					return null;
+				}
+
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+
+			return removeFirst();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove up to {@code maxElements} deliveries and add them to the given {@link Collection}.
+	 *
+	 * @return the number of transferred deliveries.
+	 */
+	int drainTo(Collection<MessageDelivery> target, int maxElements) {
+
+		lock.lock();
+		try {
+
+			int count = 0;
+			while (count < maxElements && !deliveries.isEmpty()) {
+				target.add(removeFirst());
+				count++;
+			}
+
+			return count;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	boolean isEmpty() {
+
+		lock.lock();
+		try {
+			return deliveries.isEmpty();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private int size() {
+		return deliveries.size() + inFlight;
+	}
+
+	@Nullable
+	private MessageDelivery removeFirst() {
+
+		MessageDelivery delivery = deliveries.pollFirst();
+
+		if (delivery != null) {
+			statistics.dispatched(delivery);
+			notFull.signal();
+		}
+
+		return delivery;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DispatchMetrics} implementation recording dispatch statistics.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class DispatchStatistics implements DispatchMetrics {
+
+	private final LongAdder pending = new LongAdder();
+	private final LongAdder dispatched = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder totalLatencyNanos = new LongAdder();
+	private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+	void accepted() {
+		pending.increment();
+	}
+
+	void discarded() {
+		pending.decrement();
+	}
+
+	void dropped() {
+		dropped.increment();
+	}
+
+	void dispatched(MessageDelivery delivery) {
+
+		long latency = System.nanoTime() - delivery.enqueuedAt;
+
+		pending.decrement();
+		dispatched.increment();
+		totalLatencyNanos.add(latency);
+		maxLatencyNanos.accumulate(latency);
+	}
+
+	@Override
+	public long getPendingMessages() {
+		return Math.max(pending.sum(), 0);
+	}
+
+	@Override
+	public long getDispatchedMessages() {
+		return dispatched.sum();
+	}
+
+	@Override
+	public long getDroppedMessages() {
+		return dropped.sum();
+	}
+
+	@Override
+	public Duration getAverageDispatchLatency() {
+
+		long count = dispatched.sum();
+		return count == 0 ? Duration.ZERO : Duration.ofNanos(totalLatencyNanos.sum() / count);
+	}
+
+	@Override
+	public Duration getMaxDispatchLatency() {
+		return Duration.ofNanos(maxLatencyNanos.get());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("DispatchMetrics [pending=%d, dispatched=%d, dropped=%d, avgLatency=%s, maxLatency=%s]",
+				getPendingMessages(), getDispatchedMessages(), getDroppedMessages(), getAverageDispatchLatency(),
+				getMaxDispatchLatency());
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * Callback notified about messages dropped by {@link RedisMessageListenerContainer} because the dispatch queue was full
+ * or the task executor rejected the dispatch of a queued message. Handlers are called on the thread that dropped the
+ * message and should return quickly.
+ *
+ * @author agent
+ * @since 3.1
+ * @see DispatchOverflowPolicy#DROP_OLDEST
+ * @see DispatchOverflowPolicy#DROP_NEWEST
+ */
+@FunctionalInterface
+public interface DroppedMessageHandler {
+
+	/**
+	 * Handle a dropped message.
+	 *
+	 * @param listener the listener the message was dispatched to.
+	 * @param message the dropped message.
+	 * @param source the source, either the channel or pattern.
+	 */
+	void handleDroppedMessage(MessageListener listener, Message message, byte[] source);
+}
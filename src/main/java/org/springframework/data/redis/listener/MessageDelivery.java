@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import java.util.Arrays;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * A message queued for delivery to a listener.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class MessageDelivery {
+
+	final MessageListener listener;
+	final Message message;
+	final byte[] source;
+	final long enqueuedAt = System.nanoTime();
+
+	MessageDelivery(MessageListener listener, Message message, byte[] source) {
+		this.listener = listener;
+		this.message = message;
+		this.source = source;
+	}
+
+	boolean isSameTarget(MessageDelivery other) {
+		return listener == other.listener && Arrays.equals(source, other.source);
+	}
+}
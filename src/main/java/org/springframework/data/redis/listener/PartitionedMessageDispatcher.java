@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.util.Assert;
+
+/**
+ * Dispatcher routing messages to a fixed number of single-threaded lanes. Messages are assigned to a lane by their
+ * partition key (by default the channel) so that all messages sharing the same key are processed sequentially in the
+ * order of their arrival. Each lane is backed by a bounded {@link DispatchQueue} and occupies one thread of the
+ * {@link Executor} it was {@link #start(Executor) started} with.
+ * <p>
+ * Lanes deliver queued messages for {@link BatchMessageListener batch listeners} as batches of up to
+ * {@code maxBatchSize} messages. Messages drained from a lane are grouped per listener so that batches span messages
+ * dispatched to multiple listeners while each listener observes messages in the order of their arrival.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class PartitionedMessageDispatcher {
+
+	private static final long POLL_TIMEOUT_MILLIS = 100;
+
+	private final Lane[] lanes;
+
+	private final ToIntFunction<Message> partitioner;
+
+	private final int maxBatchSize;
+
+	private final MessageProcessor processor;
+
+	private volatile boolean running;
+
+	/**
+	 * Create a new {@link PartitionedMessageDispatcher}.
+	 *
+	 * @param partitions number of lanes, must be greater than zero.
+	 * @param queueFactory factory creating the {@link DispatchQueue} for each lane.
+	 * @param maxBatchSize maximum number of messages delivered to a {@link BatchMessageListener} at once.
+	 * @param partitioner function computing the partition hash for a {@link Message}.
+	 * @param processor callback to process messages.
+	 */
+	PartitionedMessageDispatcher(int partitions, IntFunction<DispatchQueue> queueFactory, int maxBatchSize,
+			ToIntFunction<Message> partitioner, MessageProcessor processor) {
+
+		Assert.isTrue(partitions > 0, "Partitions must be greater than zero");
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero");
+
+		this.lanes = new Lane[partitions];
+		this.partitioner = partitioner;
+		this.maxBatchSize = maxBatchSize;
+		this.processor = processor;
+
+		for (int i = 0; i < partitions; i++) {
+			lanes[i] = new Lane(queueFactory.apply(i));
+		}
+	}
+
+	/**
+	 * Start lane processing by submitting one long-running task per lane to the given {@link Executor}.
+	 *
+	 * @param executor the executor to run lanes.
+	 */
+	void start(Executor executor) {
+
+		running = true;
+
+		for (Lane lane : lanes) {
+			executor.execute(lane);
+		}
+	}
+
+	/**
+	 * Stop lane processing. Lanes complete processing of already queued messages before terminating.
+	 */
+	void stop() {
+		running = false;
+	}
+
+	boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Enqueue the {@link Message} for each of the given {@code listeners} onto the lane owning the message partition.
+	 * Applies the {@link DispatchOverflowPolicy} of the lane queue if it is full. Dispatching does not block the calling
+	 * thread unless lane queues use {@link DispatchOverflowPolicy#BLOCK}.
+	 *
+	 * @param listeners the listeners to notify.
+	 * @param message the received message.
+	 * @param source the channel or pattern the message was received through.
+	 */
+	void dispatch(Iterable<MessageListener> listeners, Message message, byte[] source) {
+
+		Lane lane = lanes[laneIndex(partitioner.applyAsInt(message), lanes.length)];
+
+		for (MessageListener listener : listeners) {
+			lane.queue.offer(new MessageDelivery(listener, message, source));
+		}
+	}
+
+	static int laneIndex(int hash, int lanes) {
+		return Math.floorMod(hash ^ (hash >>> 16), lanes);
+	}
+
+	/**
+	 * Callback to process messages on a lane.
+	 */
+	interface MessageProcessor {
+
+		void processMessage(MessageListener listener, Message message, byte[] source);
+
+		void processMessages(BatchMessageListener listener, List<Message> messages, byte[] source);
+	}
+
+	/**
+	 * Single-threaded lane draining its queue.
+	 */
+	class Lane implements Runnable {
+
+		private final DispatchQueue queue;
+
+		Lane(DispatchQueue queue) {
+			this.queue = queue;
+		}
+
+		@Override
+		public void run() {
+
+			List<MessageDelivery> deliveries = new ArrayList<>(maxBatchSize);
+
+			while (running || !queue.isEmpty()) {
+
+				MessageDelivery delivery;
+				try {
+					delivery = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+
+				if (delivery == null) {
+					continue;
+				}
+
+				deliveries.add(delivery);
+
+				if (maxBatchSize > 1) {
+					queue.drainTo(deliveries, maxBatchSize - 1);
+				}
+
+				deliver(deliveries);
+				deliveries.clear();
+			}
+		}
+
+		private void deliver(List<MessageDelivery> deliveries) {
+
+			if (maxBatchSize == 1 || deliveries.size() == 1) {
+
+				for (MessageDelivery delivery : deliveries) {
+					processor.processMessage(delivery.listener, delivery.message, delivery.source);
+				}
+				return;
+			}
+
+			// deliveries for multiple listeners interleave, group them per listener retaining the order of arrival
+			Map<MessageListener, List<MessageDelivery>> deliveriesByListener = new LinkedHashMap<>();
+			for (MessageDelivery delivery : deliveries) {
+				deliveriesByListener.computeIfAbsent(delivery.listener, it -> new ArrayList<>()).add(delivery);
+			}
+
+			deliveriesByListener.values().forEach(this::deliverToListener);
+		}
+
+		private void deliverToListener(List<MessageDelivery> deliveries) {
+
+			int size = deliveries.size();
+
+			for (int i = 0; i < size;) {
+
+				MessageDelivery delivery = deliveries.get(i);
+
+				if (delivery.listener instanceof BatchMessageListener) {
+
+					int end = i + 1;
+					while (end < size && delivery.isSameTarget(deliveries.get(end))) {
+						end++;
+					}
+
+					List<Message> messages = new ArrayList<>(end - i);
+					for (int j = i; j < end; j++) {
+						messages.add(deliveries.get(j).message);
+					}
+
+					processor.processMessages((BatchMessageListener) delivery.listener, messages, delivery.source);
+					i = end;
+				} else {
+					processor.processMessage(delivery.listener, delivery.message, delivery.source);
+					i++;
+				}
+			}
+		}
+	}
+}
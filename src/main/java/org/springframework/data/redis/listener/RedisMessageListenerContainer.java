@@ -16,6 +16,7 @@
 package org.springframework.data.redis.listener;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -27,12 +28,15 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
@@ -92,6 +96,17 @@ import org.springframework.util.backoff.FixedBackOff;
  * <p>
  * {@link MessageListener Listeners} that wish to receive subscription/unsubscription callbacks in response to
  * subscribe/unsubscribe commands can implement {@link SubscriptionListener}.
+ * <p>
+ * By default, each message is dispatched to each listener as individual task on the task executor without ordering
+ * guarantees. Configuring {@link #setDispatchPartitions(int) dispatch partitions} switches to ordered dispatch where
+ * messages are routed by their channel (or a {@link #setDispatchPartitionKeyExtractor(Function) custom key}) to
+ * single-threaded lanes preserving the arrival order per partition. {@link BatchMessageListener Batch listeners} receive
+ * messages queued on a lane in batches of up to {@link #setMaxBatchSize(int) max batch size} messages.
+ * <p>
+ * Configuring a {@link #setDispatchQueueCapacity(int) dispatch queue capacity} bounds the number of messages pending
+ * dispatch. Once the capacity is reached, the {@link #setDispatchOverflowPolicy(DispatchOverflowPolicy) overflow policy}
+ * drops messages or, for blocking subscriptions, blocks the subscription thread. With bounded dispatch, pending,
+ * dispatched and dropped messages along with the dispatch latency are exposed through {@link #getDispatchMetrics()}.
  *
  * @author Costin Leau
  * @author Jennifer Hickey
@@ -122,6 +137,12 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 	 */
 	public static final long DEFAULT_SUBSCRIPTION_REGISTRATION_WAIT_TIME = 2000L;
 
+	/**
+	 * The default capacity of each dispatch partition queue if no {@link #setDispatchQueueCapacity(int) capacity} is
+	 * configured: 1024 messages.
+	 */
+	public static final int DEFAULT_DISPATCH_QUEUE_CAPACITY = 1024;
+
 	private @Nullable Executor subscriptionExecutor;
 
 	private @Nullable Executor taskExecutor;
@@ -165,6 +186,24 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 
 	private volatile CompletableFuture<Void> unsubscribeFuture = new CompletableFuture<>();
 
+	private int dispatchPartitions = 0;
+
+	private int dispatchQueueCapacity = 0;
+
+	private DispatchOverflowPolicy dispatchOverflowPolicy = DispatchOverflowPolicy.DROP_NEWEST;
+
+	private @Nullable DroppedMessageHandler droppedMessageHandler;
+
+	private int maxBatchSize = 1;
+
+	private @Nullable Function<Message, ?> dispatchPartitionKeyExtractor;
+
+	private @Nullable PartitionedMessageDispatcher partitionedDispatcher;
+
+	private @Nullable DispatchQueue dispatchQueue;
+
+	private final DispatchStatistics dispatchStatistics = new DispatchStatistics();
+
 	@Override
 	public void afterPropertiesSet() {
 
@@ -185,6 +224,19 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 
 		this.subscriber = createSubscriber(connectionFactory, this.subscriptionExecutor);
 
+		if ((dispatchPartitions > 0 || dispatchQueueCapacity > 0) && dispatchOverflowPolicy == DispatchOverflowPolicy.BLOCK
+				&& !(subscriber instanceof BlockingSubscriber)) {
+			throw new IllegalStateException(
+					"DispatchOverflowPolicy.BLOCK requires a blocking subscription; Messages are received on the I/O thread");
+		}
+
+		if (dispatchPartitions > 0) {
+			this.partitionedDispatcher = createPartitionedDispatcher();
+			this.partitionedDispatcher.start(taskExecutor);
+		} else if (dispatchQueueCapacity > 0) {
+			this.dispatchQueue = createDispatchQueue(dispatchQueueCapacity);
+		}
+
 		afterPropertiesSet = true;
 	}
 
@@ -212,6 +264,11 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 
 		stop();
 
+		if (partitionedDispatcher != null) {
+			partitionedDispatcher.stop();
+			partitionedDispatcher = null;
+		}
+
 		if (manageExecutor) {
 			if (taskExecutor instanceof DisposableBean) {
 				((DisposableBean) taskExecutor).destroy();
@@ -827,6 +884,161 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		this.maxSubscriptionRegistrationWaitingTime = maxSubscriptionRegistrationWaitingTime;
 	}
 
+	/**
+	 * Specify the number of dispatch partitions. A value greater than zero enables ordered dispatch: messages are routed
+	 * by their {@link #setDispatchPartitionKeyExtractor(Function) partition key} to one of {@code dispatchPartitions}
+	 * single-threaded lanes so that messages sharing a partition key are processed sequentially in the order of their
+	 * arrival. Each lane occupies one thread of the {@link #setTaskExecutor(Executor) task executor} while the container
+	 * is initialized. The default is {@code 0}, dispatching each message as individual task without ordering guarantees.
+	 *
+	 * @param dispatchPartitions number of dispatch partitions. Must be zero or greater.
+	 * @since 3.1
+	 * @see #setDispatchQueueCapacity(int)
+	 * @see #setMaxBatchSize(int)
+	 */
+	public void setDispatchPartitions(int dispatchPartitions) {
+
+		Assert.isTrue(dispatchPartitions >= 0, "Dispatch partitions must be greater or equal to zero");
+		this.dispatchPartitions = dispatchPartitions;
+	}
+
+	/**
+	 * Specify the capacity of the dispatch queue bounding the number of messages received but not yet handed to a
+	 * listener. With {@link #setDispatchPartitions(int) dispatch partitions}, the capacity applies to each partition and
+	 * defaults to {@link #DEFAULT_DISPATCH_QUEUE_CAPACITY}. Otherwise, the capacity limits the number of messages
+	 * submitted to the {@link #setTaskExecutor(Executor) task executor} including messages in process by a listener and
+	 * dispatch is unbounded by default. Receiving
+	 * further messages while the queue is full applies the {@link #setDispatchOverflowPolicy(DispatchOverflowPolicy)
+	 * overflow policy}.
+	 *
+	 * @param dispatchQueueCapacity capacity of the dispatch queue. Must be greater than zero.
+	 * @since 3.1
+	 */
+	public void setDispatchQueueCapacity(int dispatchQueueCapacity) {
+
+		Assert.isTrue(dispatchQueueCapacity > 0, "Dispatch queue capacity must be greater than zero");
+		this.dispatchQueueCapacity = dispatchQueueCapacity;
+	}
+
+	/**
+	 * Specify the {@link DispatchOverflowPolicy} to apply when receiving messages while the
+	 * {@link #setDispatchQueueCapacity(int) dispatch queue} is full. The default is
+	 * {@link DispatchOverflowPolicy#DROP_NEWEST}. {@link DispatchOverflowPolicy#BLOCK} is only supported with drivers
+	 * using a blocking subscription as blocking the I/O thread of a non-blocking driver stalls the connection.
+	 *
+	 * @param dispatchOverflowPolicy must not be {@literal null}.
+	 * @since 3.1
+	 * @see #setDroppedMessageHandler(DroppedMessageHandler)
+	 */
+	public void setDispatchOverflowPolicy(DispatchOverflowPolicy dispatchOverflowPolicy) {
+
+		Assert.notNull(dispatchOverflowPolicy, "DispatchOverflowPolicy must not be null");
+		this.dispatchOverflowPolicy = dispatchOverflowPolicy;
+	}
+
+	/**
+	 * Set a {@link DroppedMessageHandler} to be notified about messages dropped according to the
+	 * {@link #setDispatchOverflowPolicy(DispatchOverflowPolicy) overflow policy} or rejected by the
+	 * {@link #setTaskExecutor(Executor) task executor} while dispatch is bounded by a
+	 * {@link #setDispatchQueueCapacity(int) dispatch queue capacity}. Without a capacity, rejections propagate to the
+	 * subscription. By default, dropped messages are logged at debug level.
+	 *
+	 * @param droppedMessageHandler the handler. Can be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setDroppedMessageHandler(@Nullable DroppedMessageHandler droppedMessageHandler) {
+		this.droppedMessageHandler = droppedMessageHandler;
+	}
+
+	/**
+	 * Return {@link DispatchMetrics} about messages dispatched by this container. Metrics are recorded only if
+	 * {@link #setDispatchPartitions(int) dispatch partitions} or a {@link #setDispatchQueueCapacity(int) dispatch queue
+	 * capacity} are configured.
+	 *
+	 * @return the dispatch metrics.
+	 * @since 3.1
+	 */
+	public DispatchMetrics getDispatchMetrics() {
+		return dispatchStatistics;
+	}
+
+	/**
+	 * Specify the {@link Function} extracting the partition key from a {@link Message}. {@code byte[]} keys are compared
+	 * by their contents, other keys by their {@link Object#hashCode()}. By default, messages are partitioned by their
+	 * {@link Message#getChannel() channel}. Applies only if {@link #setDispatchPartitions(int) dispatch partitions} are
+	 * configured.
+	 *
+	 * @param dispatchPartitionKeyExtractor the key extractor. Can be {@literal null} to partition by channel.
+	 * @since 3.1
+	 */
+	public void setDispatchPartitionKeyExtractor(@Nullable Function<Message, ?> dispatchPartitionKeyExtractor) {
+		this.dispatchPartitionKeyExtractor = dispatchPartitionKeyExtractor;
+	}
+
+	/**
+	 * Specify the maximum number of messages delivered at once to a {@link BatchMessageListener}. Batches consist of
+	 * messages queued on the same partition lane for the same listener and source that the listener receives
+	 * consecutively and are never held back to wait for further messages. The default is {@code 1}, disabling batching. Applies only if
+	 * {@link #setDispatchPartitions(int) dispatch partitions} are configured.
+	 *
+	 * @param maxBatchSize the maximum batch size. Must be greater than zero.
+	 * @since 3.1
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	private PartitionedMessageDispatcher createPartitionedDispatcher() {
+
+		Function<Message, ?> keyExtractor = this.dispatchPartitionKeyExtractor;
+
+		int capacity = dispatchQueueCapacity > 0 ? dispatchQueueCapacity : DEFAULT_DISPATCH_QUEUE_CAPACITY;
+
+		ToIntFunction<Message> partitioner = message -> {
+
+			Object key = keyExtractor != null ? keyExtractor.apply(message) : message.getChannel();
+			return key instanceof byte[] ? Arrays.hashCode((byte[]) key) : ObjectUtils.nullSafeHashCode(key);
+		};
+
+		return new PartitionedMessageDispatcher(dispatchPartitions, partition -> createDispatchQueue(capacity),
+				maxBatchSize, partitioner, new PartitionedMessageDispatcher.MessageProcessor() {
+
+			@Override
+			public void processMessage(MessageListener listener, Message message, byte[] source) {
+				RedisMessageListenerContainer.this.processMessage(listener, message, source);
+			}
+
+			@Override
+			public void processMessages(BatchMessageListener listener, List<Message> messages, byte[] source) {
+				RedisMessageListenerContainer.this.processMessages(listener, messages, source);
+			}
+		});
+	}
+
+	private DispatchQueue createDispatchQueue(int capacity) {
+		return new DispatchQueue(capacity, dispatchOverflowPolicy, dispatchStatistics, this::handleDroppedMessage);
+	}
+
+	private void handleDroppedMessage(MessageDelivery delivery) {
+
+		if (droppedMessageHandler == null) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Dropped message received on channel '%s'",
+						new String(delivery.message.getChannel())));
+			}
+			return;
+		}
+
+		try {
+			droppedMessageHandler.handleDroppedMessage(delivery.listener, delivery.message, delivery.source);
+		} catch (Throwable ex) {
+			handleListenerException(ex);
+		}
+	}
+
 	private Subscriber createSubscriber(RedisConnectionFactory connectionFactory, Executor executor) {
 		return ConnectionUtils.isAsync(connectionFactory) ? new Subscriber(connectionFactory)
 				: new BlockingSubscriber(connectionFactory, executor);
@@ -848,6 +1060,23 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		}
 	}
 
+	/**
+	 * Process a batch of messages received from the provider through a dispatch partition.
+	 *
+	 * @param listener the batch message listener to notify.
+	 * @param messages the received messages in order of their arrival.
+	 * @param source the source, either the channel or pattern.
+	 * @see #handleListenerException
+	 * @since 3.1
+	 */
+	protected void processMessages(BatchMessageListener listener, List<Message> messages, byte[] source) {
+		try {
+			listener.onMessages(messages, source);
+		} catch (Throwable ex) {
+			handleListenerException(ex);
+		}
+	}
+
 	/**
 	 * Handle the given exception that arose during listener execution.
 	 * <p>
@@ -989,11 +1218,50 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		byte[] source = (pattern != null ? pattern.clone() : message.getChannel());
 
 		Executor executor = getRequiredTaskExecutor();
+		PartitionedMessageDispatcher dispatcher = this.partitionedDispatcher;
+		DispatchQueue queue = this.dispatchQueue;
+
+		if (dispatcher != null) {
+			dispatcher.dispatch(listeners, message, source);
+			return;
+		}
+
+		if (queue != null) {
+			for (MessageListener messageListener : listeners) {
+
+				MessageDelivery delivery = new MessageDelivery(messageListener, message, source);
+
+				if (queue.offer(delivery)) {
+					try {
+						executor.execute(() -> processDelivery(queue, delivery));
+					} catch (RejectedExecutionException ex) {
+						// no task left to pick up the delivery
+						queue.drop(delivery);
+					}
+				}
+			}
+			return;
+		}
+
 		for (MessageListener messageListener : listeners) {
 			executor.execute(() -> processMessage(messageListener, message, source));
 		}
 	}
 
+	private void processDelivery(DispatchQueue queue, MessageDelivery delivery) {
+
+		// delivery replaced by a newer one according to the overflow policy
+		if (!queue.pollForProcessing(delivery)) {
+			return;
+		}
+
+		try {
+			processMessage(delivery.listener, delivery.message, delivery.source);
+		} finally {
+			queue.completed();
+		}
+	}
+
 	private boolean hasTopics() {
 		return !channelMapping.isEmpty() || !patternMapping.isEmpty();
 	}
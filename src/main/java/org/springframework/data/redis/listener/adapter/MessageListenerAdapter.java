@@ -15,10 +15,16 @@
  */
 package org.springframework.data.redis.listener.adapter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.logging.Log;
@@ -34,6 +40,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.ReflectionUtils.MethodFilter;
@@ -103,6 +110,11 @@ public class MessageListenerAdapter implements InitializingBean, MessageListener
 		private String methodName;
 		private Set<Method> methods;
 		private boolean lenient;
+		private final List<ListenerMethod> listenerMethods;
+
+		// listener methods resolved by payload type, without channel argument and by channel type
+		private final Map<Class<?>, ListenerMethod> withoutChannel = new ConcurrentReferenceHashMap<>();
+		private final Map<Class<?>, Map<Class<?>, ListenerMethod>> withChannel = new ConcurrentReferenceHashMap<>();
 
 		MethodInvoker(Object delegate, String methodName) {
 
@@ -120,28 +132,56 @@ public class MessageListenerAdapter implements InitializingBean, MessageListener
 
 			Assert.isTrue(lenient || !methods.isEmpty(), "Cannot find a suitable method named [" + c.getName() + "#"
 					+ methodName + "] - is the method public and has the proper arguments");
+
+			this.listenerMethods = new ArrayList<>(methods.size());
+			for (Method method : methods) {
+				listenerMethods.add(ListenerMethod.create(delegate, method));
+			}
 		}
 
 		void invoke(Object[] arguments) throws InvocationTargetException, IllegalAccessException {
 
-			Object[] message = new Object[] { arguments[0] };
+			Object message = arguments[0];
 
-			for (Method m : methods) {
-
-				Class<?>[] types = m.getParameterTypes();
-				Object[] args = //
-						types.length == 2 //
-								&& types[0].isInstance(arguments[0]) //
-								&& types[1].isInstance(arguments[1]) ? arguments : message;
-
-				if (!types[0].isInstance(args[0])) {
-					continue;
-				}
+			if (message == null) {
+				return;
+			}
 
-				m.invoke(delegate, args);
+			Object channel = arguments.length > 1 ? arguments[1] : null;
+			ListenerMethod listenerMethod = resolve(message.getClass(), channel != null ? channel.getClass() : null);
 
+			if (listenerMethod == ListenerMethod.NONE) {
 				return;
 			}
+
+			try {
+				listenerMethod.invoke(message, channel);
+			} catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+		}
+
+		/**
+		 * Resolve the listener method for the given payload and channel type. Resolution considers listener methods in the
+		 * same order as per-message matching: the first method accepting either the payload and channel or the payload only
+		 * wins.
+		 */
+		private ListenerMethod resolve(Class<?> payloadType, @Nullable Class<?> channelType) {
+
+			Map<Class<?>, ListenerMethod> cache = channelType != null
+					? withChannel.computeIfAbsent(channelType, key -> new ConcurrentReferenceHashMap<>())
+					: withoutChannel;
+
+			return cache.computeIfAbsent(payloadType, key -> {
+
+				for (ListenerMethod listenerMethod : listenerMethods) {
+					if (listenerMethod.accepts(key, channelType)) {
+						return listenerMethod;
+					}
+				}
+
+				return ListenerMethod.NONE;
+			});
 		}
 
 		/**
@@ -154,6 +194,66 @@ public class MessageListenerAdapter implements InitializingBean, MessageListener
 		}
 	}
 
+	/**
+	 * Listener method bound to its delegate as {@link MethodHandle} adapted to accept {@link Object} arguments.
+	 *
+	 * @since 3.1
+	 */
+	private static class ListenerMethod {
+
+		static final ListenerMethod NONE = new ListenerMethod(Object.class, null, MethodHandles.empty(
+				MethodType.methodType(void.class, Object.class, Object.class)));
+
+		private final Class<?> payloadType;
+		private final @Nullable Class<?> channelType;
+		private final MethodHandle handle;
+
+		private ListenerMethod(Class<?> payloadType, @Nullable Class<?> channelType, MethodHandle handle) {
+			this.payloadType = payloadType;
+			this.channelType = channelType;
+			this.handle = handle;
+		}
+
+		static ListenerMethod create(Object delegate, Method method) {
+
+			Class<?>[] types = method.getParameterTypes();
+			boolean acceptsChannel = types.length == 2;
+
+			try {
+
+				MethodHandle handle = MethodHandles.lookup().unreflect(method).bindTo(delegate);
+
+				// drop the channel argument for single-argument methods to invoke all methods using the same shape
+				if (!acceptsChannel) {
+					handle = MethodHandles.dropArguments(handle, 1, Object.class);
+				}
+
+				handle = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+				return new ListenerMethod(types[0], acceptsChannel ? types[1] : null, handle);
+			} catch (IllegalAccessException ex) {
+				throw new InvalidDataAccessApiUsageException(String.format("Cannot access listener method %s", method), ex);
+			}
+		}
+
+		/**
+		 * Check whether this method accepts a payload of the given type, and for methods declaring a channel parameter,
+		 * whether that parameter accepts a channel of the given type. Note that primitive parameter types never accept a
+		 * payload.
+		 */
+		boolean accepts(Class<?> type, @Nullable Class<?> channelType) {
+
+			if (payloadType.isPrimitive() || !payloadType.isAssignableFrom(type)) {
+				return false;
+			}
+
+			return this.channelType == null || (channelType != null && this.channelType.isAssignableFrom(channelType));
+		}
+
+		void invoke(Object message, @Nullable Object channel) throws Throwable {
+			handle.invokeExact(message, channel);
+		}
+	}
+
 	/**
 	 * Out-of-the-box value for the default listener method: "handleMessage".
 	 */
@@ -22,6 +22,7 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.springframework.data.domain.Range;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Point;
 import org.springframework.lang.Nullable;
@@ -39,11 +40,12 @@ public class RedisOperationChain {
 
 	private final Set<PathAndValue> sismember = new LinkedHashSet<>();
 	private final Set<PathAndValue> orSismember = new LinkedHashSet<>();
+	private final Set<RangePath> range = new LinkedHashSet<>();
 
 	private @Nullable NearPath near;
 
 	public boolean isEmpty() {
-		return near == null && sismember.isEmpty() && orSismember.isEmpty();
+		return near == null && sismember.isEmpty() && orSismember.isEmpty() && range.isEmpty();
 	}
 
 	public void sismember(String path, Object value) {
@@ -74,6 +76,36 @@ public class RedisOperationChain {
 		return orSismember;
 	}
 
+	/**
+	 * Add a range criterion. Range criteria are combined using {@literal AND} with each other and with
+	 * {@link #getSismember() sismember} criteria.
+	 *
+	 * @param path the property path.
+	 * @param range the range of property values.
+	 * @since 3.1
+	 */
+	public void range(String path, Range<Object> range) {
+		range(new RangePath(path, range));
+	}
+
+	/**
+	 * @param rangePath must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void range(RangePath rangePath) {
+
+		Assert.notNull(rangePath, "RangePath must not be null");
+		range.add(rangePath);
+	}
+
+	/**
+	 * @return the range criteria.
+	 * @since 3.1
+	 */
+	public Set<RangePath> getRange() {
+		return range;
+	}
+
 	public void near(NearPath near) {
 
 		Assert.notNull(near, "Near must not be null");
@@ -167,4 +199,22 @@ public class RedisOperationChain {
 			return (Distance) it.next();
 		}
 	}
+
+	/**
+	 * Path and {@link Range} of property values to be evaluated against a sort index.
+	 *
+	 * @author agent
+	 * @since 3.1
+	 */
+	public static class RangePath extends PathAndValue {
+
+		public RangePath(String path, Range<Object> range) {
+			super(path, range);
+		}
+
+		@SuppressWarnings("unchecked")
+		public Range<Object> getRange() {
+			return (Range<Object>) getFirstValue();
+		}
+	}
 }
@@ -18,6 +18,8 @@ package org.springframework.data.redis.repository.query;
 import java.util.Iterator;
 
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Range.Bound;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
@@ -65,6 +67,24 @@ public class RedisQueryCreator extends AbstractQueryCreator<KeyValueQuery<RedisO
 			case NEAR:
 				sink.near(getNearPath(part, iterator));
 				break;
+			case GREATER_THAN:
+			case AFTER:
+				sink.range(part.getProperty().toDotPath(), Range.of(Bound.exclusive(iterator.next()), Bound.unbounded()));
+				break;
+			case GREATER_THAN_EQUAL:
+				sink.range(part.getProperty().toDotPath(), Range.of(Bound.inclusive(iterator.next()), Bound.unbounded()));
+				break;
+			case LESS_THAN:
+			case BEFORE:
+				sink.range(part.getProperty().toDotPath(), Range.of(Bound.unbounded(), Bound.exclusive(iterator.next())));
+				break;
+			case LESS_THAN_EQUAL:
+				sink.range(part.getProperty().toDotPath(), Range.of(Bound.unbounded(), Bound.inclusive(iterator.next())));
+				break;
+			case BETWEEN:
+				sink.range(part.getProperty().toDotPath(),
+						Range.of(Bound.inclusive(iterator.next()), Bound.inclusive(iterator.next())));
+				break;
 			default:
 				throw new IllegalArgumentException(String.format("%s is not supported for Redis query derivation", part.getType()));
 		}
@@ -79,6 +99,11 @@ public class RedisQueryCreator extends AbstractQueryCreator<KeyValueQuery<RedisO
 
 	@Override
 	protected RedisOperationChain or(RedisOperationChain base, RedisOperationChain criteria) {
+
+		if (!base.getRange().isEmpty() || !criteria.getRange().isEmpty()) {
+			throw new InvalidDataAccessApiUsageException("Range criteria cannot be combined using OR");
+		}
+
 		base.orSismember(criteria.getSismember());
 		return base;
 	}
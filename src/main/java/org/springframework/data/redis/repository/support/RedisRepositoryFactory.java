@@ -73,6 +73,10 @@ public class RedisRepositoryFactory extends KeyValueRepositoryFactory {
 		super(keyValueOperations, queryCreator, repositoryQueryType);
 
 		this.operations = keyValueOperations;
+
+		if (keyValueOperations.getMappingContext() instanceof RedisMappingContext mappingContext) {
+			addQueryCreationListener(new SortIndexQueryCreationListener(mappingContext));
+		}
 	}
 
 	@Override
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.repository.support;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.keyvalue.repository.query.KeyValuePartTreeQuery;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.redis.core.index.IndexDefinition;
+import org.springframework.data.redis.core.index.SortIndexDefinition;
+import org.springframework.data.redis.core.index.SortIndexed;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
+import org.springframework.data.repository.core.support.QueryCreationListener;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * {@link QueryCreationListener} verifying that range criteria ({@literal GreaterThan}, {@literal LessThan},
+ * {@literal Between}, …) of derived queries refer to properties backed by a sort index. Range queries are evaluated
+ * against the sort index only, so a missing index would silently yield empty results.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class SortIndexQueryCreationListener implements QueryCreationListener<KeyValuePartTreeQuery> {
+
+	private static final Set<Type> RANGE_TYPES = EnumSet.of(Type.GREATER_THAN, Type.AFTER, Type.GREATER_THAN_EQUAL,
+			Type.LESS_THAN, Type.BEFORE, Type.LESS_THAN_EQUAL, Type.BETWEEN);
+
+	private final RedisMappingContext mappingContext;
+
+	SortIndexQueryCreationListener(RedisMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	@Override
+	public void onCreation(KeyValuePartTreeQuery query) {
+
+		QueryMethod method = query.getQueryMethod();
+		Class<?> domainType = method.getEntityInformation().getJavaType();
+		RedisPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(domainType);
+
+		for (Part part : new PartTree(method.getName(), domainType).getParts()) {
+
+			if (RANGE_TYPES.contains(part.getType()) && !hasSortIndex(entity.getKeySpace(), part.getProperty())) {
+				throw new InvalidDataAccessApiUsageException(String.format(
+						"Query method %s uses %s on property '%s' that is not sort indexed; Annotate the property with @SortIndexed or register a SortIndexDefinition",
+						method, part.getType(), part.getProperty().toDotPath()));
+			}
+		}
+	}
+
+	private boolean hasSortIndex(String keyspace, PropertyPath path) {
+
+		RedisPersistentProperty property = mappingContext.getPersistentPropertyPath(path).getLeafProperty();
+
+		if (property != null && property.isAnnotationPresent(SortIndexed.class)) {
+			return true;
+		}
+
+		for (IndexDefinition definition : mappingContext.getMappingConfiguration().getIndexConfiguration()
+				.getIndexDefinitionsFor(keyspace, path.toDotPath())) {
+
+			if (definition instanceof SortIndexDefinition) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
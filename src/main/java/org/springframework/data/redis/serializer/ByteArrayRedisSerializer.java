@@ -15,6 +15,9 @@
  */
 package org.springframework.data.redis.serializer;
 
+import java.nio.ByteBuffer;
+
+import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.lang.Nullable;
 
 /**
@@ -23,7 +26,7 @@ import org.springframework.lang.Nullable;
  * @author Mark Paluch
  * @since 2.2
  */
-enum ByteArrayRedisSerializer implements RedisSerializer<byte[]> {
+enum ByteArrayRedisSerializer implements RedisSerializer<byte[]>, RedisElementReader<byte[]> {
 
 	INSTANCE;
 
@@ -38,4 +41,11 @@ enum ByteArrayRedisSerializer implements RedisSerializer<byte[]> {
 	public byte[] deserialize(@Nullable byte[] bytes) throws SerializationException {
 		return bytes;
 	}
+
+	@Override
+	public byte[] read(ByteBuffer buffer) {
+
+		// always copy, the buffer may be backed by storage the driver reuses
+		return ByteUtils.getBytes(buffer);
+	}
 }
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.util.Arrays;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link RedisSerializer} decorator compressing the binary representation produced by a delegate
+ * {@link RedisSerializer} once it exceeds a configurable size threshold.
+ * <p>
+ * Compressed values are prefixed with a header consisting of {@link #MAGIC magic bytes}, the {@link Codec} identifier
+ * and the uncompressed payload length. Values without that header are handed to the delegate as-is which allows
+ * compressed and uncompressed values to coexist, e.g. while rolling out compression for an existing data set. Payloads
+ * that would be mistaken for a compressed value are stored with a {@link Codec#NONE pass-through} header.
+ * <p>
+ * An optional preset dictionary (see {@link Deflater#setDictionary(byte[])}) improves the compression ratio for small
+ * and similar values, such as JSON documents sharing the same property names. Values written with a dictionary can only
+ * be read by a serializer configured with the very same dictionary.
+ * <p>
+ * The uncompressed length stored in the header is validated against the {@link #withMaxLength(int) maximum length} and
+ * the highest ratio {@literal DEFLATE} can achieve before allocating the target buffer, so corrupt values fail with
+ * {@link SerializationException} instead of exhausting memory.
+ * <p>
+ * Instances are immutable and can be used with
+ * {@link org.springframework.data.redis.cache.RedisCacheConfiguration#serializeValuesWith(RedisSerializationContext.SerializationPair)}
+ * via {@link RedisSerializationContext.SerializationPair#fromSerializer(RedisSerializer)} or directly as
+ * {@link org.springframework.data.redis.core.RedisTemplate#setValueSerializer(RedisSerializer) template serializer}.
+ *
+ * @author agent
+ * @since 3.1
+ * @param <T> the type of the value.
+ */
+public class CompressingRedisSerializer<T> implements RedisSerializer<T> {
+
+	/**
+	 * Magic bytes identifying a compressed value. {@code 0xFE} is neither valid in {@literal UTF-8} nor used as leading
+	 * byte by JSON or the Java serialization stream protocol.
+	 */
+	static final byte[] MAGIC = { (byte) 0xFE, (byte) 0xC5 };
+
+	static final int HEADER_LENGTH = MAGIC.length + 1 + Integer.BYTES;
+
+	/**
+	 * Default size in bytes a serialized value needs to exceed to get compressed.
+	 */
+	public static final int DEFAULT_THRESHOLD = 1024;
+
+	/**
+	 * Default maximum length in bytes of a decompressed value, matching the maximum size of a Redis string.
+	 */
+	public static final int DEFAULT_MAX_LENGTH = 512 * 1024 * 1024;
+
+	/**
+	 * Upper bound of the {@literal DEFLATE} compression ratio.
+	 */
+	private static final int MAX_COMPRESSION_RATIO = 1032;
+
+	private final RedisSerializer<T> delegate;
+	private final int threshold;
+	private final Codec codec;
+	private final @Nullable byte[] dictionary;
+	private final long dictionaryChecksum;
+	private final int maxLength;
+
+	/**
+	 * Creates a new {@link CompressingRedisSerializer} using {@link Codec#DEFLATE} for values larger than
+	 * {@link #DEFAULT_THRESHOLD}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CompressingRedisSerializer(RedisSerializer<T> delegate) {
+		this(delegate, DEFAULT_THRESHOLD, Codec.DEFLATE, null);
+	}
+
+	/**
+	 * Creates a new {@link CompressingRedisSerializer}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param threshold minimum size in bytes of the serialized value to apply compression. Must be zero or greater.
+	 * @param codec must not be {@literal null}.
+	 * @param dictionary optional preset dictionary. Can be {@literal null}.
+	 */
+	public CompressingRedisSerializer(RedisSerializer<T> delegate, int threshold, Codec codec,
+			@Nullable byte[] dictionary) {
+		this(delegate, threshold, codec, dictionary, DEFAULT_MAX_LENGTH);
+	}
+
+	private CompressingRedisSerializer(RedisSerializer<T> delegate, int threshold, Codec codec,
+			@Nullable byte[] dictionary, int maxLength) {
+
+		Assert.notNull(delegate, "Delegate RedisSerializer must not be null");
+		Assert.isTrue(threshold >= 0, "Threshold must be greater or equal to zero");
+		Assert.notNull(codec, "Codec must not be null");
+		Assert.isTrue(maxLength > 0, "Max length must be greater than zero");
+
+		this.delegate = delegate;
+		this.threshold = threshold;
+		this.codec = codec;
+		this.dictionary = ObjectUtils.isEmpty(dictionary) ? null : dictionary.clone();
+		this.dictionaryChecksum = this.dictionary != null ? checksum(this.dictionary) : -1;
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * Create a new {@link CompressingRedisSerializer} applying the given {@code threshold}.
+	 *
+	 * @param threshold minimum size in bytes of the serialized value to apply compression. Must be zero or greater.
+	 * @return new instance of {@link CompressingRedisSerializer}.
+	 */
+	public CompressingRedisSerializer<T> withThreshold(int threshold) {
+		return new CompressingRedisSerializer<>(delegate, threshold, codec, dictionary, maxLength);
+	}
+
+	/**
+	 * Create a new {@link CompressingRedisSerializer} using the given {@link Codec}.
+	 *
+	 * @param codec must not be {@literal null}.
+	 * @return new instance of {@link CompressingRedisSerializer}.
+	 */
+	public CompressingRedisSerializer<T> withCodec(Codec codec) {
+		return new CompressingRedisSerializer<>(delegate, threshold, codec, dictionary, maxLength);
+	}
+
+	/**
+	 * Create a new {@link CompressingRedisSerializer} using the given preset {@code dictionary}. A dictionary is
+	 * typically obtained by concatenating frequently occurring byte sequences of representative values, most common ones
+	 * at the end.
+	 *
+	 * @param dictionary must not be {@literal null}.
+	 * @return new instance of {@link CompressingRedisSerializer}.
+	 */
+	public CompressingRedisSerializer<T> withDictionary(byte[] dictionary) {
+
+		Assert.notNull(dictionary, "Dictionary must not be null");
+
+		return new CompressingRedisSerializer<>(delegate, threshold, codec, dictionary, maxLength);
+	}
+
+	/**
+	 * Create a new {@link CompressingRedisSerializer} rejecting values that decompress to more than {@code maxLength}
+	 * bytes.
+	 *
+	 * @param maxLength maximum length in bytes of a decompressed value. Must be greater than zero.
+	 * @return new instance of {@link CompressingRedisSerializer}.
+	 */
+	public CompressingRedisSerializer<T> withMaxLength(int maxLength) {
+		return new CompressingRedisSerializer<>(delegate, threshold, codec, dictionary, maxLength);
+	}
+
+	@Nullable
+	@Override
+	public byte[] serialize(@Nullable T value) throws SerializationException {
+
+		byte[] raw = delegate.serialize(value);
+
+		if (raw == null || raw.length == 0) {
+			return raw;
+		}
+
+		// compression pays off only if header and compressed payload are smaller than the raw value
+		int limit = raw.length - HEADER_LENGTH;
+
+		if (raw.length < threshold || codec == Codec.NONE || limit <= 0) {
+			return passThrough(raw);
+		}
+
+		Deflater deflater = new Deflater(codec.level);
+
+		try {
+
+			if (dictionary != null) {
+				deflater.setDictionary(dictionary);
+			}
+
+			deflater.setInput(raw);
+			deflater.finish();
+
+			byte[] buffer = new byte[limit];
+			int length = 0;
+
+			while (!deflater.finished() && length < buffer.length) {
+				length += deflater.deflate(buffer, length, buffer.length - length);
+			}
+
+			if (!deflater.finished()) {
+				return passThrough(raw);
+			}
+
+			return encode(codec, raw, buffer, length);
+		} finally {
+			deflater.end();
+		}
+	}
+
+	@Nullable
+	@Override
+	public T deserialize(@Nullable byte[] bytes) throws SerializationException {
+
+		if (!isCompressed(bytes)) {
+			return delegate.deserialize(bytes);
+		}
+
+		Codec codec = Codec.from(bytes[MAGIC.length]);
+		int length = readLength(bytes);
+		int payloadLength = bytes.length - HEADER_LENGTH;
+
+		if (codec == Codec.NONE) {
+
+			if (length != payloadLength) {
+				throw new SerializationException(
+						String.format("Invalid length %d of uncompressed value with %d bytes", length, payloadLength));
+			}
+
+			return delegate.deserialize(Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length));
+		}
+
+		if (length > maxLength || length > (long) payloadLength * MAX_COMPRESSION_RATIO) {
+			throw new SerializationException(String.format(
+					"Cannot decompress value; Uncompressed length %d of %d compressed bytes exceeds the allowed length",
+					length, payloadLength));
+		}
+
+		return delegate.deserialize(decompress(bytes, length));
+	}
+
+	@Override
+	public boolean canSerialize(Class<?> type) {
+		return delegate.canSerialize(type);
+	}
+
+	@Override
+	public Class<?> getTargetType() {
+		return delegate.getTargetType();
+	}
+
+	/**
+	 * Check whether the given {@code bytes} carry the compression header.
+	 *
+	 * @param bytes can be {@literal null}.
+	 * @return {@literal true} if {@code bytes} start with the {@link #MAGIC magic bytes}.
+	 */
+	static boolean isCompressed(@Nullable byte[] bytes) {
+		return bytes != null && bytes.length >= HEADER_LENGTH && bytes[0] == MAGIC[0] && bytes[1] == MAGIC[1];
+	}
+
+	private static byte[] passThrough(byte[] raw) {
+		return isCompressed(raw) ? encode(Codec.NONE, raw, raw, raw.length) : raw;
+	}
+
+	private byte[] decompress(byte[] bytes, int length) {
+
+		Inflater inflater = new Inflater();
+
+		try {
+
+			inflater.setInput(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+
+			byte[] target = new byte[length];
+			int read = 0;
+
+			while (!inflater.finished()) {
+
+				int chunk = inflater.inflate(target, read, target.length - read);
+				read += chunk;
+
+				if (chunk == 0) {
+
+					if (inflater.needsDictionary()) {
+
+						if (dictionary == null || inflater.getAdler() != dictionaryChecksum) {
+							throw new SerializationException(
+									"Cannot decompress value; It was compressed using a dictionary that is not configured");
+						}
+
+						inflater.setDictionary(dictionary);
+						continue;
+					}
+
+					if (inflater.needsInput() || read == target.length) {
+						break;
+					}
+				}
+			}
+
+			if (!inflater.finished() || read != length) {
+				throw new SerializationException(
+						String.format("Cannot decompress value; Expected %d bytes but got %d", length, read));
+			}
+
+			return target;
+		} catch (DataFormatException ex) {
+			throw new SerializationException("Cannot decompress value", ex);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static byte[] encode(Codec codec, byte[] raw, byte[] payload, int payloadLength) {
+
+		byte[] result = new byte[HEADER_LENGTH + payloadLength];
+
+		result[0] = MAGIC[0];
+		result[1] = MAGIC[1];
+		result[2] = codec.id;
+		result[3] = (byte) (raw.length >>> 24);
+		result[4] = (byte) (raw.length >>> 16);
+		result[5] = (byte) (raw.length >>> 8);
+		result[6] = (byte) raw.length;
+
+		System.arraycopy(payload, 0, result, HEADER_LENGTH, payloadLength);
+		return result;
+	}
+
+	private static int readLength(byte[] bytes) {
+
+		int length = ((bytes[3] & 0xFF) << 24) | ((bytes[4] & 0xFF) << 16) | ((bytes[5] & 0xFF) << 8) | (bytes[6] & 0xFF);
+
+		if (length < 0) {
+			throw new SerializationException(String.format("Invalid uncompressed length %d", length));
+		}
+
+		return length;
+	}
+
+	private static long checksum(byte[] dictionary) {
+
+		Adler32 adler = new Adler32();
+		adler.update(dictionary);
+		return adler.getValue();
+	}
+
+	/**
+	 * Compression codecs supported by {@link CompressingRedisSerializer}. All codecs produce a {@literal zlib}
+	 * compatible stream and differ in their speed/ratio trade-off.
+	 */
+	public enum Codec {
+
+		/**
+		 * Pass-through codec. Values are not compressed.
+		 */
+		NONE((byte) 0, Deflater.NO_COMPRESSION),
+
+		/**
+		 * Fast compression favoring throughput over compression ratio.
+		 */
+		FAST((byte) 1, Deflater.BEST_SPEED),
+
+		/**
+		 * Default {@literal DEFLATE} compression.
+		 */
+		DEFLATE((byte) 2, Deflater.DEFAULT_COMPRESSION),
+
+		/**
+		 * {@literal DEFLATE} compression favoring compression ratio over throughput.
+		 */
+		BEST_COMPRESSION((byte) 3, Deflater.BEST_COMPRESSION);
+
+		private final byte id;
+		private final int level;
+
+		Codec(byte id, int level) {
+			this.id = id;
+			this.level = level;
+		}
+
+		static Codec from(byte id) {
+
+			for (Codec codec : values()) {
+				if (codec.id == id) {
+					return codec;
+				}
+			}
+
+			throw new SerializationException(String.format("Unknown compression codec %d", id));
+		}
+	}
+}
@@ -15,13 +15,18 @@
  */
 package org.springframework.data.redis.serializer;
 
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 
 import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
 
 /**
- * Default implementation of {@link RedisElementReader}.
+ * Default implementation of {@link RedisElementReader}. Serializers that implement {@link RedisElementReader}
+ * themselves read {@link ByteBuffer buffers} directly without copying the buffer contents into a {@code byte[]}
+ * unless a subclass overrides {@link RedisSerializer#deserialize(byte[])} without overriding
+ * {@link RedisElementReader#read(ByteBuffer)}.
  *
  * @author Mark Paluch
  * @author Christoph Strobl
@@ -31,8 +36,27 @@ class DefaultRedisElementReader<T> implements RedisElementReader<T> {
 
 	private final @Nullable RedisSerializer<T> serializer;
 
+	private final @Nullable RedisElementReader<T> serializerReader;
+
+	@SuppressWarnings("unchecked")
 	DefaultRedisElementReader(RedisSerializer<T> serializer) {
 		this.serializer = serializer;
+		this.serializerReader = serializer instanceof RedisElementReader && readsConsistently(serializer)
+				? (RedisElementReader<T>) serializer
+				: null;
+	}
+
+	/**
+	 * Check whether {@link RedisElementReader#read(ByteBuffer)} is declared at least as specific as
+	 * {@link RedisSerializer#deserialize(byte[])} so that reading a buffer applies customizations of {@code deserialize}.
+	 */
+	private static boolean readsConsistently(RedisSerializer<?> serializer) {
+
+		Method deserialize = ReflectionUtils.findMethod(serializer.getClass(), "deserialize", byte[].class);
+		Method read = ReflectionUtils.findMethod(serializer.getClass(), "read", ByteBuffer.class);
+
+		return deserialize != null && read != null
+				&& deserialize.getDeclaringClass().isAssignableFrom(read.getDeclaringClass());
 	}
 
 	@Override
@@ -43,6 +67,10 @@ class DefaultRedisElementReader<T> implements RedisElementReader<T> {
 			return (T) buffer;
 		}
 
+		if (serializerReader != null) {
+			return serializerReader.read(buffer);
+		}
+
 		return serializer.deserialize(ByteUtils.extractBytes(buffer));
 	}
 
@@ -16,11 +16,13 @@
 package org.springframework.data.redis.serializer;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.function.Supplier;
 
 import org.springframework.cache.support.NullValue;
 import org.springframework.core.KotlinDetector;
+import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -56,7 +58,7 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
  * @author Mao Shuai
  * @since 1.6
  */
-public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Object> {
+public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Object>, RedisElementReader<Object> {
 
 	private final ObjectMapper mapper;
 
@@ -216,6 +218,17 @@ public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Objec
 		return deserialize(source, Object.class);
 	}
 
+	@Override
+	@Nullable
+	public Object read(ByteBuffer buffer) throws SerializationException {
+
+		// the array is only read during deserialization, the backing array can be used if the buffer spans it entirely
+		byte[] source = buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+				&& buffer.remaining() == buffer.array().length ? buffer.array() : ByteUtils.getBytes(buffer);
+
+		return deserialize(source, Object.class);
+	}
+
 	/**
 	 * @param source can be {@literal null}.
 	 * @param type must not be {@literal null}.
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.redis.serializer;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -41,7 +42,7 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
  * @author Mark Paluch
  * @since 1.2
  */
-public class Jackson2JsonRedisSerializer<T> implements RedisSerializer<T> {
+public class Jackson2JsonRedisSerializer<T> implements RedisSerializer<T>, RedisElementReader<T> {
 
 	/**
 	 * @deprecated since 3.0 for removal.
@@ -139,6 +140,21 @@ public class Jackson2JsonRedisSerializer<T> implements RedisSerializer<T> {
 		}
 	}
 
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public T read(ByteBuffer buffer) throws SerializationException {
+
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+		try {
+			return (T) this.reader.read(this.mapper, buffer, javaType);
+		} catch (Exception ex) {
+			throw new SerializationException("Could not read JSON: " + ex.getMessage(), ex);
+		}
+	}
+
 	@Override
 	public byte[] serialize(@Nullable Object t) throws SerializationException {
 
@@ -17,9 +17,13 @@ package org.springframework.data.redis.serializer;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.springframework.data.redis.util.ByteUtils;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * Defines the contract for Object Mapping readers. Implementations of this interface can deserialize a given byte array
@@ -45,13 +49,47 @@ public interface JacksonObjectReader {
 	 */
 	Object read(ObjectMapper mapper, byte[] source, JavaType type) throws IOException;
 
+	/**
+	 * Read an object graph from the given root JSON contained in a {@link ByteBuffer} into a Java object considering the
+	 * {@link JavaType}. The buffer is not consumed. The default implementation obtains the buffer contents as
+	 * {@code byte[]} and delegates to {@link #read(ObjectMapper, byte[], JavaType)}.
+	 *
+	 * @param mapper the object mapper to use.
+	 * @param source the JSON to deserialize.
+	 * @param type the Java target type
+	 * @return the deserialized Java object.
+	 * @throws IOException if an I/O error or JSON deserialization error occurs.
+	 * @since 3.1
+	 */
+	default Object read(ObjectMapper mapper, ByteBuffer source, JavaType type) throws IOException {
+		return read(mapper, ByteUtils.getBytes(source), type);
+	}
+
 	/**
 	 * Create a default {@link JacksonObjectReader} delegating to {@link ObjectMapper#readValue(InputStream, JavaType)}.
+	 * {@link ByteBuffer} sources are read in place without copying the buffer contents.
 	 *
 	 * @return the default {@link JacksonObjectReader}.
 	 */
 	static JacksonObjectReader create() {
-		return (mapper, source, type) -> mapper.readValue(source, 0, source.length, type);
+
+		return new JacksonObjectReader() {
+
+			@Override
+			public Object read(ObjectMapper mapper, byte[] source, JavaType type) throws IOException {
+				return mapper.readValue(source, 0, source.length, type);
+			}
+
+			@Override
+			public Object read(ObjectMapper mapper, ByteBuffer source, JavaType type) throws IOException {
+
+				if (source.hasArray()) {
+					return mapper.readValue(source.array(), source.arrayOffset() + source.position(), source.remaining(), type);
+				}
+
+				return mapper.readValue(new ByteBufferBackedInputStream(source.duplicate()), type);
+			}
+		};
 	}
 
 }
@@ -210,6 +210,23 @@ public interface RedisSerializationContext<K, V> {
 			return new RedisSerializerToSerializationPairAdapter<>(serializer);
 		}
 
+		/**
+		 * Creates a {@link SerializationPair} adapter given {@link RedisSerializer} compressing values exceeding
+		 * {@link CompressingRedisSerializer#DEFAULT_THRESHOLD} bytes.
+		 *
+		 * @param serializer must not be {@literal null}.
+		 * @return a compressing {@link SerializationPair} adapter for {@link RedisSerializer}.
+		 * @since 3.1
+		 * @see CompressingRedisSerializer
+		 */
+		static <T> SerializationPair<T> compressed(RedisSerializer<T> serializer) {
+
+			Assert.notNull(serializer, "RedisSerializer must not be null");
+
+			return fromSerializer(serializer instanceof CompressingRedisSerializer ? serializer
+					: new CompressingRedisSerializer<>(serializer));
+		}
+
 		/**
 		 * Creates a {@link SerializationPair} adapter given {@link RedisElementReader} and {@link RedisElementWriter}.
 		 *
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.redis.serializer;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -33,7 +34,7 @@ import org.springframework.util.Assert;
  * @author Christoph Strobl
  * @author Mark Paluch
  */
-public class StringRedisSerializer implements RedisSerializer<String> {
+public class StringRedisSerializer implements RedisSerializer<String>, RedisElementReader<String> {
 
 	private final Charset charset;
 
@@ -85,6 +86,16 @@ public class StringRedisSerializer implements RedisSerializer<String> {
 		return (bytes == null ? null : new String(bytes, charset));
 	}
 
+	@Override
+	public String read(ByteBuffer buffer) {
+
+		if (buffer.hasArray()) {
+			return new String(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), charset);
+		}
+
+		return charset.decode(buffer.duplicate()).toString();
+	}
+
 	@Override
 	public byte[] serialize(@Nullable String string) {
 		return (string == null ? null : string.getBytes(charset));
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.redis.connection.stream.Record;
+
+/**
+ * Listener interface to receive delivery of all {@link Record messages} obtained by a single poll at once.
+ *
+ * @author agent
+ * @param <K> Stream key and Stream field type.
+ * @param <V> Stream value type.
+ * @since 3.1
+ */
+@FunctionalInterface
+public interface BatchStreamListener<K, V extends Record<K, ?>> extends StreamListener<K, V> {
+
+	/**
+	 * Callback invoked on receiving a batch of {@link Record records}.
+	 *
+	 * @param messages never {@literal null} or empty, ordered by their position within the stream.
+	 */
+	void onMessages(List<V> messages);
+
+	/**
+	 * Process a single {@link Record} as batch of one record.
+	 *
+	 * @param message never {@literal null}.
+	 */
+	@Override
+	default void onMessage(V message) {
+		onMessages(Collections.singletonList(message));
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Value object holding options to recover pending records of a consumer group. Pending records that were not
+ * acknowledged for at least {@link #getMinIdleTime() min idle time}, typically because their consumer died, are claimed
+ * by the receiving consumer and delivered to the subscription alongside newly read records.
+ * <p>
+ * Records exceeding {@link #getMaxDeliveries() max deliveries} are not delivered to the subscription again but handed
+ * to the {@link DeadLetterHandler} and acknowledged afterwards.
+ *
+ * @author agent
+ * @since 3.1
+ * @see StreamMessageListenerContainer.ConsumerStreamReadRequestBuilder#claimPending(ClaimPendingOptions)
+ * @see StreamReceiver.StreamReceiverOptionsBuilder#claimPending(ClaimPendingOptions)
+ */
+public final class ClaimPendingOptions {
+
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
+	private static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(1);
+
+	private final Duration minIdleTime;
+	private final int batchSize;
+	private final Duration interval;
+	private final long maxDeliveries;
+	private final @Nullable DeadLetterHandler deadLetterHandler;
+
+	private ClaimPendingOptions(Duration minIdleTime, int batchSize, Duration interval, long maxDeliveries,
+			@Nullable DeadLetterHandler deadLetterHandler) {
+
+		this.minIdleTime = minIdleTime;
+		this.batchSize = batchSize;
+		this.interval = interval;
+		this.maxDeliveries = maxDeliveries;
+		this.deadLetterHandler = deadLetterHandler;
+	}
+
+	/**
+	 * Create new {@link ClaimPendingOptions} claiming records that were idle for at least {@code minIdleTime}.
+	 *
+	 * @param minIdleTime must not be {@literal null} or negative.
+	 * @return new instance of {@link ClaimPendingOptions}.
+	 */
+	public static ClaimPendingOptions minIdle(Duration minIdleTime) {
+
+		Assert.notNull(minIdleTime, "Min idle time must not be null");
+		Assert.isTrue(!minIdleTime.isNegative(), "Min idle time must not be negative");
+
+		return new ClaimPendingOptions(minIdleTime, DEFAULT_BATCH_SIZE, DEFAULT_INTERVAL, 0, null);
+	}
+
+	/**
+	 * Set the maximum number of pending records to inspect per claim run.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @return new instance of {@link ClaimPendingOptions}.
+	 */
+	public ClaimPendingOptions batchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+
+		return new ClaimPendingOptions(minIdleTime, batchSize, interval, maxDeliveries, deadLetterHandler);
+	}
+
+	/**
+	 * Set the minimum time between two claim runs.
+	 *
+	 * @param interval must not be {@literal null} or negative.
+	 * @return new instance of {@link ClaimPendingOptions}.
+	 */
+	public ClaimPendingOptions interval(Duration interval) {
+
+		Assert.notNull(interval, "Interval must not be null");
+		Assert.isTrue(!interval.isNegative(), "Interval must not be negative");
+
+		return new ClaimPendingOptions(minIdleTime, batchSize, interval, maxDeliveries, deadLetterHandler);
+	}
+
+	/**
+	 * Hand records that were delivered at least {@code maxDeliveries} times to the given {@link DeadLetterHandler}
+	 * instead of delivering them to the subscription again.
+	 *
+	 * @param maxDeliveries must be greater than zero.
+	 * @param deadLetterHandler must not be {@literal null}.
+	 * @return new instance of {@link ClaimPendingOptions}.
+	 */
+	public ClaimPendingOptions maxDeliveries(long maxDeliveries, DeadLetterHandler deadLetterHandler) {
+
+		Assert.isTrue(maxDeliveries > 0, "Max deliveries must be greater than zero");
+		Assert.notNull(deadLetterHandler, "DeadLetterHandler must not be null");
+
+		return new ClaimPendingOptions(minIdleTime, batchSize, interval, maxDeliveries, deadLetterHandler);
+	}
+
+	/**
+	 * @return the minimum idle time of a pending record to get claimed.
+	 */
+	public Duration getMinIdleTime() {
+		return minIdleTime;
+	}
+
+	/**
+	 * @return the maximum number of pending records to inspect per claim run.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @return the minimum time between two claim runs.
+	 */
+	public Duration getInterval() {
+		return interval;
+	}
+
+	/**
+	 * @return the number of deliveries after which a record is considered a dead letter. {@literal 0} if unlimited.
+	 */
+	public long getMaxDeliveries() {
+		return maxDeliveries;
+	}
+
+	/**
+	 * @return the {@link DeadLetterHandler}. Can be {@literal null}.
+	 */
+	@Nullable
+	public DeadLetterHandler getDeadLetterHandler() {
+		return deadLetterHandler;
+	}
+
+	/**
+	 * Check whether a pending record with the given {@code deliveryCount} is considered a dead letter.
+	 *
+	 * @param deliveryCount the total number of deliveries.
+	 * @return {@literal true} if the record exceeded {@link #getMaxDeliveries() max deliveries}.
+	 */
+	boolean isDeadLetter(long deliveryCount) {
+		return deadLetterHandler != null && maxDeliveries > 0 && deliveryCount >= maxDeliveries;
+	}
+
+	/**
+	 * Callback interface to handle records that exceeded the maximum number of deliveries.
+	 */
+	@FunctionalInterface
+	public interface DeadLetterHandler {
+
+		/**
+		 * Handle a dead letter {@link Record}. The record is acknowledged once this method returns normally.
+		 *
+		 * @param record the deserialized record.
+		 * @param deliveryCount total number of deliveries.
+		 */
+		void handleDeadLetter(Record<?, ?> record, long deliveryCount);
+	}
+}
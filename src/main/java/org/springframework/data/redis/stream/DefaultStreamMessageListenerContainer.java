@@ -17,9 +17,14 @@ package org.springframework.data.redis.stream;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -27,11 +32,15 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.RedisStreamCommands.XPendingOptions;
 import org.springframework.data.redis.connection.stream.ByteRecord;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessages;
 import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.connection.stream.StreamReadOptions;
 import org.springframework.data.redis.core.RedisCallback;
@@ -47,7 +56,9 @@ import org.springframework.util.ObjectUtils;
  * Simple {@link Executor} based {@link StreamMessageListenerContainer} implementation for running {@link Task tasks} to
  * poll on Redis Streams.
  * <p>
- * This message container creates long-running tasks that are executed on {@link Executor}.
+ * This message container creates long-running tasks that are executed on {@link Executor}. When
+ * {@link StreamMessageListenerContainerOptions#isMultiplexed() multiplexed}, compatible subscriptions share a
+ * {@link MultiplexedStreamPollTask}.
  *
  * @author Mark Paluch
  * @author Christoph Strobl
@@ -65,6 +76,10 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 	private final StreamMessageListenerContainerOptions<K, V> containerOptions;
 
 	private final List<Subscription> subscriptions = new ArrayList<>();
+	private final PollStatistics pollStatistics = new PollStatistics();
+
+	// multiplexed poll tasks by read mode
+	private final Map<Object, List<MultiplexedStreamPollTask>> multiplexedTasks = new HashMap<>();
 
 	private boolean running = false;
 
@@ -148,6 +163,12 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 					.filter(it -> it instanceof TaskSubscription) //
 					.map(TaskSubscription.class::cast) //
 					.map(TaskSubscription::getTask) //
+					.filter(it -> !(it instanceof StreamPollTask) || !((StreamPollTask<?, ?>) it).isMultiplexed()) //
+					.forEach(taskExecutor::execute);
+
+			multiplexedTasks.values().stream() //
+					.flatMap(List::stream) //
+					.filter(it -> !it.isActive()) //
 					.forEach(taskExecutor::execute);
 
 			running = true;
@@ -162,6 +183,7 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 			if (this.running) {
 
 				subscriptions.forEach(Cancelable::cancel);
+				multiplexedTasks.values().forEach(tasks -> tasks.forEach(Cancelable::cancel));
 
 				running = false;
 			}
@@ -183,19 +205,96 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 
 	@Override
 	public Subscription register(StreamReadRequest<K> streamRequest, StreamListener<K, V> listener) {
-		return doRegister(getReadTask(streamRequest, listener));
+
+		if (containerOptions.isMultiplexed()) {
+			return doRegisterMultiplexed(streamRequest, getReadTask(streamRequest, listener, null));
+		}
+
+		return doRegister(getReadTask(streamRequest, listener, getReadFunction(streamRequest)));
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private StreamPollTask<K, V> getReadTask(StreamReadRequest<K> streamRequest, StreamListener<K, V> listener) {
+	private StreamPollTask<K, V> getReadTask(StreamReadRequest<K> streamRequest, StreamListener<K, V> listener,
+			@Nullable BiFunction<ReadOffset, Integer, List<ByteRecord>> readFunction) {
 
-		Function<ReadOffset, List<ByteRecord>> readFunction = getReadFunction(streamRequest);
 		Function<ByteRecord, V> deserializerToUse = getDeserializer();
 
 		TypeDescriptor targetType = TypeDescriptor
 				.valueOf(containerOptions.hasHashMapper() ? containerOptions.getTargetType() : MapRecord.class);
 
-		return new StreamPollTask<>(streamRequest, listener, errorHandler, targetType, readFunction, deserializerToUse);
+		return new StreamPollTask<>(streamRequest, listener, errorHandler, targetType, readFunction, deserializerToUse,
+				getAcknowledgeFunction(streamRequest), taskExecutor, getClaimFunction(streamRequest), getPollControl());
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Function<RecordId[], Long> getAcknowledgeFunction(StreamReadRequest<K> streamRequest) {
+
+		if (!(streamRequest instanceof StreamMessageListenerContainer.ConsumerStreamReadRequest)) {
+			return null;
+		}
+
+		ConsumerStreamReadRequest<K> consumerStreamRequest = (ConsumerStreamReadRequest<K>) streamRequest;
+
+		if (!consumerStreamRequest.isAcknowledgeAfterProcessing() && consumerStreamRequest.getClaimPendingOptions() == null) {
+			return null;
+		}
+
+		byte[] rawKey = ((RedisSerializer<K>) template.getKeySerializer())
+				.serialize(streamRequest.getStreamOffset().getKey());
+		String group = consumerStreamRequest.getConsumer().getGroup();
+
+		return (recordIds) -> template
+				.execute((RedisCallback<Long>) connection -> connection.streamCommands().xAck(rawKey, group, recordIds));
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Supplier<PendingRecordsRecovery.ClaimedRecords> getClaimFunction(StreamReadRequest<K> streamRequest) {
+
+		if (!(streamRequest instanceof StreamMessageListenerContainer.ConsumerStreamReadRequest)
+				|| ((ConsumerStreamReadRequest<K>) streamRequest).getClaimPendingOptions() == null) {
+			return null;
+		}
+
+		ConsumerStreamReadRequest<K> consumerStreamRequest = (ConsumerStreamReadRequest<K>) streamRequest;
+		PendingRecordsRecovery recovery = new PendingRecordsRecovery(consumerStreamRequest.getClaimPendingOptions());
+
+		byte[] rawKey = ((RedisSerializer<K>) template.getKeySerializer())
+				.serialize(streamRequest.getStreamOffset().getKey());
+		Consumer consumer = consumerStreamRequest.getConsumer();
+		boolean autoAck = consumerStreamRequest.isAutoAcknowledge();
+		Duration minIdleTime = recovery.getOptions().getMinIdleTime();
+
+		return () -> {
+
+			if (!recovery.isDue()) {
+				return PendingRecordsRecovery.ClaimedRecords.EMPTY;
+			}
+
+			XPendingOptions pendingOptions = recovery.start();
+			PendingRecordsRecovery.Selection selection = recovery.select(template.execute(
+					(RedisCallback<PendingMessages>) connection -> connection.streamCommands().xPending(rawKey,
+							consumer.getGroup(), pendingOptions)));
+
+			if (selection.isEmpty()) {
+				return PendingRecordsRecovery.ClaimedRecords.EMPTY;
+			}
+
+			PendingRecordsRecovery.ClaimedRecords claimed = recovery.claimed(template.execute(
+					(RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands().xClaim(rawKey,
+							consumer.getGroup(), consumer.getName(), XClaimOptions.minIdle(minIdleTime).ids(selection.getIds()))),
+					selection);
+
+			if (autoAck && !claimed.getRecords().isEmpty()) {
+
+				RecordId[] ids = claimed.getRecords().stream().map(ByteRecord::getId).toArray(RecordId[]::new);
+				template.execute(
+						(RedisCallback<Long>) connection -> connection.streamCommands().xAck(rawKey, consumer.getGroup(), ids));
+			}
+
+			return claimed;
+		};
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
@@ -214,8 +313,19 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 		};
 	}
 
+	private PollControl getPollControl() {
+
+		return new PollControl(pollStatistics, containerOptions.getEmptyPollBackOff(),
+				containerOptions.getBatchSize().orElse(0), containerOptions.getMinBatchSize(),
+				containerOptions.getMaxBatchSize());
+	}
+
+	private StreamReadOptions getReadOptions(StreamReadOptions readOptions, int batchSize) {
+		return batchSize > 0 ? readOptions.count(batchSize) : readOptions;
+	}
+
 	@SuppressWarnings("unchecked")
-	private Function<ReadOffset, List<ByteRecord>> getReadFunction(StreamReadRequest<K> streamRequest) {
+	private BiFunction<ReadOffset, Integer, List<ByteRecord>> getReadFunction(StreamReadRequest<K> streamRequest) {
 
 		byte[] rawKey = ((RedisSerializer<K>) template.getKeySerializer())
 				.serialize(streamRequest.getStreamOffset().getKey());
@@ -228,12 +338,83 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 					: this.readOptions;
 			Consumer consumer = consumerStreamRequest.getConsumer();
 
-			return (offset) -> template.execute((RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands()
-					.xReadGroup(consumer, readOptions, StreamOffset.create(rawKey, offset)));
+			return (offset, batchSize) -> template.execute((RedisCallback<List<ByteRecord>>) connection -> connection
+					.streamCommands()
+					.xReadGroup(consumer, getReadOptions(readOptions, batchSize), StreamOffset.create(rawKey, offset)));
+		}
+
+		return (offset, batchSize) -> template.execute((RedisCallback<List<ByteRecord>>) connection -> connection
+				.streamCommands().xRead(getReadOptions(readOptions, batchSize), StreamOffset.create(rawKey, offset)));
+	}
+
+	@SuppressWarnings("unchecked")
+	private BiFunction<StreamOffset<byte[]>[], Integer, List<ByteRecord>> getMultiplexedReadFunction(
+			StreamReadRequest<K> streamRequest) {
+
+		if (streamRequest instanceof StreamMessageListenerContainer.ConsumerStreamReadRequest) {
+
+			ConsumerStreamReadRequest<K> consumerStreamRequest = (ConsumerStreamReadRequest<K>) streamRequest;
+
+			StreamReadOptions readOptions = consumerStreamRequest.isAutoAcknowledge() ? this.readOptions.autoAcknowledge()
+					: this.readOptions;
+			Consumer consumer = consumerStreamRequest.getConsumer();
+
+			return (offsets, batchSize) -> template.execute((RedisCallback<List<ByteRecord>>) connection -> connection
+					.streamCommands().xReadGroup(consumer, getReadOptions(readOptions, batchSize), offsets));
+		}
+
+		return (offsets, batchSize) -> template.execute((RedisCallback<List<ByteRecord>>) connection -> connection
+				.streamCommands().xRead(getReadOptions(readOptions, batchSize), offsets));
+	}
+
+	private static Object getMultiplexingKey(StreamReadRequest<?> streamRequest) {
+
+		if (streamRequest instanceof StreamMessageListenerContainer.ConsumerStreamReadRequest) {
+
+			ConsumerStreamReadRequest<?> consumerStreamRequest = (ConsumerStreamReadRequest<?>) streamRequest;
+			return Arrays.asList(consumerStreamRequest.getConsumer(), consumerStreamRequest.isAutoAcknowledge());
+		}
+
+		return StreamReadRequest.class;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Subscription doRegisterMultiplexed(StreamReadRequest<K> streamRequest, StreamPollTask<K, V> task) {
+
+		byte[] rawKey = ((RedisSerializer<K>) template.getKeySerializer())
+				.serialize(streamRequest.getStreamOffset().getKey());
+
+		Subscription subscription = new TaskSubscription(task);
+
+		synchronized (lifecycleMonitor) {
+
+			List<MultiplexedStreamPollTask> tasks = multiplexedTasks.computeIfAbsent(getMultiplexingKey(streamRequest),
+					key -> new ArrayList<>());
+
+			boolean added = false;
+			for (MultiplexedStreamPollTask candidate : tasks) {
+				if (candidate.addMember(rawKey, task)) {
+					added = true;
+					break;
+				}
+			}
+
+			this.subscriptions.add(subscription);
+
+			if (!added) {
+
+				MultiplexedStreamPollTask pollTask = new MultiplexedStreamPollTask(getMultiplexedReadFunction(streamRequest),
+						errorHandler, containerOptions.getPollTimeout(), getPollControl());
+				pollTask.addMember(rawKey, task);
+				tasks.add(pollTask);
+
+				if (this.running) {
+					taskExecutor.execute(pollTask);
+				}
+			}
 		}
 
-		return (offset) -> template.execute((RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands()
-				.xRead(readOptions, StreamOffset.create(rawKey, offset)));
+		return subscription;
 	}
 
 	private Subscription doRegister(Task task) {
@@ -252,6 +433,11 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 		return subscription;
 	}
 
+	@Override
+	public PollMetrics getPollMetrics() {
+		return pollStatistics;
+	}
+
 	@Override
 	public void remove(Subscription subscription) {
 
@@ -264,6 +450,13 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 				}
 
 				subscriptions.remove(subscription);
+
+				if (subscription instanceof TaskSubscription
+						&& ((TaskSubscription) subscription).getTask() instanceof StreamPollTask) {
+
+					StreamPollTask<?, ?> task = (StreamPollTask<?, ?>) ((TaskSubscription) subscription).getTask();
+					multiplexedTasks.values().forEach(tasks -> tasks.forEach(it -> it.removeMember(task)));
+				}
 			}
 		}
 	}
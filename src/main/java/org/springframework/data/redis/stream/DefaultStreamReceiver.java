@@ -23,12 +23,17 @@ import reactor.util.concurrent.Queues;
 import reactor.util.context.Context;
 
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -38,16 +43,20 @@ import org.reactivestreams.Subscription;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.RedisStreamCommands.XPendingOptions;
 import org.springframework.data.redis.connection.stream.ByteBufferRecord;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.connection.stream.StreamReadOptions;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.ReactiveStreamOperations;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.lang.Nullable;
 
 /**
  * Default implementation of {@link StreamReceiver}.
@@ -119,7 +128,7 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 
 			PollState pollState = PollState.standalone(streamOffset.getOffset());
 			return Flux.create(
-					sink -> new StreamSubscription(sink, streamOffset.getKey(), pollState, readFunction,
+					sink -> new StreamSubscription(sink, streamOffset.getKey(), pollState, readFunction, null,
 							receiverOptions.getResumeFunction()).arm());
 		});
 	}
@@ -139,9 +148,8 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 		return Flux.defer(() -> {
 
 			PollState pollState = PollState.consumer(consumer, streamOffset.getOffset());
-			return Flux.create(
-					sink -> new StreamSubscription(sink, streamOffset.getKey(), pollState, readFunction,
-							receiverOptions.getResumeFunction()).arm());
+			return Flux.create(sink -> new StreamSubscription(sink, streamOffset.getKey(), pollState, readFunction,
+					getClaimFunction(streamOffset.getKey(), consumer, true), receiverOptions.getResumeFunction()).arm());
 		});
 	}
 
@@ -158,9 +166,8 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 
 		return Flux.defer(() -> {
 			PollState pollState = PollState.consumer(consumer, streamOffset.getOffset());
-			return Flux.create(
-					sink -> new StreamSubscription(sink, streamOffset.getKey(), pollState, readFunction,
-							receiverOptions.getResumeFunction()).arm());
+			return Flux.create(sink -> new StreamSubscription(sink, streamOffset.getKey(), pollState, readFunction,
+					getClaimFunction(streamOffset.getKey(), consumer, false), receiverOptions.getResumeFunction()).arm());
 		});
 	}
 
@@ -176,6 +183,73 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 				StreamOffset.create(rawKey.asReadOnlyBuffer(), readOffset)));
 	}
 
+	/**
+	 * Create a claim function to recover pending records for a single subscription. Dead letters are handed to the
+	 * {@link ClaimPendingOptions.DeadLetterHandler} and acknowledged, other claimed records are emitted.
+	 */
+	@Nullable
+	private Supplier<Flux<ByteBufferRecord>> getClaimFunction(K key, Consumer consumer, boolean autoAck) {
+
+		ClaimPendingOptions options = receiverOptions.getClaimPendingOptions();
+
+		if (options == null) {
+			return null;
+		}
+
+		PendingRecordsRecovery recovery = new PendingRecordsRecovery(options);
+		ByteBuffer rawKey = template.getSerializationContext().getKeySerializationPair().write(key);
+		Function<ByteBufferRecord, V> deserializer = getDeserializer();
+		Duration minIdleTime = options.getMinIdleTime();
+
+		return () -> {
+
+			if (!recovery.isDue()) {
+				return Flux.empty();
+			}
+
+			XPendingOptions pendingOptions = recovery.start();
+
+			return template.execute(connection -> connection.streamCommands()
+					.xPending(rawKey.asReadOnlyBuffer(), consumer.getGroup(), pendingOptions.getRange(),
+							pendingOptions.getCount())
+					.map(recovery::select) //
+					.filter(selection -> !selection.isEmpty()) //
+					.flatMapMany(selection -> connection.streamCommands()
+							.xClaim(rawKey.asReadOnlyBuffer(), consumer.getGroup(), consumer.getName(),
+									XClaimOptions.minIdle(minIdleTime).ids(selection.getIds()))
+							.collectList().flatMapMany(records -> {
+
+								List<ByteBufferRecord> deliverable = new ArrayList<>(records.size());
+								List<RecordId> acknowledge = new ArrayList<>(records.size());
+
+								for (ByteBufferRecord record : records) {
+
+									if (selection.isDeadLetter(record.getId())) {
+
+										options.getDeadLetterHandler().handleDeadLetter(deserializer.apply(record),
+												selection.getDeliveryCount(record.getId()));
+										acknowledge.add(record.getId());
+										continue;
+									}
+
+									deliverable.add(record);
+
+									if (autoAck) {
+										acknowledge.add(record.getId());
+									}
+								}
+
+								if (acknowledge.isEmpty()) {
+									return Flux.fromIterable(deliverable);
+								}
+
+								return connection.streamCommands()
+										.xAck(rawKey.asReadOnlyBuffer(), consumer.getGroup(), acknowledge.toArray(new RecordId[0]))
+										.thenMany(Flux.fromIterable(deliverable));
+							})));
+		};
+	}
+
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private Function<ByteBufferRecord, V> getDeserializer() {
 
@@ -197,24 +271,31 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 	 */
 	class StreamSubscription {
 
-		private final Queue<V> overflow = Queues.<V> small().get();
+		private final int prefetch = receiverOptions.getPrefetch();
+
+		// prefetching subscriptions bound the buffer through the prefetch high watermark
+		private final Queue<V> overflow = prefetch > 0 ? Queues.<V> unbounded().get() : Queues.<V> small().get();
+		private final AtomicInteger drainWip = new AtomicInteger();
 
 		private final FluxSink<V> sink;
 		private final K key;
 		private final PollState pollState;
 		private final Function<ReadOffset, Flux<ByteBufferRecord>> readFunction;
+		private final @Nullable Supplier<Flux<ByteBufferRecord>> claimFunction;
 		private final Function<? super Throwable, ? extends Publisher<Void>> resumeFunction;
 		private final Function<ByteBufferRecord, V> deserializer;
 		private final TypeDescriptor targetType;
 
 		protected StreamSubscription(FluxSink<V> sink, K key, PollState pollState,
 				Function<ReadOffset, Flux<ByteBufferRecord>> readFunction,
+				@Nullable Supplier<Flux<ByteBufferRecord>> claimFunction,
 				Function<? super Throwable, ? extends Publisher<Void>> resumeFunction) {
 
 			this.sink = sink;
 			this.key = key;
 			this.pollState = pollState;
 			this.readFunction = readFunction;
+			this.claimFunction = claimFunction;
 			this.resumeFunction = resumeFunction;
 			this.deserializer = getDeserializer();
 			this.targetType = TypeDescriptor
@@ -265,6 +346,11 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 			if (logger.isDebugEnabled()) {
 				logger.debug(String.format("[stream: %s] scheduleIfRequired()", key));
 			}
+			if (isPrefetching()) {
+				// emit prefetched records even while a read is in flight
+				drainBuffer();
+			}
+
 			if (pollState.isScheduled()) {
 				if (logger.isDebugEnabled()) {
 					logger.debug(String.format("[stream: %s] scheduleIfRequired(): Already scheduled", key));
@@ -279,7 +365,18 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 				return;
 			}
 
-			if (pollState.getRequested() > 0 && !overflow.isEmpty()) {
+			if (isPrefetching()) {
+
+				if (overflow.size() >= prefetch) {
+
+					if (logger.isDebugEnabled()) {
+						logger.debug(String.format(
+								"[stream: %s] scheduleIfRequired(): Prefetch buffer full (%d); Suspending subscription", key,
+								overflow.size()));
+					}
+					return;
+				}
+			} else if (pollState.getRequested() > 0 && !overflow.isEmpty()) {
 				if (logger.isDebugEnabled()) {
 					logger.info(String.format("[stream: %s] scheduleIfRequired(): Requested: %d Emit from buffer", key,
 							pollState.getRequested()));
@@ -287,7 +384,7 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 				emitBuffer();
 			}
 
-			if (pollState.getRequested() == 0) {
+			if (!isPrefetching() && pollState.getRequested() == 0) {
 
 				if (logger.isDebugEnabled()) {
 					logger.debug(String
@@ -296,7 +393,7 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 				return;
 			}
 
-			if (pollState.getRequested() <= 0) {
+			if (!isPrefetching() && pollState.getRequested() <= 0) {
 				return;
 			}
 
@@ -316,24 +413,31 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 				Flux<ByteBufferRecord> poll = readFunction.apply(readOffset)
 						.onErrorResume(throwable -> Flux.from(resumeFunction.apply(throwable)).then().cast(ByteBufferRecord.class));
 
-				poll.map(it -> {
+				// claimed records are emitted ahead of the poll and do not advance the read offset
+				Flux<V> claimed = claimFunction != null ? Flux.defer(claimFunction).map(this::deserialize) : Flux.empty();
 
-					if (logger.isDebugEnabled()) {
-						logger.debug(String.format("[stream: %s] onStreamMessage(%s)", key, it));
-					}
+				claimed.concatWith(poll.map(it -> {
 
 					pollState.updateReadOffset(it.getId().getValue());
-
-					try {
-						return deserializer.apply(it);
-					} catch (RuntimeException e) {
-						throw new ConversionFailedException(TypeDescriptor.forObject(it), targetType, it, e);
-					}
-				}).onErrorResume(throwable -> Flux.from(resumeFunction.apply(throwable)).then().map(it -> (V) new Object())) //
+					return deserialize(it);
+				})).onErrorResume(throwable -> Flux.from(resumeFunction.apply(throwable)).then().map(it -> (V) new Object())) //
 						.subscribe(getSubscriber());
 			}
 		}
 
+		private V deserialize(ByteBufferRecord record) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("[stream: %s] onStreamMessage(%s)", key, record));
+			}
+
+			try {
+				return deserializer.apply(record);
+			} catch (RuntimeException e) {
+				throw new ConversionFailedException(TypeDescriptor.forObject(record), targetType, record, e);
+			}
+		}
+
 		private CoreSubscriber<V> getSubscriber() {
 
 			return new CoreSubscriber<V>() {
@@ -372,8 +476,22 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 			};
 		}
 
+		private boolean isPrefetching() {
+			return prefetch > 0;
+		}
+
 		private void onStreamMessage(V message) {
 
+			if (isPrefetching()) {
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("[stream: %s] onStreamMessage(%s): Buffering prefetched item", key, message));
+				}
+				overflow.offer(message);
+				drainBuffer();
+				return;
+			}
+
 			long requested = pollState.getRequested();
 
 			if (requested > 0) {
@@ -419,6 +537,23 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 			sink.error(t);
 		}
 
+		/**
+		 * Serialized variant of {@link #emitBuffer()} that can be called concurrently from the polling and requesting
+		 * threads while retaining record order.
+		 */
+		private void drainBuffer() {
+
+			if (drainWip.getAndIncrement() != 0) {
+				return;
+			}
+
+			int missed = 1;
+			do {
+				emitBuffer();
+				missed = drainWip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
 		private void emitBuffer() {
 
 			while (!overflow.isEmpty()) {
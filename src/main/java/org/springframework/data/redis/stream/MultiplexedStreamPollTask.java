@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * {@link Task} reading multiple Redis Streams through a single multi-key {@code XREAD} respective {@code XREADGROUP}
+ * call on behalf of its {@link StreamPollTask members}. Read records are demultiplexed by their stream key and emitted
+ * through the member owning the stream. Each member keeps its own read offset, error handling and cancellation state.
+ * Reads are paced by a {@link PollControl} shared by all members that determines the batch size of the next read and
+ * backs off after reads that did not return records for any member.
+ * <p>
+ * All members must be compatible, that is, use the same read mode (standalone or the same consumer with the same
+ * acknowledgement mode). A stream key can be read by only one member per multiplexed task.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class MultiplexedStreamPollTask implements Task {
+
+	private final Map<ByteArrayWrapper, StreamPollTask<?, ?>> members = new ConcurrentHashMap<>();
+	private final Queue<StreamPollTask<?, ?>> removedMembers = new ConcurrentLinkedQueue<>();
+	private final BiFunction<StreamOffset<byte[]>[], Integer, List<ByteRecord>> readFunction;
+	private final ErrorHandler errorHandler;
+	private final Duration idleTimeout;
+	private final PollControl pollControl;
+	private final Object idleMonitor = new Object();
+
+	private volatile State state = State.CREATED;
+	private volatile CountDownLatch awaitStart = new CountDownLatch(1);
+	private volatile boolean isInEventLoop = false;
+
+	/**
+	 * Create a new {@link MultiplexedStreamPollTask}.
+	 *
+	 * @param readFunction function reading records for the given stream offsets and batch size.
+	 * @param errorHandler error handler for errors not related to a particular member.
+	 * @param idleTimeout time to wait for members to be added while no member is active.
+	 * @param pollControl poll control to pace reads.
+	 */
+	MultiplexedStreamPollTask(BiFunction<StreamOffset<byte[]>[], Integer, List<ByteRecord>> readFunction,
+			ErrorHandler errorHandler, Duration idleTimeout, PollControl pollControl) {
+
+		this.readFunction = readFunction;
+		this.errorHandler = errorHandler;
+		this.idleTimeout = idleTimeout.isZero() ? Duration.ofMillis(100) : idleTimeout;
+		this.pollControl = pollControl;
+	}
+
+	/**
+	 * Add a member task reading the stream identified by {@code rawKey}.
+	 *
+	 * @param rawKey the binary stream key.
+	 * @param member the member task.
+	 * @return {@literal true} if the member was added; {@literal false} if this task already reads the stream.
+	 */
+	boolean addMember(byte[] rawKey, StreamPollTask<?, ?> member) {
+
+		if (members.putIfAbsent(new ByteArrayWrapper(rawKey), member) != null) {
+			return false;
+		}
+
+		if (state == State.RUNNING) {
+			member.attach();
+		}
+
+		synchronized (idleMonitor) {
+			idleMonitor.notifyAll();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Remove the given member task. Records processed by the member but not yet acknowledged are acknowledged before the
+	 * member is detached. While this task is running, the polling thread detaches the member after completing the
+	 * current poll.
+	 *
+	 * @param member the member task.
+	 */
+	void removeMember(StreamPollTask<?, ?> member) {
+
+		if (!isInEventLoop) {
+			detach(member);
+			return;
+		}
+
+		removedMembers.add(member);
+
+		synchronized (idleMonitor) {
+			idleMonitor.notifyAll();
+		}
+	}
+
+	private void detachRemovedMembers() {
+
+		StreamPollTask<?, ?> member;
+		while ((member = removedMembers.poll()) != null) {
+			detach(member);
+		}
+	}
+
+	private void detach(StreamPollTask<?, ?> member) {
+
+		// pending acknowledgements are accessed by the polling thread only
+		member.flushAcknowledgements();
+		members.values().remove(member);
+	}
+
+	@Override
+	public void cancel() throws DataAccessResourceFailureException {
+
+		awaitStart = new CountDownLatch(1);
+		state = State.CANCELLED;
+
+		synchronized (idleMonitor) {
+			idleMonitor.notifyAll();
+		}
+	}
+
+	@Override
+	public State getState() {
+		return state;
+	}
+
+	@Override
+	public boolean awaitStart(Duration timeout) throws InterruptedException {
+		return awaitStart.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public boolean isLongLived() {
+		return true;
+	}
+
+	@Override
+	public boolean isActive() {
+		return State.RUNNING.equals(getState()) || isInEventLoop;
+	}
+
+	@Override
+	public void run() {
+
+		state = State.STARTING;
+
+		try {
+
+			isInEventLoop = true;
+			state = State.RUNNING;
+
+			// members added concurrently attach themselves once the state is RUNNING
+			members.values().forEach(StreamPollTask::attach);
+			awaitStart.countDown();
+			doLoop();
+		} finally {
+			isInEventLoop = false;
+		}
+	}
+
+	private void doLoop() {
+
+		do {
+
+			try {
+
+				// allow interruption
+				Thread.sleep(0);
+
+				detachRemovedMembers();
+
+				Map<ByteArrayWrapper, StreamPollTask<?, ?>> active = getActiveMembers();
+
+				if (active.isEmpty()) {
+					awaitMembers();
+					continue;
+				}
+
+				active.values().forEach(StreamPollTask::recoverPendingRecords);
+
+				List<ByteRecord> records = readRecords(active);
+
+				if (!records.isEmpty()) {
+					emitRecords(active, records);
+				}
+
+				members.values().forEach(StreamPollTask::afterPoll);
+				awaitBackOff(pollControl.afterPoll(records.size()));
+			} catch (InterruptedException e) {
+
+				cancel();
+				Thread.currentThread().interrupt();
+			} catch (RuntimeException e) {
+				errorHandler.handleError(e);
+			}
+		} while (state == State.RUNNING);
+
+		members.values().forEach(StreamPollTask::flushAcknowledgements);
+		detachRemovedMembers();
+	}
+
+	/**
+	 * Collect members with an active subscription. Members whose subscription was cancelled without removing them are
+	 * detached so that they release their stream key.
+	 */
+	private Map<ByteArrayWrapper, StreamPollTask<?, ?>> getActiveMembers() {
+
+		Map<ByteArrayWrapper, StreamPollTask<?, ?>> active = new LinkedHashMap<>(members.size());
+
+		members.forEach((key, member) -> {
+			if (member.isSubscriptionActive()) {
+				active.put(key, member);
+			} else if (member.getState() == State.CANCELLED) {
+				detach(member);
+			}
+		});
+
+		return active;
+	}
+
+	private void awaitMembers() throws InterruptedException {
+
+		synchronized (idleMonitor) {
+			idleMonitor.wait(idleTimeout.toMillis());
+		}
+	}
+
+	private void awaitBackOff(long millis) throws InterruptedException {
+
+		if (millis <= 0) {
+			return;
+		}
+
+		synchronized (idleMonitor) {
+			if (state == State.RUNNING) {
+				idleMonitor.wait(millis);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<ByteRecord> readRecords(Map<ByteArrayWrapper, StreamPollTask<?, ?>> active) {
+
+		StreamOffset<byte[]>[] offsets = new StreamOffset[active.size()];
+		int index = 0;
+
+		for (Map.Entry<ByteArrayWrapper, StreamPollTask<?, ?>> entry : active.entrySet()) {
+			offsets[index++] = StreamOffset.create(entry.getKey().getArray(), entry.getValue().getCurrentReadOffset());
+		}
+
+		try {
+
+			List<ByteRecord> records = readFunction.apply(offsets, pollControl.getBatchSize());
+			return records != null ? records : Collections.emptyList();
+		} catch (RuntimeException e) {
+
+			// read errors affect all members participating in the read
+			active.values().forEach(member -> member.handleReadError(e));
+			return Collections.emptyList();
+		}
+	}
+
+	private void emitRecords(Map<ByteArrayWrapper, StreamPollTask<?, ?>> active, List<ByteRecord> records) {
+
+		Map<ByteArrayWrapper, List<ByteRecord>> recordsByStream = new LinkedHashMap<>();
+
+		for (ByteRecord record : records) {
+			recordsByStream.computeIfAbsent(new ByteArrayWrapper(record.getStream()), key -> new ArrayList<>()).add(record);
+		}
+
+		recordsByStream.forEach((key, streamRecords) -> {
+
+			StreamPollTask<?, ?> member = active.get(key);
+
+			if (member != null && member.isSubscriptionActive()) {
+				member.emit(streamRecords);
+			}
+		});
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XPendingOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.lang.Nullable;
+
+/**
+ * Stateful cursor over the pending entries list of a consumer group to recover idle records according to
+ * {@link ClaimPendingOptions}. Each run inspects up to {@link ClaimPendingOptions#getBatchSize() batch size} pending
+ * entries using {@code XPENDING} and selects idle entries to be claimed using {@code XCLAIM}. Subsequent runs continue
+ * after the last inspected entry and wrap around once the end of the pending entries list is reached.
+ * <p>
+ * Runs are expected to be issued sequentially.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class PendingRecordsRecovery {
+
+	private static final String START = "-";
+
+	private final ClaimPendingOptions options;
+
+	private volatile String cursor = START;
+	private volatile long nextRun = System.nanoTime();
+
+	PendingRecordsRecovery(ClaimPendingOptions options) {
+		this.options = options;
+	}
+
+	ClaimPendingOptions getOptions() {
+		return options;
+	}
+
+	/**
+	 * @return {@literal true} if the {@link ClaimPendingOptions#getInterval() interval} since the last run has elapsed.
+	 */
+	boolean isDue() {
+		return System.nanoTime() - nextRun >= 0;
+	}
+
+	/**
+	 * Start a new run and return the {@link XPendingOptions} to inspect the next pending entries.
+	 *
+	 * @return the {@link XPendingOptions} for the next {@code XPENDING} call.
+	 */
+	XPendingOptions start() {
+
+		nextRun = System.nanoTime() + options.getInterval().toNanos();
+
+		String cursor = this.cursor;
+		Range<?> range = START.equals(cursor) ? Range.unbounded() : Range.rightUnbounded(Range.Bound.inclusive(cursor));
+
+		return XPendingOptions.range(range, (long) options.getBatchSize());
+	}
+
+	/**
+	 * Select the idle entries of {@code pending} to be claimed and advance the cursor.
+	 *
+	 * @param pending the result of {@code XPENDING}, can be {@literal null}.
+	 * @return the selection of records to claim.
+	 */
+	Selection select(@Nullable PendingMessages pending) {
+
+		if (pending == null || pending.isEmpty()) {
+
+			cursor = START;
+			return Selection.EMPTY;
+		}
+
+		String previous = cursor;
+		List<RecordId> ids = new ArrayList<>(pending.size());
+		Map<RecordId, Long> deadLetters = new HashMap<>();
+
+		for (PendingMessage message : pending) {
+
+			if (message.getIdAsString().equals(previous)
+					|| message.getElapsedTimeSinceLastDelivery().compareTo(options.getMinIdleTime()) < 0) {
+				continue;
+			}
+
+			ids.add(message.getId());
+
+			if (options.isDeadLetter(message.getTotalDeliveryCount())) {
+				deadLetters.put(message.getId(), message.getTotalDeliveryCount());
+			}
+		}
+
+		cursor = pending.size() < options.getBatchSize() ? START : pending.get(pending.size() - 1).getIdAsString();
+
+		return new Selection(ids, deadLetters);
+	}
+
+	/**
+	 * Create {@link ClaimedRecords} from the outcome of claiming the records of {@code selection}.
+	 *
+	 * @param records the claimed records, can be {@literal null}.
+	 * @param selection the selection that was claimed.
+	 * @return the {@link ClaimedRecords}.
+	 */
+	ClaimedRecords claimed(@Nullable List<ByteRecord> records, Selection selection) {
+
+		if (records == null || records.isEmpty()) {
+			return ClaimedRecords.EMPTY;
+		}
+
+		List<ByteRecord> deliverable = new ArrayList<>(records.size());
+		List<ByteRecord> deadLetters = new ArrayList<>();
+
+		for (ByteRecord record : records) {
+			(selection.isDeadLetter(record.getId()) ? deadLetters : deliverable).add(record);
+		}
+
+		return new ClaimedRecords(deliverable, deadLetters, selection, options.getDeadLetterHandler());
+	}
+
+	/**
+	 * Records selected to be claimed.
+	 */
+	static class Selection {
+
+		static final Selection EMPTY = new Selection(Collections.emptyList(), Collections.emptyMap());
+
+		private final List<RecordId> ids;
+		private final Map<RecordId, Long> deadLetters;
+
+		private Selection(List<RecordId> ids, Map<RecordId, Long> deadLetters) {
+			this.ids = ids;
+			this.deadLetters = deadLetters;
+		}
+
+		boolean isEmpty() {
+			return ids.isEmpty();
+		}
+
+		RecordId[] getIds() {
+			return ids.toArray(new RecordId[0]);
+		}
+
+		/**
+		 * @param id the record id.
+		 * @return {@literal true} if the record exceeded the maximum number of deliveries.
+		 */
+		boolean isDeadLetter(RecordId id) {
+			return deadLetters.containsKey(id);
+		}
+
+		/**
+		 * @param id the record id.
+		 * @return the total number of deliveries of a dead letter record.
+		 */
+		long getDeliveryCount(RecordId id) {
+			return deadLetters.getOrDefault(id, 0L);
+		}
+	}
+
+	/**
+	 * Outcome of a claim run.
+	 */
+	static class ClaimedRecords {
+
+		static final ClaimedRecords EMPTY = new ClaimedRecords(Collections.emptyList(), Collections.emptyList(),
+				Selection.EMPTY, null);
+
+		private final List<ByteRecord> records;
+		private final List<ByteRecord> deadLetters;
+		private final Selection selection;
+		private final @Nullable ClaimPendingOptions.DeadLetterHandler deadLetterHandler;
+
+		private ClaimedRecords(List<ByteRecord> records, List<ByteRecord> deadLetters, Selection selection,
+				@Nullable ClaimPendingOptions.DeadLetterHandler deadLetterHandler) {
+
+			this.records = records;
+			this.deadLetters = deadLetters;
+			this.selection = selection;
+			this.deadLetterHandler = deadLetterHandler;
+		}
+
+		boolean isEmpty() {
+			return records.isEmpty() && deadLetters.isEmpty();
+		}
+
+		/**
+		 * @return claimed records to deliver to the subscription.
+		 */
+		List<ByteRecord> getRecords() {
+			return records;
+		}
+
+		/**
+		 * @return claimed records that exceeded the maximum number of deliveries.
+		 */
+		List<ByteRecord> getDeadLetters() {
+			return deadLetters;
+		}
+
+		long getDeliveryCount(RecordId id) {
+			return selection.getDeliveryCount(id);
+		}
+
+		@Nullable
+		ClaimPendingOptions.DeadLetterHandler getDeadLetterHandler() {
+			return deadLetterHandler;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+
+/**
+ * Per-subscription poll control applying a {@link BackOff} after empty reads and adapting the read batch size to the
+ * observed throughput. A read returning a full batch doubles the batch size up to the maximum batch size, a read
+ * returning less than half a batch halves it down to the minimum batch size. Any non-empty read resets the back off
+ * so the next read is issued immediately.
+ * <p>
+ * Instances are not thread-safe and must be used by the polling thread only.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class PollControl {
+
+	private final PollStatistics statistics;
+	private final @Nullable BackOff emptyPollBackOff;
+	private final int minBatchSize;
+	private final int maxBatchSize;
+
+	private int batchSize;
+	private long lastBackOff;
+	private @Nullable BackOffExecution backOffExecution;
+
+	/**
+	 * Create a new {@link PollControl}.
+	 *
+	 * @param statistics statistics to record polls.
+	 * @param emptyPollBackOff back off to apply after empty reads, can be {@literal null} to re-poll immediately.
+	 * @param batchSize the initial batch size, {@literal 0} if not configured.
+	 * @param minBatchSize minimum batch size, {@literal 0} to use a fixed batch size.
+	 * @param maxBatchSize maximum batch size, {@literal 0} to use a fixed batch size.
+	 */
+	PollControl(PollStatistics statistics, @Nullable BackOff emptyPollBackOff, int batchSize, int minBatchSize,
+			int maxBatchSize) {
+
+		this.statistics = statistics;
+		this.emptyPollBackOff = emptyPollBackOff;
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+		this.batchSize = isAdaptive() ? Math.min(Math.max(batchSize, minBatchSize), maxBatchSize) : batchSize;
+	}
+
+	/**
+	 * Create a {@link PollControl} that records statistics only.
+	 */
+	static PollControl fixed(PollStatistics statistics) {
+		return new PollControl(statistics, null, 0, 0, 0);
+	}
+
+	private boolean isAdaptive() {
+		return maxBatchSize > 0;
+	}
+
+	/**
+	 * @return the batch size for the next read. {@literal 0} to use the configured read options.
+	 */
+	int getBatchSize() {
+		return isAdaptive() ? batchSize : 0;
+	}
+
+	/**
+	 * Record the outcome of a read and return the time to wait before the next read.
+	 *
+	 * @param records number of records returned by the read.
+	 * @return time in milliseconds to wait before the next read, {@literal 0} to read immediately.
+	 */
+	long afterPoll(int records) {
+
+		statistics.polled(records);
+
+		if (records > 0) {
+
+			backOffExecution = null;
+			lastBackOff = 0;
+
+			if (isAdaptive()) {
+				if (records >= batchSize) {
+					batchSize = Math.min(batchSize * 2, maxBatchSize);
+				} else if (records < batchSize / 2) {
+					batchSize = Math.max(batchSize / 2, minBatchSize);
+				}
+			}
+
+			return 0;
+		}
+
+		if (isAdaptive()) {
+			batchSize = minBatchSize;
+		}
+
+		if (emptyPollBackOff == null) {
+			return 0;
+		}
+
+		if (backOffExecution == null) {
+			backOffExecution = emptyPollBackOff.start();
+		}
+
+		long backOff = backOffExecution.nextBackOff();
+
+		// keep the last back off once the back off is exhausted
+		if (backOff != BackOffExecution.STOP) {
+			lastBackOff = backOff;
+		}
+
+		return lastBackOff;
+	}
+}
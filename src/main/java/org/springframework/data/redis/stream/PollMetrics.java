@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+/**
+ * Metrics about stream polling of {@link StreamMessageListenerContainer}. Metrics are cumulative across all
+ * subscriptions of a container since its creation and can be bound to a monitoring system by polling the accessor
+ * methods.
+ *
+ * @author agent
+ * @since 3.1
+ * @see StreamMessageListenerContainer#getPollMetrics()
+ */
+public interface PollMetrics {
+
+	/**
+	 * @return total number of stream reads.
+	 */
+	long getPolls();
+
+	/**
+	 * @return total number of stream reads that did not return any records.
+	 */
+	long getEmptyPolls();
+
+	/**
+	 * @return total number of records returned by stream reads.
+	 */
+	long getRecords();
+
+	/**
+	 * @return the average number of records per stream read.
+	 */
+	double getAverageRecordsPerPoll();
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link PollMetrics} implementation recording poll statistics.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class PollStatistics implements PollMetrics {
+
+	private final LongAdder polls = new LongAdder();
+	private final LongAdder emptyPolls = new LongAdder();
+	private final LongAdder records = new LongAdder();
+
+	void polled(int records) {
+
+		polls.increment();
+
+		if (records == 0) {
+			emptyPolls.increment();
+		} else {
+			this.records.add(records);
+		}
+	}
+
+	@Override
+	public long getPolls() {
+		return polls.sum();
+	}
+
+	@Override
+	public long getEmptyPolls() {
+		return emptyPolls.sum();
+	}
+
+	@Override
+	public long getRecords() {
+		return records.sum();
+	}
+
+	@Override
+	public double getAverageRecordsPerPoll() {
+
+		long polls = getPolls();
+		return polls == 0 ? 0 : (double) getRecords() / polls;
+	}
+}
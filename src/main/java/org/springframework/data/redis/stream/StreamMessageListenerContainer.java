@@ -18,6 +18,7 @@ package org.springframework.data.redis.stream;
 import java.time.Duration;
 import java.util.OptionalInt;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.springframework.context.SmartLifecycle;
@@ -37,6 +38,7 @@ import org.springframework.data.redis.stream.DefaultStreamMessageListenerContain
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ErrorHandler;
+import org.springframework.util.backoff.BackOff;
 
 /**
  * Abstraction used by the framework representing a message listener container. <strong>Not</strong> meant to be
@@ -253,6 +255,14 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 	 */
 	void remove(Subscription subscription);
 
+	/**
+	 * Return {@link PollMetrics} about stream reads issued by this container.
+	 *
+	 * @return the {@link PollMetrics} for this container.
+	 * @since 3.1
+	 */
+	PollMetrics getPollMetrics();
+
 	/**
 	 * Request to read a Redis Stream.
 	 *
@@ -264,13 +274,18 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		private final StreamOffset<K> streamOffset;
 		private final @Nullable ErrorHandler errorHandler;
 		private final Predicate<Throwable> cancelSubscriptionOnError;
+		private final int concurrency;
+		private final @Nullable Function<? super Record<K, ?>, ?> partitionKeyFunction;
 
 		private StreamReadRequest(StreamOffset<K> streamOffset, @Nullable ErrorHandler errorHandler,
-				Predicate<Throwable> cancelSubscriptionOnError) {
+				Predicate<Throwable> cancelSubscriptionOnError, int concurrency,
+				@Nullable Function<? super Record<K, ?>, ?> partitionKeyFunction) {
 
 			this.streamOffset = streamOffset;
 			this.errorHandler = errorHandler;
 			this.cancelSubscriptionOnError = cancelSubscriptionOnError;
+			this.concurrency = concurrency;
+			this.partitionKeyFunction = partitionKeyFunction;
 		}
 
 		/**
@@ -292,6 +307,25 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		public Predicate<Throwable> getCancelSubscriptionOnError() {
 			return cancelSubscriptionOnError;
 		}
+
+		/**
+		 * @return number of workers processing records of a single poll concurrently. {@literal 1} for sequential
+		 *         processing.
+		 * @since 3.1
+		 */
+		public int getConcurrency() {
+			return concurrency;
+		}
+
+		/**
+		 * @return the function to extract the partition key that determines the worker processing a record. Can be
+		 *         {@literal null} if records are processed sequentially.
+		 * @since 3.1
+		 */
+		@Nullable
+		public Function<? super Record<K, ?>, ?> getPartitionKeyFunction() {
+			return partitionKeyFunction;
+		}
 	}
 
 	/**
@@ -304,12 +338,20 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 
 		private final Consumer consumer;
 		private final boolean autoAck;
+		private final int ackBatchSize;
+		private final Duration ackMaxDelay;
+		private final @Nullable ClaimPendingOptions claimPendingOptions;
 
 		private ConsumerStreamReadRequest(StreamOffset<K> streamOffset, @Nullable ErrorHandler errorHandler,
-				Predicate<Throwable> cancelSubscriptionOnError, Consumer consumer, boolean autoAck) {
-			super(streamOffset, errorHandler, cancelSubscriptionOnError);
+				Predicate<Throwable> cancelSubscriptionOnError, int concurrency,
+				@Nullable Function<? super Record<K, ?>, ?> partitionKeyFunction, Consumer consumer, boolean autoAck,
+				int ackBatchSize, Duration ackMaxDelay, @Nullable ClaimPendingOptions claimPendingOptions) {
+			super(streamOffset, errorHandler, cancelSubscriptionOnError, concurrency, partitionKeyFunction);
 			this.consumer = consumer;
 			this.autoAck = autoAck;
+			this.ackBatchSize = ackBatchSize;
+			this.ackMaxDelay = ackMaxDelay;
+			this.claimPendingOptions = claimPendingOptions;
 		}
 
 		public Consumer getConsumer() {
@@ -323,6 +365,39 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		public boolean isAutoAcknowledge() {
 			return autoAck;
 		}
+
+		/**
+		 * @return {@literal true} if the container acknowledges successfully processed messages.
+		 * @since 3.1
+		 */
+		public boolean isAcknowledgeAfterProcessing() {
+			return ackBatchSize > 0;
+		}
+
+		/**
+		 * @return number of processed messages that triggers acknowledgement of pending messages.
+		 * @since 3.1
+		 */
+		public int getAcknowledgeBatchSize() {
+			return ackBatchSize;
+		}
+
+		/**
+		 * @return maximum time to defer acknowledgement of processed messages.
+		 * @since 3.1
+		 */
+		public Duration getAcknowledgeMaxDelay() {
+			return ackMaxDelay;
+		}
+
+		/**
+		 * @return the {@link ClaimPendingOptions} to recover pending records. Can be {@literal null}.
+		 * @since 3.1
+		 */
+		@Nullable
+		public ClaimPendingOptions getClaimPendingOptions() {
+			return claimPendingOptions;
+		}
 	}
 
 	/**
@@ -335,6 +410,8 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		final StreamOffset<K> streamOffset;
 		@Nullable ErrorHandler errorHandler;
 		Predicate<Throwable> cancelSubscriptionOnError = t -> true;
+		int concurrency = 1;
+		@Nullable Function<? super Record<K, ?>, ?> partitionKeyFunction;
 
 		StreamReadRequestBuilder(StreamOffset<K> streamOffset) {
 			this.streamOffset = streamOffset;
@@ -345,6 +422,8 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 			this.streamOffset = other.streamOffset;
 			this.errorHandler = other.errorHandler;
 			this.cancelSubscriptionOnError = other.cancelSubscriptionOnError;
+			this.concurrency = other.concurrency;
+			this.partitionKeyFunction = other.partitionKeyFunction;
 		}
 
 		/**
@@ -372,6 +451,32 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 			return this;
 		}
 
+		/**
+		 * Configure concurrent processing of the records obtained by a single poll. Records are dispatched to up to
+		 * {@code concurrency} workers by the key extracted through {@code partitionKeyFunction}. Records sharing the same
+		 * key are processed in stream order by the same worker. The next poll is issued once all records of the current
+		 * poll are processed and the read offset advances only past records that were fully processed.
+		 * <p>
+		 * The polling thread processes one partition itself, the remaining {@code concurrency - 1} workers are long-lived
+		 * and occupy one thread each of the {@link StreamMessageListenerContainerOptions#getExecutor() container executor}
+		 * while the subscription is active.
+		 *
+		 * @param concurrency number of workers, must be greater than zero.
+		 * @param partitionKeyFunction function to extract the partition key from a record, must not be {@literal null}.
+		 * @return {@code this} {@link StreamReadRequestBuilder}.
+		 * @since 3.1
+		 */
+		public StreamReadRequestBuilder<K> concurrency(int concurrency,
+				Function<? super Record<K, ?>, ?> partitionKeyFunction) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+			Assert.notNull(partitionKeyFunction, "Partition key function must not be null");
+
+			this.concurrency = concurrency;
+			this.partitionKeyFunction = partitionKeyFunction;
+			return this;
+		}
+
 		/**
 		 * Configure a {@link Consumer} to consume stream messages within a consumer group.
 		 *
@@ -388,7 +493,8 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		 * @return a new instance of {@link StreamReadRequest}.
 		 */
 		public StreamReadRequest<K> build() {
-			return new StreamReadRequest<>(streamOffset, errorHandler, cancelSubscriptionOnError);
+			return new StreamReadRequest<>(streamOffset, errorHandler, cancelSubscriptionOnError, concurrency,
+					partitionKeyFunction);
 		}
 	}
 
@@ -401,6 +507,9 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 
 		private Consumer consumer;
 		private boolean autoAck = true;
+		private int ackBatchSize = 0;
+		private Duration ackMaxDelay = Duration.ZERO;
+		private @Nullable ClaimPendingOptions claimPendingOptions;
 
 		ConsumerStreamReadRequestBuilder(StreamReadRequestBuilder<K> other) {
 			super(other);
@@ -432,6 +541,24 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 			return this;
 		}
 
+		/**
+		 * Configure concurrent processing of the records obtained by a single poll. Records sharing the same partition key
+		 * are processed in stream order by the same worker. Records are acknowledged once processed successfully, the read
+		 * offset advances only past records that were fully processed.
+		 *
+		 * @param concurrency number of workers, must be greater than zero.
+		 * @param partitionKeyFunction function to extract the partition key from a record, must not be {@literal null}.
+		 * @return {@code this} {@link ConsumerStreamReadRequestBuilder}.
+		 * @since 3.1
+		 * @see StreamReadRequestBuilder#concurrency(int, Function)
+		 */
+		public ConsumerStreamReadRequestBuilder<K> concurrency(int concurrency,
+				Function<? super Record<K, ?>, ?> partitionKeyFunction) {
+
+			super.concurrency(concurrency, partitionKeyFunction);
+			return this;
+		}
+
 		/**
 		 * Configure a {@link Consumer} to consume stream messages within a consumer group.
 		 *
@@ -455,6 +582,65 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		public ConsumerStreamReadRequestBuilder<K> autoAcknowledge(boolean autoAck) {
 
 			this.autoAck = autoAck;
+
+			if (autoAck) {
+				this.ackBatchSize = 0;
+			}
+			return this;
+		}
+
+		/**
+		 * Configure acknowledgement of successfully processed messages by the container. Messages processed without a
+		 * listener error are acknowledged using a single {@code XACK} call after each poll. Messages whose processing
+		 * failed remain pending. Disables {@link #autoAcknowledge(boolean) auto-acknowledgement}.
+		 *
+		 * @return {@code this} {@link ConsumerStreamReadRequestBuilder}.
+		 * @since 3.1
+		 * @see #acknowledgeAfterProcessing(int, Duration)
+		 */
+		public ConsumerStreamReadRequestBuilder<K> acknowledgeAfterProcessing() {
+			return acknowledgeAfterProcessing(Integer.MAX_VALUE, Duration.ZERO);
+		}
+
+		/**
+		 * Configure windowed acknowledgement of successfully processed messages by the container. Processed messages are
+		 * collected and acknowledged using a single {@code XACK} call once {@code batchSize} messages are pending or the
+		 * oldest pending acknowledgement is older than {@code maxDelay}. Thresholds are evaluated after each poll, so the
+		 * effective delay is additionally bounded by the poll timeout. Pending acknowledgements are flushed when the
+		 * subscription terminates. Disables {@link #autoAcknowledge(boolean) auto-acknowledgement}.
+		 *
+		 * @param batchSize number of processed messages that triggers acknowledgement. Must be greater than zero.
+		 * @param maxDelay maximum time to defer acknowledgement, must not be {@literal null} or negative.
+		 * @return {@code this} {@link ConsumerStreamReadRequestBuilder}.
+		 * @since 3.1
+		 */
+		public ConsumerStreamReadRequestBuilder<K> acknowledgeAfterProcessing(int batchSize, Duration maxDelay) {
+
+			Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+			Assert.notNull(maxDelay, "Max delay must not be null");
+			Assert.isTrue(!maxDelay.isNegative(), "Max delay must not be negative");
+
+			this.autoAck = false;
+			this.ackBatchSize = batchSize;
+			this.ackMaxDelay = maxDelay;
+			return this;
+		}
+
+		/**
+		 * Configure recovery of pending records of the consumer group. Records that were not acknowledged within
+		 * {@link ClaimPendingOptions#getMinIdleTime() min idle time}, e.g. because their consumer died, are periodically
+		 * claimed for the {@link #consumer(Consumer) consumer} of this request and delivered to the listener. Claimed
+		 * records do not advance the read offset. Auto-acknowledged requests acknowledge claimed records upon claiming.
+		 *
+		 * @param claimPendingOptions must not be {@literal null}.
+		 * @return {@code this} {@link ConsumerStreamReadRequestBuilder}.
+		 * @since 3.1
+		 */
+		public ConsumerStreamReadRequestBuilder<K> claimPending(ClaimPendingOptions claimPendingOptions) {
+
+			Assert.notNull(claimPendingOptions, "ClaimPendingOptions must not be null");
+
+			this.claimPendingOptions = claimPendingOptions;
 			return this;
 		}
 
@@ -464,7 +650,8 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		 * @return a new instance of {@link ConsumerStreamReadRequest}.
 		 */
 		public ConsumerStreamReadRequest<K> build() {
-			return new ConsumerStreamReadRequest<>(streamOffset, errorHandler, cancelSubscriptionOnError, consumer, autoAck);
+			return new ConsumerStreamReadRequest<>(streamOffset, errorHandler, cancelSubscriptionOnError, concurrency,
+					partitionKeyFunction, consumer, autoAck, ackBatchSize, ackMaxDelay, claimPendingOptions);
 		}
 	}
 
@@ -486,12 +673,17 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		private final @Nullable HashMapper<Object, Object, Object> hashMapper;
 		private final ErrorHandler errorHandler;
 		private final Executor executor;
+		private final boolean multiplexed;
+		private final @Nullable BackOff emptyPollBackOff;
+		private final int minBatchSize;
+		private final int maxBatchSize;
 
 		@SuppressWarnings("unchecked")
 		private StreamMessageListenerContainerOptions(Duration pollTimeout, @Nullable Integer batchSize,
 				RedisSerializer<K> keySerializer, RedisSerializer<Object> hashKeySerializer,
 				RedisSerializer<Object> hashValueSerializer, @Nullable Class<?> targetType,
-				@Nullable HashMapper<V, ?, ?> hashMapper, ErrorHandler errorHandler, Executor executor) {
+				@Nullable HashMapper<V, ?, ?> hashMapper, ErrorHandler errorHandler, Executor executor,
+				boolean multiplexed, @Nullable BackOff emptyPollBackOff, int minBatchSize, int maxBatchSize) {
 			this.pollTimeout = pollTimeout;
 			this.batchSize = batchSize;
 			this.keySerializer = keySerializer;
@@ -501,6 +693,10 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 			this.hashMapper = (HashMapper) hashMapper;
 			this.errorHandler = errorHandler;
 			this.executor = executor;
+			this.multiplexed = multiplexed;
+			this.emptyPollBackOff = emptyPollBackOff;
+			this.minBatchSize = minBatchSize;
+			this.maxBatchSize = maxBatchSize;
 		}
 
 		/**
@@ -581,6 +777,46 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 			return executor;
 		}
 
+		/**
+		 * @return {@literal true} if compatible subscriptions are polled through a single multi-key read.
+		 * @since 3.1
+		 */
+		public boolean isMultiplexed() {
+			return multiplexed;
+		}
+
+		/**
+		 * @return the {@link BackOff} to apply after reads that did not return any records. Can be {@literal null}.
+		 * @since 3.1
+		 */
+		@Nullable
+		public BackOff getEmptyPollBackOff() {
+			return emptyPollBackOff;
+		}
+
+		/**
+		 * @return {@literal true} if the batch size adapts to the observed throughput.
+		 * @since 3.1
+		 */
+		public boolean isAdaptiveBatchSize() {
+			return maxBatchSize > 0;
+		}
+
+		/**
+		 * @return the minimum batch size when using an {@link #isAdaptiveBatchSize() adaptive batch size}.
+		 * @since 3.1
+		 */
+		public int getMinBatchSize() {
+			return minBatchSize;
+		}
+
+		/**
+		 * @return the maximum batch size when using an {@link #isAdaptiveBatchSize() adaptive batch size}.
+		 * @since 3.1
+		 */
+		public int getMaxBatchSize() {
+			return maxBatchSize;
+		}
 	}
 
 	/**
@@ -601,6 +837,10 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		private @Nullable Class<?> targetType;
 		private ErrorHandler errorHandler = LoggingErrorHandler.INSTANCE;
 		private Executor executor = new SimpleAsyncTaskExecutor();
+		private boolean multiplexed = false;
+		private @Nullable BackOff emptyPollBackOff;
+		private int minBatchSize;
+		private int maxBatchSize;
 
 		private StreamMessageListenerContainerOptionsBuilder() {}
 
@@ -647,6 +887,65 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 			return this;
 		}
 
+		/**
+		 * Configure multiplexed polling. Multiplexed polling reads all compatible subscriptions, that is standalone
+		 * subscriptions respective subscriptions using the same {@link Consumer} and acknowledgement mode, through a single
+		 * multi-key {@code XREAD}/{@code XREADGROUP} call. Records are dispatched to the subscription owning the stream
+		 * while each subscription keeps its own read offset. Multiplexing requires a single thread and connection per
+		 * group of compatible subscriptions instead of one per subscription. Subscriptions reading the same stream more
+		 * than once are polled in separate groups. When using Redis Cluster, multiplexed streams must map to the same hash
+		 * slot.
+		 *
+		 * @param multiplexed {@literal true} to enable multiplexed polling. Defaults to {@literal false}.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 3.1
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> multiplexed(boolean multiplexed) {
+
+			this.multiplexed = multiplexed;
+			return this;
+		}
+
+		/**
+		 * Configure a {@link BackOff} to apply after reads that did not return any records, e.g.
+		 * {@link org.springframework.util.backoff.ExponentialBackOff}. The back off is reset by the next read returning
+		 * records. Once the back off is exhausted, its last interval is kept. Primarily useful for non-blocking reads
+		 * (zero {@link #pollTimeout(Duration) poll timeout}) that would otherwise re-poll idle streams without delay.
+		 * Multiplexed subscriptions back off once a read returns no records for any of the multiplexed streams.
+		 *
+		 * @param emptyPollBackOff must not be {@literal null}.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 3.1
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> emptyPollBackOff(BackOff emptyPollBackOff) {
+
+			Assert.notNull(emptyPollBackOff, "BackOff must not be null");
+
+			this.emptyPollBackOff = emptyPollBackOff;
+			return this;
+		}
+
+		/**
+		 * Configure an adaptive batch size for the {@code COUNT} option during reading. Reads returning a full batch double
+		 * the batch size up to {@code maxBatchSize}, reads returning less than half a batch halve it down to
+		 * {@code minBatchSize}. The initial batch size is the configured {@link #batchSize(int) batch size}, bounded by
+		 * the given limits. Multiplexed subscriptions adapt the batch size of their combined read.
+		 *
+		 * @param minBatchSize must be greater zero.
+		 * @param maxBatchSize must be greater or equal to {@code minBatchSize}.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 3.1
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> adaptiveBatchSize(int minBatchSize, int maxBatchSize) {
+
+			Assert.isTrue(minBatchSize > 0, "Min batch size must be greater zero");
+			Assert.isTrue(maxBatchSize >= minBatchSize, "Max batch size must be greater or equal to min batch size");
+
+			this.minBatchSize = minBatchSize;
+			this.maxBatchSize = maxBatchSize;
+			return this;
+		}
+
 		/**
 		 * Configure a {@link ErrorHandler} to be notified on {@link Throwable errors}.
 		 *
@@ -769,7 +1068,8 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		 */
 		public StreamMessageListenerContainerOptions<K, V> build() {
 			return new StreamMessageListenerContainerOptions<>(pollTimeout, batchSize, keySerializer, hashKeySerializer,
-					hashValueSerializer, targetType, hashMapper, errorHandler, executor);
+					hashValueSerializer, targetType, hashMapper, errorHandler, executor, multiplexed, emptyPollBackOff,
+					minBatchSize, maxBatchSize);
 		}
 	}
 }
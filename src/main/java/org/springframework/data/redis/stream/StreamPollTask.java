@@ -16,13 +16,21 @@
 package org.springframework.data.redis.stream;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.TypeDescriptor;
@@ -31,14 +39,35 @@ import org.springframework.data.redis.connection.stream.ByteRecord;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer.ConsumerStreamReadRequest;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.lang.Nullable;
 import org.springframework.util.ErrorHandler;
 
 
 /**
  * {@link Task} that invokes a {@link BiFunction read function} to poll on a Redis Stream.
+ * <p>
+ * Tasks created without a read function are members of a {@link MultiplexedStreamPollTask} that reads records on their
+ * behalf and {@link #emit(List) emits} them through the member task.
+ * <p>
+ * Tasks created with an acknowledge function collect the ids of successfully processed records and acknowledge them in
+ * a single call once the {@link ConsumerStreamReadRequest#getAcknowledgeBatchSize() batch size} or
+ * {@link ConsumerStreamReadRequest#getAcknowledgeMaxDelay() max delay} is exceeded.
+ * <p>
+ * Requests with a {@link StreamReadRequest#getConcurrency() concurrency} greater than one dispatch the records of a
+ * poll to workers by their partition key. The task awaits completion of all workers before advancing the read offset
+ * and issuing the next poll. Workers are long-lived: each worker occupies one thread of the worker {@link Executor}
+ * while the subscription is active instead of submitting a task per poll.
+ * <p>
+ * Tasks created with a claim function periodically {@link #recoverPendingRecords() recover} idle pending records of
+ * their consumer group. Claimed records are delivered to the listener without advancing the read offset, records that
+ * exceeded the maximum number of deliveries are handed to the {@link ClaimPendingOptions.DeadLetterHandler}.
+ * <p>
+ * Reads are paced by {@link PollControl} that determines the batch size of the next read and backs off after empty
+ * reads.
  *
  * @author Mark Paluch
  * @see 2.2
@@ -48,25 +77,73 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 	private final StreamListener<K, V> listener;
 	private final ErrorHandler errorHandler;
 	private final Predicate<Throwable> cancelSubscriptionOnError;
-	private final Function<ReadOffset, List<ByteRecord>> readFunction;
+	private final @Nullable BiFunction<ReadOffset, Integer, List<ByteRecord>> readFunction;
 	private final Function<ByteRecord, V> deserializer;
+	private final @Nullable Function<RecordId[], Long> acknowledgeFunction;
+	private final int acknowledgeBatchSize;
+	private final long acknowledgeMaxDelayNanos;
+	private final int concurrency;
+	private final @Nullable Function<? super Record<K, ?>, ?> partitionKeyFunction;
+	private final @Nullable Executor workerExecutor;
+	private final @Nullable Supplier<PendingRecordsRecovery.ClaimedRecords> claimFunction;
+	private final PollControl pollControl;
+	private final Object backOffMonitor = new Object();
+	private final List<LaneWorker> laneWorkers;
 
 	private final PollState pollState;
 	private final TypeDescriptor targetType;
 
+	// record ids awaiting acknowledgement, accessed only by the polling thread
+	private final List<RecordId> pendingAcknowledgements = new ArrayList<>();
+	private long firstPendingAcknowledgement;
+
+	// whether claimed records are emitted, accessed only by the polling thread
+	private boolean recovering = false;
+
 	private volatile boolean isInEventLoop = false;
 
 	StreamPollTask(StreamReadRequest<K> streamRequest, StreamListener<K, V> listener, ErrorHandler errorHandler,
-			TypeDescriptor targetType, Function<ReadOffset, List<ByteRecord>> readFunction,
+			TypeDescriptor targetType, @Nullable BiFunction<ReadOffset, Integer, List<ByteRecord>> readFunction,
 			Function<ByteRecord, V> deserializer) {
+		this(streamRequest, listener, errorHandler, targetType, readFunction, deserializer, null, null, null,
+				PollControl.fixed(new PollStatistics()));
+	}
+
+	StreamPollTask(StreamReadRequest<K> streamRequest, StreamListener<K, V> listener, ErrorHandler errorHandler,
+			TypeDescriptor targetType, @Nullable BiFunction<ReadOffset, Integer, List<ByteRecord>> readFunction,
+			Function<ByteRecord, V> deserializer, @Nullable Function<RecordId[], Long> acknowledgeFunction,
+			@Nullable Executor workerExecutor, @Nullable Supplier<PendingRecordsRecovery.ClaimedRecords> claimFunction,
+			PollControl pollControl) {
 
 		this.listener = listener;
 		this.errorHandler = Optional.ofNullable(streamRequest.getErrorHandler()).orElse(errorHandler);
 		this.cancelSubscriptionOnError = streamRequest.getCancelSubscriptionOnError();
 		this.readFunction = readFunction;
 		this.deserializer = deserializer;
+		this.acknowledgeFunction = acknowledgeFunction;
 		this.pollState = createPollState(streamRequest);
 		this.targetType = targetType;
+		this.concurrency = streamRequest.getConcurrency();
+		this.partitionKeyFunction = streamRequest.getPartitionKeyFunction();
+		this.workerExecutor = workerExecutor;
+		this.claimFunction = claimFunction;
+		this.pollControl = pollControl;
+		this.laneWorkers = new ArrayList<>(Math.max(concurrency - 1, 0));
+
+		// the polling thread processes one lane itself
+		for (int i = 1; i < concurrency && workerExecutor != null; i++) {
+			laneWorkers.add(new LaneWorker());
+		}
+
+		if (streamRequest instanceof ConsumerStreamReadRequest) {
+
+			ConsumerStreamReadRequest<?> consumerRequest = (ConsumerStreamReadRequest<?>) streamRequest;
+			this.acknowledgeBatchSize = consumerRequest.getAcknowledgeBatchSize();
+			this.acknowledgeMaxDelayNanos = consumerRequest.getAcknowledgeMaxDelay().toNanos();
+		} else {
+			this.acknowledgeBatchSize = 0;
+			this.acknowledgeMaxDelayNanos = 0;
+		}
 	}
 
 	private static PollState createPollState(StreamReadRequest<?> streamRequest) {
@@ -82,7 +159,12 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 
 	@Override
 	public void cancel() throws DataAccessResourceFailureException {
+
 		this.pollState.cancel();
+
+		synchronized (backOffMonitor) {
+			backOffMonitor.notifyAll();
+		}
 	}
 
 	@Override
@@ -103,6 +185,10 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 	@Override
 	public void run() {
 
+		if (readFunction == null) {
+			throw new IllegalStateException("StreamPollTask is a member of a multiplexed poll task and cannot run on its own");
+		}
+
 		pollState.starting();
 
 		try {
@@ -124,8 +210,12 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 				// allow interruption
 				Thread.sleep(0);
 
+				recoverPendingRecords();
+
 				List<ByteRecord> raw = readRecords();
 				deserializeAndEmitRecords(raw);
+				afterPoll();
+				awaitBackOff(pollControl.afterPoll(raw.size()));
 
 			} catch (InterruptedException e) {
 
@@ -140,21 +230,229 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 				errorHandler.handleError(e);
 			}
 		} while (pollState.isSubscriptionActive());
+
+		flushAcknowledgements();
 	}
 
 	private List<ByteRecord> readRecords() {
-		return readFunction.apply(pollState.getCurrentReadOffset());
+		return readFunction.apply(pollState.getCurrentReadOffset(), pollControl.getBatchSize());
+	}
+
+	private void awaitBackOff(long millis) throws InterruptedException {
+
+		if (millis <= 0) {
+			return;
+		}
+
+		synchronized (backOffMonitor) {
+			if (pollState.isSubscriptionActive()) {
+				backOffMonitor.wait(millis);
+			}
+		}
+	}
+
+	/**
+	 * @return {@literal true} if this task is a member of a {@link MultiplexedStreamPollTask}.
+	 */
+	boolean isMultiplexed() {
+		return readFunction == null;
+	}
+
+	/**
+	 * Activate this task as member of a running {@link MultiplexedStreamPollTask}.
+	 */
+	void attach() {
+
+		pollState.starting();
+		pollState.running();
+	}
+
+	/**
+	 * @return {@literal true} if the subscription represented by this task is active.
+	 */
+	boolean isSubscriptionActive() {
+		return pollState.isSubscriptionActive();
+	}
+
+	/**
+	 * @return the {@link ReadOffset} to use for the next read.
+	 */
+	ReadOffset getCurrentReadOffset() {
+		return pollState.getCurrentReadOffset();
+	}
+
+	/**
+	 * Emit records read on behalf of this task.
+	 *
+	 * @param records the records to emit.
+	 */
+	void emit(List<ByteRecord> records) {
+		deserializeAndEmitRecords(records);
+	}
+
+	/**
+	 * Handle an error that occurred while reading records on behalf of this task.
+	 *
+	 * @param e the read error.
+	 */
+	void handleReadError(RuntimeException e) {
+
+		if (cancelSubscriptionOnError.test(e)) {
+			cancel();
+		}
+
+		errorHandler.handleError(e);
+	}
+
+	/**
+	 * Claim idle pending records of the consumer group if the claim interval has elapsed and emit them to the listener.
+	 * Called by the polling thread before reading records.
+	 */
+	void recoverPendingRecords() {
+
+		if (claimFunction == null || !pollState.isSubscriptionActive()) {
+			return;
+		}
+
+		PendingRecordsRecovery.ClaimedRecords claimed;
+
+		try {
+			claimed = claimFunction.get();
+		} catch (RuntimeException e) {
+			handleReadError(e);
+			return;
+		}
+
+		if (claimed.isEmpty()) {
+			return;
+		}
+
+		handleDeadLetters(claimed);
+
+		List<ByteRecord> records = claimed.getRecords();
+
+		if (records.isEmpty()) {
+			return;
+		}
+
+		recovering = true;
+
+		try {
+			deserializeAndEmitRecords(records);
+		} finally {
+			recovering = false;
+		}
+	}
+
+	private void handleDeadLetters(PendingRecordsRecovery.ClaimedRecords claimed) {
+
+		List<ByteRecord> deadLetters = claimed.getDeadLetters();
+		ClaimPendingOptions.DeadLetterHandler deadLetterHandler = claimed.getDeadLetterHandler();
+
+		if (deadLetters.isEmpty() || deadLetterHandler == null) {
+			return;
+		}
+
+		List<RecordId> handled = new ArrayList<>(deadLetters.size());
+
+		for (ByteRecord raw : deadLetters) {
+
+			try {
+
+				deadLetterHandler.handleDeadLetter(convertRecord(raw), claimed.getDeliveryCount(raw.getId()));
+				handled.add(raw.getId());
+			} catch (RuntimeException e) {
+				errorHandler.handleError(e);
+			}
+		}
+
+		if (handled.isEmpty() || acknowledgeFunction == null) {
+			return;
+		}
+
+		try {
+			acknowledgeFunction.apply(handled.toArray(new RecordId[0]));
+		} catch (RuntimeException e) {
+			errorHandler.handleError(e);
+		}
+	}
+
+	private void advanceReadOffset(RecordId id) {
+
+		if (!recovering) {
+			pollState.updateReadOffset(id.getValue());
+		}
+	}
+
+	/**
+	 * Acknowledge processed records if the acknowledgement batch size or delay is exceeded or the subscription is no
+	 * longer active. Called by the polling thread after each poll.
+	 */
+	void afterPoll() {
+
+		if (pendingAcknowledgements.isEmpty()) {
+			return;
+		}
+
+		if (pendingAcknowledgements.size() >= acknowledgeBatchSize
+				|| System.nanoTime() - firstPendingAcknowledgement >= acknowledgeMaxDelayNanos
+				|| !pollState.isSubscriptionActive()) {
+			flushAcknowledgements();
+		}
+	}
+
+	/**
+	 * Acknowledge all processed records that are pending acknowledgement.
+	 */
+	void flushAcknowledgements() {
+
+		if (acknowledgeFunction == null || pendingAcknowledgements.isEmpty()) {
+			return;
+		}
+
+		RecordId[] ids = pendingAcknowledgements.toArray(new RecordId[0]);
+		pendingAcknowledgements.clear();
+
+		try {
+			acknowledgeFunction.apply(ids);
+		} catch (RuntimeException e) {
+			errorHandler.handleError(e);
+		}
+	}
+
+	private void processed(RecordId id) {
+
+		if (acknowledgeFunction == null || acknowledgeBatchSize == 0) {
+			return;
+		}
+
+		if (pendingAcknowledgements.isEmpty()) {
+			firstPendingAcknowledgement = System.nanoTime();
+		}
+
+		pendingAcknowledgements.add(id);
 	}
 
 	private void deserializeAndEmitRecords(List<ByteRecord> records) {
 
+		if (concurrency > 1 && workerExecutor != null && partitionKeyFunction != null && records.size() > 1) {
+			deserializeAndEmitConcurrently(records);
+			return;
+		}
+
+		if (listener instanceof BatchStreamListener) {
+			deserializeAndEmitBatch(records);
+			return;
+		}
+
 		for (ByteRecord raw : records) {
 
 			try {
 
-				pollState.updateReadOffset(raw.getId().getValue());
+				advanceReadOffset(raw.getId());
 				V record = convertRecord(raw);
 				listener.onMessage(record);
+				processed(raw.getId());
 			} catch (RuntimeException e) {
 
 				if (cancelSubscriptionOnError.test(e)) {
@@ -170,6 +468,274 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 		}
 	}
 
+	private void deserializeAndEmitBatch(List<ByteRecord> records) {
+
+		if (records.isEmpty()) {
+			return;
+		}
+
+		List<V> batch = new ArrayList<>(records.size());
+		List<RecordId> ids = new ArrayList<>(records.size());
+
+		for (ByteRecord raw : records) {
+
+			try {
+
+				advanceReadOffset(raw.getId());
+				batch.add(convertRecord(raw));
+				ids.add(raw.getId());
+			} catch (RuntimeException e) {
+
+				if (cancelSubscriptionOnError.test(e)) {
+
+					cancel();
+					errorHandler.handleError(e);
+
+					return;
+				}
+
+				errorHandler.handleError(e);
+			}
+		}
+
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		try {
+
+			((BatchStreamListener<K, V>) listener).onMessages(batch);
+			ids.forEach(this::processed);
+		} catch (RuntimeException e) {
+
+			if (cancelSubscriptionOnError.test(e)) {
+				cancel();
+			}
+
+			errorHandler.handleError(e);
+		}
+	}
+
+	private void deserializeAndEmitConcurrently(List<ByteRecord> records) {
+
+		int size = records.size();
+		List<V> converted = new ArrayList<>(Collections.nCopies(size, null));
+		List<List<Integer>> lanes = new ArrayList<>(concurrency);
+		boolean[] completed = new boolean[size];
+		boolean[] succeeded = new boolean[size];
+
+		for (int i = 0; i < concurrency; i++) {
+			lanes.add(new ArrayList<>());
+		}
+
+		for (int i = 0; i < size; i++) {
+
+			try {
+
+				V record = convertRecord(records.get(i));
+				int lane = Math.floorMod(Objects.hashCode(partitionKeyFunction.apply(record)), concurrency);
+
+				converted.set(i, record);
+				lanes.get(lane).add(i);
+			} catch (RuntimeException e) {
+
+				completed[i] = true;
+
+				if (cancelSubscriptionOnError.test(e)) {
+
+					cancel();
+					errorHandler.handleError(e);
+					completeProcessing(records, completed, succeeded);
+
+					return;
+				}
+
+				errorHandler.handleError(e);
+			}
+		}
+
+		lanes.removeIf(List::isEmpty);
+		CountDownLatch latch = new CountDownLatch(lanes.size());
+
+		for (int i = 0; i < lanes.size(); i++) {
+
+			List<Integer> lane = lanes.get(i);
+			Runnable worker = () -> {
+				try {
+					processLane(lane, converted, completed, succeeded);
+				} finally {
+					latch.countDown();
+				}
+			};
+
+			// the polling thread processes the last lane itself
+			if (i == lanes.size() - 1) {
+				worker.run();
+				continue;
+			}
+
+			laneWorkers.get(i).submit(worker);
+		}
+
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+
+			// do not advance the read offset, records in flight get redelivered
+			cancel();
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		completeProcessing(records, completed, succeeded);
+	}
+
+	private void processLane(List<Integer> lane, List<V> records, boolean[] completed, boolean[] succeeded) {
+
+		if (listener instanceof BatchStreamListener) {
+
+			List<V> batch = new ArrayList<>(lane.size());
+			lane.forEach(index -> batch.add(records.get(index)));
+
+			try {
+
+				((BatchStreamListener<K, V>) listener).onMessages(batch);
+				lane.forEach(index -> succeeded[index] = true);
+			} catch (RuntimeException e) {
+
+				if (cancelSubscriptionOnError.test(e)) {
+					cancel();
+				}
+
+				errorHandler.handleError(e);
+			} finally {
+				lane.forEach(index -> completed[index] = true);
+			}
+
+			return;
+		}
+
+		for (int index : lane) {
+
+			if (!pollState.isSubscriptionActive()) {
+				return;
+			}
+
+			try {
+
+				listener.onMessage(records.get(index));
+				succeeded[index] = true;
+			} catch (RuntimeException e) {
+
+				if (cancelSubscriptionOnError.test(e)) {
+
+					cancel();
+					errorHandler.handleError(e);
+
+					return;
+				}
+
+				errorHandler.handleError(e);
+			} finally {
+				completed[index] = true;
+			}
+		}
+	}
+
+	/**
+	 * Advance the read offset past the longest prefix of completed records and register successfully processed records
+	 * for acknowledgement.
+	 */
+	private void completeProcessing(List<ByteRecord> records, boolean[] completed, boolean[] succeeded) {
+
+		boolean advance = true;
+
+		for (int i = 0; i < records.size(); i++) {
+
+			RecordId id = records.get(i).getId();
+			advance &= completed[i];
+
+			if (advance) {
+				advanceReadOffset(id);
+			}
+
+			if (succeeded[i]) {
+				processed(id);
+			}
+		}
+	}
+
+	/**
+	 * Long-lived worker processing lanes handed over by the polling thread. A worker is started on the worker
+	 * {@link Executor} with its first lane and terminates once the subscription is no longer active. Starting and
+	 * terminating is coordinated through {@code running} so that a lane submitted while the worker terminates starts a
+	 * new worker.
+	 */
+	private class LaneWorker implements Runnable {
+
+		private static final long IDLE_POLL_MILLIS = 100;
+
+		private final BlockingQueue<Runnable> lanes = new LinkedBlockingQueue<>();
+		private final AtomicBoolean running = new AtomicBoolean();
+
+		void submit(Runnable lane) {
+
+			lanes.add(lane);
+
+			if (!running.compareAndSet(false, true)) {
+				return;
+			}
+
+			try {
+				workerExecutor.execute(this);
+			} catch (RuntimeException e) {
+
+				running.set(false);
+				processRemaining();
+			}
+		}
+
+		@Override
+		public void run() {
+
+			try {
+
+				while (true) {
+
+					Runnable lane = lanes.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+					if (lane != null) {
+						lane.run();
+						continue;
+					}
+
+					if (!pollState.isSubscriptionActive()) {
+
+						running.set(false);
+
+						// terminate unless a lane was submitted concurrently
+						if (lanes.isEmpty() || !running.compareAndSet(false, true)) {
+							return;
+						}
+					}
+				}
+			} catch (InterruptedException e) {
+
+				running.set(false);
+				processRemaining();
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void processRemaining() {
+
+			Runnable lane;
+			while ((lane = lanes.poll()) != null) {
+				lane.run();
+			}
+		}
+	}
+
 	private V convertRecord(ByteRecord record) {
 
 		try {
@@ -203,12 +203,15 @@ public interface StreamReceiver<K, V extends Record<K, ?>> {
 		private final SerializationPair<Object> hashValueSerializer;
 		private final @Nullable Class<Object> targetType;
 		private final @Nullable HashMapper<Object, Object, Object> hashMapper;
+		private final @Nullable ClaimPendingOptions claimPendingOptions;
+		private final int prefetch;
 
 		@SuppressWarnings({ "unchecked", "rawtypes" })
 		private StreamReceiverOptions(Duration pollTimeout, @Nullable Integer batchSize,
 				Function<? super Throwable, ? extends Publisher<Void>> resumeFunction, SerializationPair<K> keySerializer,
 				SerializationPair<Object> hashKeySerializer, SerializationPair<Object> hashValueSerializer,
-				@Nullable Class<?> targetType, @Nullable HashMapper<V, ?, ?> hashMapper) {
+				@Nullable Class<?> targetType, @Nullable HashMapper<V, ?, ?> hashMapper,
+				@Nullable ClaimPendingOptions claimPendingOptions, int prefetch) {
 
 			this.pollTimeout = pollTimeout;
 			this.batchSize = batchSize;
@@ -218,6 +221,8 @@ public interface StreamReceiver<K, V extends Record<K, ?>> {
 			this.hashValueSerializer = hashValueSerializer;
 			this.targetType = (Class) targetType;
 			this.hashMapper = (HashMapper) hashMapper;
+			this.claimPendingOptions = claimPendingOptions;
+			this.prefetch = prefetch;
 		}
 
 		/**
@@ -294,6 +299,25 @@ public interface StreamReceiver<K, V extends Record<K, ?>> {
 			return this.hashMapper != null;
 		}
 
+		/**
+		 * @return the {@link ClaimPendingOptions} to recover pending records of consumer groups. Can be {@literal null}.
+		 * @since 3.1
+		 */
+		@Nullable
+		public ClaimPendingOptions getClaimPendingOptions() {
+			return claimPendingOptions;
+		}
+
+		/**
+		 * Number of records to read ahead of subscriber demand. {@literal 0} if reads are issued on demand only.
+		 *
+		 * @return the prefetch.
+		 * @since 3.1
+		 */
+		public int getPrefetch() {
+			return prefetch;
+		}
+
 		public Class<Object> getTargetType() {
 
 			if (this.targetType != null) {
@@ -320,6 +344,8 @@ public interface StreamReceiver<K, V extends Record<K, ?>> {
 		private Function<? super Throwable, ? extends Publisher<Void>> resumeFunction = Mono::error;
 		private @Nullable HashMapper<V, ?, ?> hashMapper;
 		private @Nullable Class<?> targetType;
+		private @Nullable ClaimPendingOptions claimPendingOptions;
+		private int prefetch;
 
 		private StreamReceiverOptionsBuilder() {}
 
@@ -352,6 +378,43 @@ public interface StreamReceiver<K, V extends Record<K, ?>> {
 			return this;
 		}
 
+		/**
+		 * Configure the number of records to read ahead of subscriber demand. Reads continue while fewer than
+		 * {@code prefetch} records are buffered so that reading overlaps with downstream processing. Reading suspends once
+		 * the buffer reaches {@code prefetch} records and resumes as the subscriber drains the buffer. A read may overshoot
+		 * the buffer by up to one {@link #batchSize(int) batch}. Using {@literal 0} (default) reads only on demand.
+		 *
+		 * @param prefetch must not be negative.
+		 * @return {@code this} {@link StreamReceiverOptionsBuilder}.
+		 * @since 3.1
+		 */
+		public StreamReceiverOptionsBuilder<K, V> prefetch(int prefetch) {
+
+			Assert.isTrue(prefetch >= 0, "Prefetch must not be negative");
+
+			this.prefetch = prefetch;
+			return this;
+		}
+
+		/**
+		 * Configure recovery of pending records for consumer group subscriptions. Records that were not acknowledged within
+		 * {@link ClaimPendingOptions#getMinIdleTime() min idle time}, e.g. because their consumer died, are periodically
+		 * claimed for the receiving consumer and emitted before newly read records. Claimed records do not advance the
+		 * read offset. {@link StreamReceiver#receiveAutoAck(Consumer, StreamOffset) Auto-acknowledging} subscriptions
+		 * acknowledge claimed records upon claiming.
+		 *
+		 * @param claimPendingOptions must not be {@literal null}.
+		 * @return {@code this} {@link StreamReceiverOptionsBuilder}.
+		 * @since 3.1
+		 */
+		public StreamReceiverOptionsBuilder<K, V> claimPending(ClaimPendingOptions claimPendingOptions) {
+
+			Assert.notNull(claimPendingOptions, "ClaimPendingOptions must not be null");
+
+			this.claimPendingOptions = claimPendingOptions;
+			return this;
+		}
+
 		/**
 		 * Configure a resume {@link Function} to resume the main sequence when polling the stream fails. The function can
 		 * either resume by suppressing the error or fail the main sequence by emitting the error to stop receiving. Receive
@@ -501,7 +564,7 @@ public interface StreamReceiver<K, V extends Record<K, ?>> {
 		public StreamReceiverOptions<K, V> build() {
 			return new StreamReceiverOptions<>(pollTimeout, batchSize, resumeFunction, keySerializer, hashKeySerializer,
 					hashValueSerializer,
-					targetType, hashMapper);
+					targetType, hashMapper, claimPendingOptions, prefetch);
 		}
 	}
 }
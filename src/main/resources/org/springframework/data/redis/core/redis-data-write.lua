@@ -0,0 +1,79 @@
+-- Writes a RedisData entity including its phantom copy and secondary indexes in a single round trip.
+--
+-- KEYS[1]: object key, KEYS[2]: keyspace set, KEYS[3]: phantom key, KEYS[4]: index helper set
+-- KEYS[5..m]: index keys read from the index helper set to remove the id from for existing entities
+-- KEYS[m+1..n]: pairs of index key and index helper set of the index values to add
+--
+-- ARGV[1]: id, ARGV[2]: time to live in seconds (0 if persistent)
+-- ARGV[3]: phantom mode (0: none, 1: write phantom copy, 2: remove phantom copy of existing entities)
+-- ARGV[4]: phantom time to live in seconds, ARGV[5]: number of index keys to remove the id from
+-- ARGV[6]: number of hash field and value arguments following
+-- followed by hash fields and values and the index value type per index key pair: 'set', 'geo' with longitude and
+-- latitude or 'zset' with score.
+--
+-- Returns 1 if the entity was created, 0 if an existing entity was replaced.
+
+local objectKey, keyspaceKey, phantomKey, helperKey = KEYS[1], KEYS[2], KEYS[3], KEYS[4]
+local id = ARGV[1]
+local ttl = tonumber(ARGV[2])
+local phantomMode = ARGV[3]
+local previousIndexCount = tonumber(ARGV[5])
+local fieldCount = tonumber(ARGV[6])
+
+local first = 7
+local last = first + fieldCount - 1
+
+local function writeHash(key)
+	for i = first, last, 1000 do
+		redis.call('HMSET', key, unpack(ARGV, i, math.min(i + 999, last)))
+	end
+end
+
+local isNew = redis.call('DEL', objectKey) == 0
+
+writeHash(objectKey)
+
+if isNew then
+	redis.call('SADD', keyspaceKey, id)
+end
+
+if ttl > 0 then
+	redis.call('EXPIRE', objectKey, ARGV[2])
+end
+
+if phantomMode == '1' then
+	redis.call('DEL', phantomKey)
+	writeHash(phantomKey)
+	redis.call('EXPIRE', phantomKey, ARGV[4])
+elseif phantomMode == '2' and not isNew then
+	redis.call('DEL', phantomKey)
+end
+
+if previousIndexCount > 0 and not isNew then
+	for k = 5, 4 + previousIndexCount do
+		-- simple indexes are sets, geo and sort indexes are sorted sets
+		local removed = redis.pcall('SREM', KEYS[k], id)
+		if type(removed) == 'table' and removed.err then
+			redis.call('ZREM', KEYS[k], id)
+		end
+	end
+	redis.call('DEL', helperKey)
+end
+
+local arg = last + 1
+for k = 5 + previousIndexCount, #KEYS, 2 do
+	if ARGV[arg] == 'geo' then
+		redis.call('GEOADD', KEYS[k], ARGV[arg + 1], ARGV[arg + 2], id)
+		arg = arg + 3
+	elseif ARGV[arg] == 'zset' then
+		redis.call('ZADD', KEYS[k], ARGV[arg + 1], id)
+		arg = arg + 2
+	else
+		redis.call('SADD', KEYS[k], id)
+		arg = arg + 1
+	end
+	-- keep track of indexes used for the object
+	redis.call('SADD', KEYS[k + 1], KEYS[k])
+end
+
+return isNew and 1 or 0
@@ -271,6 +271,10 @@ class RedisConnectionUnitTests {
 			return delegate.publish(channel, message);
 		}
 
+		public Long sPublish(byte[] shardChannel, byte[] message) {
+			return delegate.sPublish(shardChannel, message);
+		}
+
 		public Boolean hSetNX(byte[] key, byte[] field, byte[] value) {
 			return delegate.hSetNX(key, field, value);
 		}
@@ -45,6 +45,7 @@ import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.connection.StringRedisConnection.StringTuple;
+import org.springframework.data.redis.test.condition.EnabledOnCommand;
 import org.springframework.data.redis.test.condition.EnabledOnRedisSentinelAvailable;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -431,4 +432,10 @@ public class JedisConnectionIntegrationTests extends AbstractConnectionIntegrati
 
 		assertThat(zRangeByScore.iterator().next()).isEqualTo("two");
 	}
+
+	@Test
+	@EnabledOnCommand("SPUBLISH")
+	void sPublishShouldReturnNumberOfReceivingClients() {
+		assertThat(connection.sPublish("shard-channel", "message")).isZero();
+	}
 }
@@ -33,6 +33,7 @@ import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.test.condition.EnabledOnCommand;
 import org.springframework.data.redis.test.condition.EnabledOnRedisSentinelAvailable;
 import org.springframework.data.redis.test.condition.LongRunningTest;
 import org.springframework.data.redis.test.extension.LettuceTestClientResources;
@@ -213,4 +214,10 @@ public class LettuceConnectionIntegrationTests extends AbstractConnectionIntegra
 				new RedisSentinelConfiguration().master("mymaster").sentinel("127.0.0.1", 26379).sentinel("127.0.0.1", 26380));
 		assertThat(connection.getSentinelConnection()).isNotNull();
 	}
+
+	@Test
+	@EnabledOnCommand("SPUBLISH")
+	void sPublishShouldReturnNumberOfReceivingClients() {
+		assertThat(connection.sPublish("shard-channel", "message")).isZero();
+	}
 }
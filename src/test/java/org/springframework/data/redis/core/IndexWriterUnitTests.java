@@ -35,6 +35,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.convert.GeoIndexedPropertyValue;
 import org.springframework.data.redis.core.convert.IndexedData;
@@ -92,23 +93,29 @@ class IndexWriterUnitTests {
 
 		writer.removeKeyFromExistingIndexes(KEY_BIN, new StubIndxedData());
 
-		verify(connectionMock).keys(eq(("persons:address.city:*").getBytes(CHARSET)));
+		verify(connectionMock).sMembers(eq(("persons:key-1:idx").getBytes(CHARSET)));
+		verify(connectionMock, never()).keys(any());
 		verifyNoMoreInteractions(connectionMock);
 	}
 
 	@Test // DATAREDIS-425
 	void removeKeyFromExistingIndexesShouldRemoveKeyFromAllExistingIndexesForPath() {
 
-		byte[] indexKey1 = "persons:firstname:rand".getBytes(CHARSET);
-		byte[] indexKey2 = "persons:firstname:mat".getBytes(CHARSET);
+		byte[] indexKey1 = "persons:address.city:tear".getBytes(CHARSET);
+		byte[] indexKey2 = "persons:address.city:emond".getBytes(CHARSET);
+		byte[] otherIndexKey = "persons:firstname:rand".getBytes(CHARSET);
 
-		when(connectionMock.keys(any(byte[].class)))
-				.thenReturn(new LinkedHashSet<>(Arrays.asList(indexKey1, indexKey2)));
+		when(connectionMock.sMembers(any(byte[].class)))
+				.thenReturn(new LinkedHashSet<>(Arrays.asList(indexKey1, otherIndexKey, indexKey2)));
 
 		writer.removeKeyFromExistingIndexes(KEY_BIN, new StubIndxedData());
 
 		verify(connectionMock).sRem(indexKey1, KEY_BIN);
 		verify(connectionMock).sRem(indexKey2, KEY_BIN);
+		verify(connectionMock, never()).sRem(otherIndexKey, KEY_BIN);
+		verify(connectionMock).sRem("persons:key-1:idx".getBytes(CHARSET), indexKey1, indexKey2);
+		verify(connectionMock).openPipeline();
+		verify(connectionMock).closePipeline();
 	}
 
 	@Test // DATAREDIS-425
@@ -117,19 +124,27 @@ class IndexWriterUnitTests {
 	}
 
 	@Test // DATAREDIS-425
+	@SuppressWarnings("unchecked")
 	void removeAllIndexesShouldDeleteAllIndexKeys() {
 
 		byte[] indexKey1 = "persons:firstname:rand".getBytes(CHARSET);
 		byte[] indexKey2 = "persons:firstname:mat".getBytes(CHARSET);
 
-		when(connectionMock.keys(any(byte[].class)))
-				.thenReturn(new LinkedHashSet<>(Arrays.asList(indexKey1, indexKey2)));
+		Cursor<byte[]> cursor = mock(Cursor.class);
+		when(cursor.hasNext()).thenReturn(true, true, false);
+		when(cursor.next()).thenReturn(indexKey1, indexKey2);
+		when(connectionMock.scan(any(ScanOptions.class))).thenReturn(cursor);
 
 		writer.removeAllIndexes(KEYSPACE);
 
+		ArgumentCaptor<ScanOptions> options = ArgumentCaptor.forClass(ScanOptions.class);
 		ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
 
+		verify(connectionMock).scan(options.capture());
 		verify(connectionMock, times(1)).del(captor.capture());
+		verify(connectionMock, never()).keys(any());
+		verify(cursor).close();
+		assertThat(options.getValue().getPattern()).isEqualTo("persons:*");
 		assertThat(captor.getAllValues()).contains(indexKey1, indexKey2);
 	}
 
@@ -161,7 +176,7 @@ class IndexWriterUnitTests {
 	@Test // DATAREDIS-512
 	void createIndexShouldNotTryToRemoveExistingValues() {
 
-		when(connectionMock.keys(any(byte[].class)))
+		when(connectionMock.sMembers(any(byte[].class)))
 				.thenReturn(new LinkedHashSet<>(Arrays.asList("persons:firstname:rand".getBytes(CHARSET))));
 
 		writer.createIndexes(KEY_BIN,
@@ -176,7 +191,7 @@ class IndexWriterUnitTests {
 	@Test // DATAREDIS-512
 	void updateIndexShouldRemoveExistingValues() {
 
-		when(connectionMock.keys(any(byte[].class)))
+		when(connectionMock.sMembers(any(byte[].class)))
 				.thenReturn(new LinkedHashSet<>(Arrays.asList("persons:firstname:rand".getBytes(CHARSET))));
 
 		writer.updateIndexes(KEY_BIN,
@@ -191,15 +206,56 @@ class IndexWriterUnitTests {
 	@Test // DATAREDIS-533
 	void removeGeoIndexShouldCallGeoRemove() {
 
-		byte[] indexKey1 = "persons:location".getBytes(CHARSET);
+		byte[] indexKey1 = "persons:address.city".getBytes(CHARSET);
 
-		when(connectionMock.keys(any(byte[].class))).thenReturn(new LinkedHashSet<>(Arrays.asList(indexKey1)));
+		when(connectionMock.sMembers(any(byte[].class))).thenReturn(new LinkedHashSet<>(Arrays.asList(indexKey1)));
 
 		writer.removeKeyFromExistingIndexes(KEY_BIN, new GeoIndexedPropertyValue(KEYSPACE, "address.city", null));
 
 		verify(connectionMock).geoRemove(indexKey1, KEY_BIN);
 	}
 
+	@Test
+	void removeKeyFromIndexesShouldPipelineTypeLookupAndRemoval() {
+
+		byte[] setIndexKey = "persons:firstname:rand".getBytes(CHARSET);
+		byte[] geoIndexKey = "persons:location".getBytes(CHARSET);
+
+		when(connectionMock.sMembers(any(byte[].class)))
+				.thenReturn(new LinkedHashSet<>(Arrays.asList(setIndexKey, geoIndexKey)));
+		when(connectionMock.closePipeline()).thenReturn(Arrays.asList(DataType.SET, DataType.ZSET),
+				Collections.emptyList());
+
+		writer.removeKeyFromIndexes(KEYSPACE, KEY_BIN);
+
+		verify(connectionMock).sRem(setIndexKey, KEY_BIN);
+		verify(connectionMock).zRem(geoIndexKey, KEY_BIN);
+		verify(connectionMock).del("persons:key-1:idx".getBytes(CHARSET));
+		verify(connectionMock, times(2)).openPipeline();
+		verify(connectionMock, times(2)).closePipeline();
+	}
+
+	@Test
+	void removeKeysFromIndexesShouldPipelineHelperLookupTypeLookupAndRemoval() {
+
+		byte[] key1 = "key-1".getBytes(CHARSET);
+		byte[] key2 = "key-2".getBytes(CHARSET);
+		byte[] setIndexKey = "persons:firstname:rand".getBytes(CHARSET);
+		byte[] sortIndexKey = "persons:age".getBytes(CHARSET);
+
+		when(connectionMock.closePipeline()).thenReturn(
+				Arrays.asList(Collections.singleton(setIndexKey), Collections.singleton(sortIndexKey)),
+				Arrays.asList(DataType.SET, DataType.ZSET), Collections.emptyList());
+
+		writer.removeKeysFromIndexes(KEYSPACE, Arrays.asList(key1, key2));
+
+		verify(connectionMock).sRem(setIndexKey, key1);
+		verify(connectionMock).zRem(sortIndexKey, key2);
+		verify(connectionMock).del("persons:key-1:idx".getBytes(CHARSET), "persons:key-2:idx".getBytes(CHARSET));
+		verify(connectionMock, times(3)).openPipeline();
+		verify(connectionMock, times(3)).closePipeline();
+	}
+
 	static class StubIndxedData implements IndexedData {
 
 		@Override
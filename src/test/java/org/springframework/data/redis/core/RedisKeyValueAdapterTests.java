@@ -18,23 +18,32 @@ package org.springframework.data.redis.core;
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.data.Offset.offset;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Reference;
 import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.geo.Point;
 import org.springframework.data.keyvalue.annotation.KeySpace;
 import org.springframework.data.redis.connection.RedisConnection;
@@ -47,8 +56,11 @@ import org.springframework.data.redis.core.convert.MappingConfiguration;
 import org.springframework.data.redis.core.index.GeoIndexed;
 import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.index.Indexed;
+import org.springframework.data.redis.core.index.SortIndexed;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.query.RedisOperationChain;
 import org.springframework.data.redis.test.condition.EnabledIfLongRunningTest;
+import org.springframework.data.util.CloseableIterator;
 
 /**
  * Integration tests for {@link RedisKeyValueAdapter}.
@@ -255,6 +267,136 @@ public class RedisKeyValueAdapterTests {
 		assertThat(loaded).isExactlyInstanceOf(TaVeren.class);
 	}
 
+	@Test
+	void getAllOfShouldFetchAndConvertEntitiesInBatches() {
+
+		for (int i = 0; i < 5; i++) {
+
+			ExpiringPerson person = new ExpiringPerson();
+			person.firstname = "person-" + i;
+			person.ttl = 100L;
+			adapter.put("person-" + i, person, "persons");
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			adapter.setFetchBatchSize(2);
+			adapter.setConversionExecutor(executor);
+
+			List<ExpiringPerson> loaded = adapter.getAllOf("persons", ExpiringPerson.class, -1, -1);
+
+			assertThat(loaded).hasSize(5).extracting(it -> it.firstname).containsExactlyInAnyOrder("person-0", "person-1",
+					"person-2", "person-3", "person-4");
+			assertThat(loaded).allSatisfy(it -> assertThat(it.ttl).isCloseTo(100L, offset(5L)));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void getAllOfKeyspaceShouldReadBackTimeToLiveOfEntitiesDeclaringIt() {
+
+		ExpiringPerson expiring = new ExpiringPerson();
+		expiring.firstname = "expiring";
+		expiring.ttl = 100L;
+		adapter.put("expiring", expiring, "persons");
+
+		Person person = new Person();
+		person.firstname = "persistent";
+		adapter.put("persistent", person, "persons");
+
+		List<?> loaded = adapter.getAllOf("persons");
+
+		assertThat(loaded).hasSize(2).hasOnlyElementsOfType(Person.class);
+
+		ExpiringPerson loadedExpiring = (ExpiringPerson) loaded.stream().filter(ExpiringPerson.class::isInstance)
+				.findFirst().orElseThrow();
+		assertThat(loadedExpiring.ttl).isCloseTo(100L, offset(5L));
+	}
+
+	@Test
+	void getAllOfShouldReadSortedPageFromSortIndex() {
+
+		for (int i = 0; i < 5; i++) {
+
+			Ranking ranking = new Ranking();
+			ranking.score = i * 10;
+			adapter.put("ranking-" + i, ranking, "rankings");
+		}
+
+		assertThat(template.opsForZSet().size("rankings:score")).isEqualTo(5L);
+
+		List<Ranking> page = adapter.getAllOf("rankings", Ranking.class, Sort.by(Sort.Direction.DESC, "score"), 1, 2);
+
+		assertThat(page).extracting(it -> it.id).containsExactly("ranking-3", "ranking-2");
+		assertThat(adapter.getAllOf("rankings", Ranking.class, Sort.by("id", "score"), 0, 2)).isNull();
+	}
+
+	@Test
+	void updateShouldRemoveDeletedValueFromSortIndex() {
+
+		Ranking ranking = new Ranking();
+		ranking.score = 10;
+		adapter.put("1", ranking, "rankings");
+
+		adapter.update(new PartialUpdate<>("1", Ranking.class).del("score"));
+
+		assertThat(template.opsForZSet().score("rankings:score", "1")).isNull();
+		assertThat(template.opsForHash().hasKey("rankings:1", "score")).isFalse();
+	}
+
+	@Test
+	void queryShouldReuseMaterializedIntersection() {
+
+		for (int i = 0; i < 3; i++) {
+
+			Person person = new Person();
+			person.firstname = "rand";
+			person.address = new Address();
+			person.address.country = i < 2 ? "andor" : "saldaea";
+			adapter.put("person-" + i, person, "persons");
+		}
+
+		adapter.setQueryResultTimeToLive(Duration.ofSeconds(30));
+
+		RedisQueryEngine engine = new RedisQueryEngine();
+		engine.registerAdapter(adapter);
+
+		RedisOperationChain criteria = new RedisOperationChain();
+		criteria.sismember("firstname", "rand");
+		criteria.sismember("address.country", "andor");
+
+		assertThat(engine.count(criteria, "persons")).isEqualTo(2L);
+		assertThat(template.keys("persons:$query:*")).hasSize(1);
+
+		assertThat(engine.execute(criteria, null, 0, 1, "persons", Person.class)).hasSize(1);
+		assertThat(engine.execute(criteria, null, 1, 5, "persons", Person.class)).hasSize(1);
+		assertThat(engine.execute(criteria, null, 2, 5, "persons", Person.class)).isEmpty();
+	}
+
+	@Test
+	void entriesShouldStreamEntitiesInBatches() {
+
+		for (int i = 0; i < 5; i++) {
+
+			Person person = new Person();
+			person.firstname = "person-" + i;
+			adapter.put("person-" + i, person, "persons");
+		}
+
+		adapter.setFetchBatchSize(2);
+
+		Map<Object, Object> entries = new LinkedHashMap<>();
+		try (CloseableIterator<Map.Entry<Object, Object>> iterator = adapter.entries("persons")) {
+			iterator.forEachRemaining(it -> entries.put(it.getKey(), it.getValue()));
+		}
+
+		assertThat(entries).hasSize(5).containsKeys("person-0", "person-1", "person-2", "person-3", "person-4");
+		assertThat(entries.get("person-3")).isInstanceOf(Person.class).extracting("firstname").isEqualTo("person-3");
+	}
+
 	@Test // DATAREDIS-425
 	void couldReadsKeyspaceSizeCorrectly() {
 
@@ -345,6 +487,100 @@ public class RedisKeyValueAdapterTests {
 		assertThat(template.opsForSet().members("persons")).doesNotContain("1");
 	}
 
+	@Test
+	@EnabledIfLongRunningTest
+	void keyExpiredEventsShouldBeHandledInBatches() throws Exception {
+
+		adapter.destroy();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		adapter = new RedisKeyValueAdapter(template, mappingContext);
+		adapter.setEnableKeyspaceEvents(EnableKeyspaceEvents.ON_STARTUP);
+		adapter.setExpirationEventExecutor(executor);
+		adapter.setExpirationEventBatchSize(10);
+		adapter.afterPropertiesSet();
+
+		try {
+
+			for (int i = 0; i < 3; i++) {
+
+				Map<String, String> map = new LinkedHashMap<>();
+				map.put("_class", Person.class.getName());
+				map.put("firstname", "rand");
+
+				template.opsForHash().putAll("persons:" + i, map);
+				template.opsForSet().add("persons", "" + i);
+				template.opsForSet().add("persons:firstname:rand", "" + i);
+				template.opsForSet().add("persons:" + i + ":idx", "persons:firstname:rand");
+				template.expire("persons:" + i, 100, TimeUnit.MILLISECONDS);
+			}
+
+			waitUntilKeyIsGone(template, "persons:firstname:rand");
+			waitUntilKeyIsGone(template, "persons");
+
+			Awaitility.await().until(() -> adapter.getExpirationMetrics().getProcessed() == 3);
+
+			assertThat(template.hasKey("persons:0:idx")).isFalse();
+			assertThat(adapter.getExpirationMetrics().getPending()).isZero();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@EnabledIfLongRunningTest
+	void keyExpiredEventsShouldBeHandledIfPhantomCannotBeConverted() throws Exception {
+
+		adapter.destroy();
+
+		List<RedisKeyExpiredEvent<?>> events = new CopyOnWriteArrayList<>();
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.addApplicationListener((ApplicationListener<ApplicationEvent>) event -> {
+			if (event instanceof RedisKeyExpiredEvent<?> expiredEvent) {
+				events.add(expiredEvent);
+			}
+		});
+		context.refresh();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		adapter = new RedisKeyValueAdapter(template, mappingContext);
+		adapter.setEnableKeyspaceEvents(EnableKeyspaceEvents.ON_STARTUP);
+		adapter.setApplicationContext(context);
+		adapter.setExpirationEventExecutor(executor);
+		adapter.setExpirationEventBatchSize(10);
+		adapter.afterPropertiesSet();
+
+		try {
+
+			for (int i = 0; i < 2; i++) {
+
+				Map<String, String> map = new LinkedHashMap<>();
+				map.put("_class", Person.class.getName());
+				map.put("firstname", "rand");
+				map.put("age", i == 0 ? "not-a-number" : "20");
+
+				template.opsForHash().putAll("persons:" + i, map);
+				template.opsForHash().putAll("persons:" + i + ":phantom", map);
+				template.opsForSet().add("persons", "" + i);
+				template.opsForSet().add("persons:firstname:rand", "" + i);
+				template.opsForSet().add("persons:" + i + ":idx", "persons:firstname:rand");
+				template.expire("persons:" + i, 100, TimeUnit.MILLISECONDS);
+			}
+
+			waitUntilKeyIsGone(template, "persons:firstname:rand");
+			waitUntilKeyIsGone(template, "persons");
+
+			Awaitility.await().until(() -> events.size() == 2);
+
+			assertThat(events).extracting(RedisKeyExpiredEvent::getValue).containsOnlyOnce((Object) null);
+			assertThat(template.hasKey("persons:0:phantom")).isFalse();
+			assertThat(template.hasKey("persons:0:idx")).isFalse();
+		} finally {
+			executor.shutdown();
+			context.close();
+		}
+	}
+
 	@Test // DATAREDIS-744
 	@EnabledIfLongRunningTest
 	void keyExpiredEventShouldRemoveHelperStructuresForObjectsWithColonInId() throws Exception {
@@ -686,6 +922,70 @@ public class RedisKeyValueAdapterTests {
 		assertThat(updatedLocation.getY()).isCloseTo(18D, offset(0.005));
 	}
 
+	@Test
+	void putShouldReplaceExistingEntityWithWriteScript() {
+
+		ExpiringPerson rand = new ExpiringPerson();
+		rand.firstname = "rand";
+		rand.ttl = 3000L;
+		rand.address = new Address();
+		rand.address.location = new Point(10, 20);
+
+		adapter.put("1", rand, "persons");
+
+		assertThat(template.opsForSet().isMember("persons:firstname:rand", "1")).isTrue();
+		assertThat(template.opsForGeo().position("persons:address:location", "1")).hasSize(1);
+		assertThat(template.getExpire("persons:1")).isPositive();
+		assertThat(template.getExpire("persons:1:phantom")).isGreaterThan(template.getExpire("persons:1"));
+
+		rand.firstname = "mat";
+		rand.ttl = -1L;
+		rand.address.location = new Point(17, 18);
+
+		adapter.put("1", rand, "persons");
+
+		assertThat(template.hasKey("persons:firstname:rand")).isFalse();
+		assertThat(template.opsForSet().isMember("persons:firstname:mat", "1")).isTrue();
+		assertThat(template.opsForSet().members("persons:1:idx")).containsExactlyInAnyOrder("persons:firstname:mat",
+				"persons:address:location");
+		assertThat(template.opsForZSet().size("persons:address:location")).isOne();
+		assertThat(template.opsForGeo().position("persons:address:location", "1").get(0).getX()).isCloseTo(17D,
+				offset(0.005));
+		assertThat(template.getExpire("persons:1")).isEqualTo(-1L);
+		assertThat(template.hasKey("persons:1:phantom")).isFalse();
+		assertThat(template.opsForSet().members("persons")).containsExactly("1");
+	}
+
+	@Test
+	void putShouldReplaceSortIndexScoreWithWriteScript() {
+
+		Ranking ranking = new Ranking();
+		ranking.score = 10;
+		adapter.put("1", ranking, "rankings");
+
+		ranking.score = 20;
+		adapter.put("1", ranking, "rankings");
+
+		assertThat(template.opsForZSet().size("rankings:score")).isOne();
+		assertThat(template.opsForZSet().score("rankings:score", "1")).isEqualTo(20D);
+	}
+
+	@Test
+	void putShouldFallBackToEvalIfScriptIsNotCached() {
+
+		template.execute((RedisCallback<Void>) connection -> {
+			connection.scriptingCommands().scriptFlush();
+			return null;
+		});
+
+		Person rand = new Person();
+		rand.firstname = "rand";
+
+		adapter.put("1", rand, "persons");
+
+		assertThat(template.opsForSet().isMember("persons:firstname:rand", "1")).isTrue();
+	}
+
 	@Test // DATAREDIS-1091
 	void phantomKeyNotInsertedOnPutWhenShadowCopyIsTurnedOff() {
 
@@ -866,6 +1166,13 @@ public class RedisKeyValueAdapterTests {
 		@TimeToLive Long ttl;
 	}
 
+	@KeySpace("rankings")
+	static class Ranking {
+
+		@Id String id;
+		@SortIndexed Integer score;
+	}
+
 	@KeySpace("locations")
 	static class Location {
 
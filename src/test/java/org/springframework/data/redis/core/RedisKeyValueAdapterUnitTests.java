@@ -22,8 +22,10 @@ import static org.springframework.test.util.ReflectionTestUtils.*;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,12 +33,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisServerCommands;
 import org.springframework.data.redis.connection.SubscriptionListener;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisKeyValueAdapter.EnableKeyspaceEvents;
@@ -48,6 +54,7 @@ import org.springframework.data.redis.core.convert.SimpleIndexedPropertyValue;
 import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.listener.KeyExpirationEventMessageListener;
+import org.springframework.data.redis.repository.query.RedisOperationChain;
 
 /**
  * Unit tests for {@link RedisKeyValueAdapter}.
@@ -64,6 +71,8 @@ class RedisKeyValueAdapterUnitTests {
 	private RedisMappingContext context;
 	@Mock JedisConnectionFactory jedisConnectionFactoryMock;
 	@Mock RedisConnection redisConnectionMock;
+	@Mock RedisClusterConnection redisClusterConnectionMock;
+	@Mock RedisServerCommands serverCommandsMock;
 
 	@BeforeEach
 	void setUp() throws Exception {
@@ -121,13 +130,14 @@ class RedisKeyValueAdapterUnitTests {
 		RedisData rd = new RedisData(Bucket.newBucketFromStringMap(Collections.singletonMap("_id", "1")));
 		rd.addIndexedData(new SimpleIndexedPropertyValue("persons", "firstname", "rand"));
 
-		when(redisConnectionMock.sMembers(Mockito.any(byte[].class)))
+		when(jedisConnectionFactoryMock.getConnection()).thenReturn(redisClusterConnectionMock);
+		when(redisClusterConnectionMock.sMembers(Mockito.any(byte[].class)))
 				.thenReturn(new LinkedHashSet<>(Arrays.asList("persons:firstname:rand".getBytes())));
-		when(redisConnectionMock.del((byte[][]) any())).thenReturn(1L);
+		when(redisClusterConnectionMock.del((byte[][]) any())).thenReturn(1L);
 
 		adapter.put("1", rd, "persons");
 
-		verify(redisConnectionMock, times(1)).sRem(Mockito.any(byte[].class), Mockito.any(byte[].class));
+		verify(redisClusterConnectionMock, times(1)).sRem(Mockito.any(byte[].class), Mockito.any(byte[].class));
 	}
 
 	@Test // DATAREDIS-512
@@ -136,13 +146,76 @@ class RedisKeyValueAdapterUnitTests {
 		RedisData rd = new RedisData(Bucket.newBucketFromStringMap(Collections.singletonMap("_id", "1")));
 		rd.addIndexedData(new SimpleIndexedPropertyValue("persons", "firstname", "rand"));
 
-		when(redisConnectionMock.sMembers(Mockito.any(byte[].class)))
+		when(jedisConnectionFactoryMock.getConnection()).thenReturn(redisClusterConnectionMock);
+		when(redisClusterConnectionMock.sMembers(Mockito.any(byte[].class)))
 				.thenReturn(new LinkedHashSet<>(Arrays.asList("persons:firstname:rand".getBytes())));
-		when(redisConnectionMock.del((byte[][]) any())).thenReturn(0L);
+		when(redisClusterConnectionMock.del((byte[][]) any())).thenReturn(0L);
 
 		adapter.put("1", rd, "persons");
 
-		verify(redisConnectionMock, never()).sRem(Mockito.any(byte[].class), (byte[][]) any());
+		verify(redisClusterConnectionMock, never()).sRem(Mockito.any(byte[].class), (byte[][]) any());
+	}
+
+	@Test
+	void putShouldWriteEntityAndIndexesUsingSingleScriptInvocation() {
+
+		RedisData rd = new RedisData(Bucket.newBucketFromStringMap(Collections.singletonMap("_id", "1")));
+		rd.addIndexedData(new SimpleIndexedPropertyValue("persons", "firstname", "rand"));
+
+		adapter.put("1", rd, "persons");
+
+		Invocation evalSha = getSingleInvocation(redisConnectionMock, "evalSha");
+		byte[][] keysAndArgs = (byte[][]) evalSha.getRawArguments()[3];
+
+		assertThat(evalSha.getRawArguments()[2]).isEqualTo(6);
+		assertThat(new String(keysAndArgs[0])).isEqualTo("persons:1");
+		assertThat(new String(keysAndArgs[4])).isEqualTo("persons:firstname:rand");
+		assertThat(new String(keysAndArgs[5])).isEqualTo("persons:1:idx");
+
+		verify(redisConnectionMock, never()).del(any(byte[].class));
+		verify(redisConnectionMock, never()).hMSet(any(), any());
+		verify(redisConnectionMock, never()).sAdd(any(), any(byte[].class));
+	}
+
+	@Test
+	void putShouldPassPreviousIndexKeysToScript() {
+
+		RedisData rd = new RedisData(Bucket.newBucketFromStringMap(Collections.singletonMap("_id", "1")));
+		rd.addIndexedData(new SimpleIndexedPropertyValue("persons", "firstname", "rand"));
+
+		when(redisConnectionMock.sMembers("persons:1:idx".getBytes()))
+				.thenReturn(new LinkedHashSet<>(Arrays.asList("persons:firstname:mat".getBytes())));
+
+		adapter.put("1", rd, "persons");
+
+		Invocation evalSha = getSingleInvocation(redisConnectionMock, "evalSha");
+		byte[][] keysAndArgs = (byte[][]) evalSha.getRawArguments()[3];
+
+		assertThat(evalSha.getRawArguments()[2]).isEqualTo(7);
+		assertThat(new String(keysAndArgs[3])).isEqualTo("persons:1:idx");
+		assertThat(new String(keysAndArgs[4])).isEqualTo("persons:firstname:mat");
+		assertThat(new String(keysAndArgs[5])).isEqualTo("persons:firstname:rand");
+		assertThat(new String(keysAndArgs[7 + 4])).isEqualTo("1");
+	}
+
+	@Test
+	void putShouldFallBackToEvalIfScriptIsNotLoaded() {
+
+		RedisData rd = new RedisData(Bucket.newBucketFromStringMap(Collections.singletonMap("_id", "1")));
+
+		RedisConnection connection = mock(RedisConnection.class, invocation -> {
+
+			if (invocation.getMethod().getName().equals("evalSha")) {
+				throw new RedisSystemException("NOSCRIPT No matching script", null);
+			}
+
+			return RETURNS_DEFAULTS.answer(invocation);
+		});
+		when(jedisConnectionFactoryMock.getConnection()).thenReturn(connection);
+
+		adapter.put("1", rd, "persons");
+
+		assertThat(getSingleInvocation(connection, "eval").getRawArguments()[2]).isEqualTo(4);
 	}
 
 	@Test // DATAREDIS-491
@@ -214,4 +287,75 @@ class RedisKeyValueAdapterUnitTests {
 	static class WithTimeToLive {
 		@Id String id;
 	}
+
+	@Test
+	void countShouldNotWriteIntersectionWithoutResultCaching() {
+
+		withRedisVersion("6.2.7");
+		when(redisConnectionMock.sInter(any(byte[][].class)))
+				.thenReturn(new LinkedHashSet<>(Arrays.asList("1".getBytes(), "2".getBytes())));
+
+		RedisQueryEngine engine = new RedisQueryEngine();
+		engine.registerAdapter(adapter);
+
+		RedisOperationChain criteria = new RedisOperationChain();
+		criteria.sismember("firstname", "rand");
+		criteria.sismember("lastname", "al'thor");
+
+		assertThat(engine.count(criteria, "persons")).isEqualTo(2L);
+
+		verify(redisConnectionMock, never()).sInterStore(any(), any(byte[][].class));
+		verify(redisConnectionMock, never()).del(any(byte[].class));
+	}
+
+	@Test
+	void countShouldUseSInterCardIfSupported() {
+
+		withRedisVersion("7.0.5");
+		when(redisConnectionMock.execute(eq("SINTERCARD"), any(byte[][].class))).thenReturn(2L);
+
+		RedisQueryEngine engine = new RedisQueryEngine();
+		engine.registerAdapter(adapter);
+
+		RedisOperationChain criteria = new RedisOperationChain();
+		criteria.sismember("firstname", "rand");
+		criteria.sismember("lastname", "al'thor");
+
+		assertThat(engine.count(criteria, "persons")).isEqualTo(2L);
+
+		Invocation invocation = getSingleInvocation(redisConnectionMock, "execute");
+		assertThat((byte[]) invocation.getArgument(1)).isEqualTo("2".getBytes());
+		assertThat((byte[]) invocation.getArgument(2)).isEqualTo("persons:firstname:rand".getBytes());
+		assertThat((byte[]) invocation.getArgument(3)).isEqualTo("persons:lastname:al'thor".getBytes());
+
+		verify(redisConnectionMock, never()).sInter(any(byte[][].class));
+		verify(redisConnectionMock, never()).sInterStore(any(), any(byte[][].class));
+	}
+
+	@Test
+	void shouldDetectQueryResultKeys() {
+
+		assertThat(RedisQueryEngine.isQueryResultKey("persons:$query:4f2a".getBytes())).isTrue();
+		assertThat(RedisQueryEngine.isQueryResultKey("persons:1".getBytes())).isFalse();
+		assertThat(RedisQueryEngine.isQueryResultKey("persons:1:phantom".getBytes())).isFalse();
+		assertThat(RedisQueryEngine.isQueryResultKey("$query:1".getBytes())).isFalse();
+	}
+
+	private void withRedisVersion(String version) {
+
+		Properties info = new Properties();
+		info.setProperty("redis_version", version);
+
+		when(redisConnectionMock.serverCommands()).thenReturn(serverCommandsMock);
+		when(serverCommandsMock.info("server")).thenReturn(info);
+	}
+
+	private static Invocation getSingleInvocation(Object mock, String methodName) {
+
+		List<Invocation> invocations = mockingDetails(mock).getInvocations().stream()
+				.filter(it -> it.getMethod().getName().equals(methodName)).collect(Collectors.toList());
+
+		assertThat(invocations).hasSize(1);
+		return invocations.get(0);
+	}
 }
@@ -19,17 +19,27 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.IndexedPipelineConnection;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.instrument.classloading.ShadowingClassLoader;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -73,6 +83,15 @@ class RedisTemplateUnitTests {
 		verify(redisConnectionMock, times(1)).replicaOfNoOne();
 	}
 
+	@Test
+	void convertAndSendShardedIsDelegatedToConnectionCorrectly() {
+
+		when(redisConnectionMock.sPublish(any(), any())).thenReturn(1L);
+
+		assertThat(template.convertAndSendSharded("shard-channel", "message")).isEqualTo(1L);
+		verify(redisConnectionMock).sPublish(eq("shard-channel".getBytes(StandardCharsets.UTF_8)), any());
+	}
+
 	@Test // DATAREDIS-501
 	void templateShouldPassOnAndUseResoureLoaderClassLoaderToDefaultJdkSerializerWhenNotAlreadySet() {
 
@@ -101,6 +120,110 @@ class RedisTemplateUnitTests {
 		verify(redisConnectionMock, never()).close();
 	}
 
+	@Test
+	void executeTypedPipelineShouldConvertResultsLazily() {
+
+		RedisConnection connection = pipelinedConnection(Arrays.asList("value".getBytes(), null, 2L, null));
+
+		AtomicReference<PipelineResult<String>> value = new AtomicReference<>();
+		AtomicReference<PipelineResult<Long>> counter = new AtomicReference<>();
+
+		List<Object> results = template.executeTypedPipeline(pipeline -> {
+
+			value.set(pipeline.queue(it -> it.get("key".getBytes()), RedisSerializer.string()));
+			pipeline.execute(it -> it.set("other".getBytes(), "value".getBytes()));
+			counter.set(pipeline.queue(it -> it.incr("counter".getBytes()), it -> it * 10));
+			pipeline.queue(it -> it.get("absent".getBytes()));
+		});
+
+		verify(connection).openPipeline();
+		verify(connection, never()).closePipeline();
+		assertThat(value.get().isDone()).isTrue();
+		assertThat(value.get().get()).isEqualTo("value");
+		assertThat(counter.get().get()).isEqualTo(20L);
+		assertThat(results).containsExactly("value", 20L, null);
+	}
+
+	@Test
+	void executeTypedPipelineShouldRejectResultCountMismatch() {
+
+		pipelinedConnection(Arrays.asList(1L, 2L));
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.executeTypedPipeline(pipeline -> pipeline.queue(it -> it.incr("counter".getBytes()))));
+	}
+
+	@Test
+	void executeTypedPipelineShouldRejectCallbackIssuingMultipleCommands() {
+
+		RedisConnection connection = pipelinedConnection(Arrays.asList(1L, 2L));
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.executeTypedPipeline(pipeline -> pipeline.queue(it -> {
+					it.incr("counter".getBytes());
+					return it.incr("counter".getBytes());
+				})));
+		verify(connection).closePipeline();
+	}
+
+	@Test
+	void executeTypedPipelineShouldMatchResultsByCommandPosition() {
+
+		pipelinedConnection(Arrays.asList(null, 1L, "other".getBytes(), null, 2L));
+
+		List<Object> results = template.executeTypedPipeline(pipeline -> {
+
+			pipeline.execute(it -> it.hashCommands().hMSet("hash".getBytes(), Map.of()));
+			pipeline.queue(it -> it.incr("counter".getBytes()));
+			pipeline.execute(it -> it.get("other".getBytes()));
+			pipeline.queue(it -> {
+				it.listCommands().lTrim("list".getBytes(), 0, 1);
+				return null;
+			});
+			pipeline.queue(it -> it.incr("counter".getBytes()));
+		});
+
+		assertThat(results).containsExactly(1L, null, 2L);
+	}
+
+	@Test
+	void executeTypedPipelineShouldRejectConnectionWithoutCommandPositions() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.executeTypedPipeline(pipeline -> {}));
+		verify(redisConnectionMock, never()).openPipeline();
+	}
+
+	/**
+	 * Create a pipelined connection counting issued commands and returning {@code results} upon closing the pipeline.
+	 */
+	private RedisConnection pipelinedConnection(List<Object> results) {
+
+		RedisConnection connection = mock(RedisConnection.class,
+				withSettings().extraInterfaces(IndexedPipelineConnection.class).defaultAnswer(RETURNS_DEEP_STUBS)
+						.strictness(Strictness.LENIENT));
+		IndexedPipelineConnection indexed = (IndexedPipelineConnection) connection;
+		AtomicInteger commands = new AtomicInteger();
+
+		when(connection.incr(any())).then(invocation -> count(commands));
+		when(connection.get(any())).then(invocation -> count(commands));
+		when(connection.set(any(), any())).then(invocation -> count(commands));
+		doAnswer(invocation -> count(commands)).when(connection.hashCommands()).hMSet(any(), any());
+		doAnswer(invocation -> count(commands)).when(connection.listCommands()).lTrim(any(), anyLong(), anyLong());
+		when(indexed.getPipelinedCommandCount()).then(invocation -> commands.get());
+		when(indexed.closeIndexedPipeline()).thenReturn(results);
+		when(connectionFactoryMock.getConnection()).thenReturn(connection);
+
+		return connection;
+	}
+
+	@Nullable
+	private static Object count(AtomicInteger commands) {
+
+		commands.incrementAndGet();
+		return null;
+	}
+
 	@Test // DATAREDIS-988
 	void executeSessionShouldReuseConnection() {
 
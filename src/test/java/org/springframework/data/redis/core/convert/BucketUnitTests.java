@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link Bucket}.
+ *
+ * @author agent
+ */
+class BucketUnitTests {
+
+	@Test
+	void shouldReadValuesFromRawMap() {
+
+		Map<byte[], byte[]> raw = new LinkedHashMap<>();
+		raw.put("firstname".getBytes(), "rand".getBytes());
+		raw.put("address.city".getBytes(), "two rivers".getBytes());
+
+		Bucket bucket = Bucket.newBucketFromRawMap(raw);
+
+		assertThat(bucket.size()).isEqualTo(2);
+		assertThat(bucket.get("firstname")).isEqualTo("rand".getBytes());
+		assertThat(bucket.extract("address.").keySet()).containsExactly("address.city");
+		assertThat(bucket.rawMap()).hasSize(2);
+	}
+
+	@Test
+	void extractShouldReturnEntriesOrderedByKey() {
+
+		Bucket bucket = new Bucket();
+		bucket.put("nicknames.[1]", "lews".getBytes());
+		bucket.put("firstname", "rand".getBytes());
+		bucket.put("nicknames.[0]", "dragon".getBytes());
+		bucket.put("nicknamesCount", "2".getBytes());
+
+		assertThat(bucket.extract("nicknames.[").keySet()).containsExactly("nicknames.[0]", "nicknames.[1]");
+		assertThat(bucket.extract("firstname.").isEmpty()).isTrue();
+	}
+
+	@Test
+	void extractShouldConsiderModifications() {
+
+		Bucket bucket = new Bucket();
+		bucket.put("nicknames.[0]", "dragon".getBytes());
+
+		assertThat(bucket.extract("nicknames.[").size()).isOne();
+
+		bucket.put("nicknames.[1]", "lews".getBytes());
+		bucket.remove("nicknames.[0]");
+
+		assertThat(bucket.extract("nicknames.[").keySet()).containsExactly("nicknames.[1]");
+	}
+
+	@Test
+	void shouldReflectModificationsThroughViews() {
+
+		Map<byte[], byte[]> raw = new LinkedHashMap<>();
+		raw.put("firstname".getBytes(), "rand".getBytes());
+		raw.put("nicknames.[0]".getBytes(), "dragon".getBytes());
+		raw.put("nicknames.[1]".getBytes(), "lews".getBytes());
+
+		Bucket bucket = Bucket.newBucketFromRawMap(raw);
+
+		assertThat(bucket.extract("nicknames.[").size()).isEqualTo(2);
+
+		bucket.keySet().remove("nicknames.[0]");
+		bucket.entrySet().iterator().next().setValue("mat".getBytes());
+
+		assertThat(bucket.extract("nicknames.[").keySet()).containsExactly("nicknames.[1]");
+		assertThat(bucket.rawMap()).hasSize(2);
+		assertThat(bucket.get("firstname")).isEqualTo("mat".getBytes());
+	}
+
+	@Test
+	void extractAllKeysForShouldReturnCollectionElementPaths() {
+
+		Bucket bucket = new Bucket();
+		bucket.put("addresses.[1].city", "emond's field".getBytes());
+		bucket.put("addresses.[0].city", "two rivers".getBytes());
+		bucket.put("addresses.[0].country", "andor".getBytes());
+		bucket.put("firstname", "rand".getBytes());
+
+		assertThat(bucket.extractAllKeysFor("addresses")).containsExactly("addresses.[0]", "addresses.[1]");
+		assertThat(bucket.extractAllKeysFor("firstname")).isEmpty();
+	}
+}
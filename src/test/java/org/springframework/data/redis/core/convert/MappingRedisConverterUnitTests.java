@@ -40,6 +40,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -57,6 +58,7 @@ import org.springframework.data.mapping.MappingException;
 import org.springframework.data.redis.core.PartialUpdate;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration.KeyspaceSettings;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.test.util.RedisTestData;
 import org.springframework.util.StringUtils;
@@ -1991,6 +1993,86 @@ class MappingRedisConverterUnitTests {
 		assertThat(target).containsExactly("Hello", "stream", "message", 100L);
 	}
 
+	@Test
+	void readAndWriteSimplePropertiesRepeatedly() {
+
+		rand.id = "rand";
+		rand.firstname = "rand";
+		rand.age = 24;
+		rand.alive = true;
+		rand.gender = Gender.MALE;
+
+		for (int i = 0; i < 2; i++) {
+
+			RedisData rdo = new RedisData();
+			converter.write(rand, rdo);
+
+			Person target = converter.read(Person.class, rdo);
+
+			assertThat(target.id).isEqualTo("rand");
+			assertThat(target.firstname).isEqualTo("rand");
+			assertThat(target.age).isEqualTo(24);
+			assertThat(target.alive).isTrue();
+			assertThat(target.gender).isEqualTo(Gender.MALE);
+		}
+	}
+
+	@Test
+	void writeShouldReusePropertyPathsOfFlatAndNestedProperties() {
+
+		Person mat = new Person();
+		mat.firstname = "mat";
+
+		rand.firstname = "rand";
+		rand.address = new Address();
+		rand.address.city = "two rivers";
+		rand.coworkers = Collections.singletonList(mat);
+
+		List<Set<String>> keys = new ArrayList<>();
+		RedisData rdo = null;
+
+		for (int i = 0; i < 1000; i++) {
+
+			rdo = new RedisData();
+			converter.write(rand, rdo);
+			keys.add(rdo.getBucket().keySet());
+		}
+
+		String firstname = getKey(keys.get(0), "firstname");
+		String city = getKey(keys.get(0), "address.city");
+
+		for (Set<String> it : keys) {
+
+			assertThat(getKey(it, "firstname")).isSameAs(firstname);
+			assertThat(getKey(it, "address.city")).isSameAs(city);
+			assertThat(it).contains("coworkers.[0].firstname");
+		}
+
+		Person target = converter.read(Person.class, rdo);
+
+		assertThat(target.address.city).isEqualTo("two rivers");
+		assertThat(target.coworkers).extracting(it -> it.firstname).containsExactly("mat");
+	}
+
+	@Test
+	void readShouldConsiderOverriddenReadProperty() {
+
+		converter = new MappingRedisConverter(new RedisMappingContext(), null, resolverMock) {
+
+			@Override
+			protected Object readProperty(String path, RedisData source, RedisPersistentProperty persistentProperty) {
+
+				Object value = super.readProperty(path, source, persistentProperty);
+				return value instanceof String ? value.toString().toUpperCase() : value;
+			}
+		};
+		converter.afterPropertiesSet();
+
+		Person target = read(Person.class, Collections.singletonMap("firstname", "rand"));
+
+		assertThat(target.firstname).isEqualTo("RAND");
+	}
+
 	private RedisTestData write(Object source) {
 
 		RedisData rdo = new RedisData();
@@ -1998,6 +2080,10 @@ class MappingRedisConverterUnitTests {
 		return RedisTestData.from(rdo);
 	}
 
+	private static String getKey(Set<String> keys, String key) {
+		return keys.stream().filter(key::equals).findFirst().orElseThrow();
+	}
+
 	private <T> T read(Class<T> type, Map<String, String> source) {
 		return converter.read(type, new RedisData(Bucket.newBucketFromStringMap(source)));
 	}
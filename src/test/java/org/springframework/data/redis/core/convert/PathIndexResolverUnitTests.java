@@ -40,6 +40,7 @@ import org.springframework.data.redis.core.index.GeoIndexed;
 import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.index.Indexed;
 import org.springframework.data.redis.core.index.SimpleIndexDefinition;
+import org.springframework.data.redis.core.index.SortIndexed;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.util.TypeInformation;
 
@@ -461,6 +462,18 @@ class PathIndexResolverUnitTests {
 				.contains(new GeoIndexedPropertyValue(GeoIndexedOnPoint.class.getName(), "location", source.location));
 	}
 
+	@Test
+	void resolveSortIndexOnNumericField() {
+
+		SortIndexedOnNumber source = new SortIndexedOnNumber();
+		source.age = 42;
+
+		Set<IndexedData> indexes = indexResolver.resolveIndexesFor(TypeInformation.of(SortIndexedOnNumber.class),
+				source);
+
+		assertThat(indexes).containsExactly(new SortIndexedPropertyValue(SortIndexedOnNumber.class.getName(), "age", 42D));
+	}
+
 	@Test // DATAREDIS-533
 	void resolveGeoIndexOnArrayFieldThrowsError() {
 
@@ -527,4 +540,8 @@ class PathIndexResolverUnitTests {
 	static class GeoIndexedOnArray {
 		@GeoIndexed double[] location;
 	}
+
+	static class SortIndexedOnNumber {
+		@SortIndexed Integer age;
+	}
 }
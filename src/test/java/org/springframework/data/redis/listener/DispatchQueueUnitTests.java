@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * Unit tests for {@link DispatchQueue}.
+ *
+ * @author agent
+ */
+class DispatchQueueUnitTests {
+
+	private final MessageListener listener = (message, pattern) -> {};
+	private final DispatchStatistics statistics = new DispatchStatistics();
+	private final List<String> dropped = new ArrayList<>();
+
+	@Test
+	void shouldDropOldestDelivery() throws InterruptedException {
+
+		DispatchQueue queue = createQueue(DispatchOverflowPolicy.DROP_OLDEST);
+
+		assertThat(queue.offer(delivery("1"))).isTrue();
+		assertThat(queue.offer(delivery("2"))).isTrue();
+		assertThat(queue.offer(delivery("3"))).isTrue();
+
+		assertThat(dropped).containsExactly("1");
+		assertThat(body(queue.poll())).isEqualTo("2");
+		assertThat(body(queue.poll())).isEqualTo("3");
+		assertThat(queue.poll()).isNull();
+
+		assertThat(statistics.getDroppedMessages()).isOne();
+		assertThat(statistics.getDispatchedMessages()).isEqualTo(2);
+		assertThat(statistics.getPendingMessages()).isZero();
+	}
+
+	@Test
+	void shouldDropNewestDelivery() throws InterruptedException {
+
+		DispatchQueue queue = createQueue(DispatchOverflowPolicy.DROP_NEWEST);
+
+		queue.offer(delivery("1"));
+		queue.offer(delivery("2"));
+		assertThat(queue.offer(delivery("3"))).isFalse();
+
+		assertThat(dropped).containsExactly("3");
+		assertThat(statistics.getPendingMessages()).isEqualTo(2);
+		assertThat(body(queue.poll())).isEqualTo("1");
+		assertThat(body(queue.poll())).isEqualTo("2");
+	}
+
+	@Test
+	void shouldBlockUntilCapacityAvailable() throws InterruptedException {
+
+		DispatchQueue queue = createQueue(DispatchOverflowPolicy.BLOCK);
+
+		queue.offer(delivery("1"));
+		queue.offer(delivery("2"));
+
+		Thread producer = new Thread(() -> queue.offer(delivery("3")));
+		producer.start();
+
+		producer.join(100);
+		assertThat(producer.isAlive()).isTrue();
+
+		assertThat(body(queue.poll(1, TimeUnit.SECONDS))).isEqualTo("1");
+
+		producer.join(TimeUnit.SECONDS.toMillis(5));
+		assertThat(producer.isAlive()).isFalse();
+		assertThat(dropped).isEmpty();
+		assertThat(statistics.getPendingMessages()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldDropDeliveryWhenInterruptedWhileBlocked() {
+
+		DispatchQueue queue = createQueue(DispatchOverflowPolicy.BLOCK);
+
+		queue.offer(delivery("1"));
+		queue.offer(delivery("2"));
+
+		Thread.currentThread().interrupt();
+		try {
+			assertThat(queue.offer(delivery("3"))).isFalse();
+			assertThat(Thread.currentThread().isInterrupted()).isTrue();
+		} finally {
+			Thread.interrupted();
+		}
+
+		assertThat(dropped).containsExactly("3");
+		assertThat(statistics.getDroppedMessages()).isOne();
+		assertThat(statistics.getPendingMessages()).isEqualTo(2);
+	}
+
+	@Test
+	void inFlightDeliveriesShouldOccupyCapacityUntilCompleted() {
+
+		DispatchQueue queue = createQueue(DispatchOverflowPolicy.DROP_OLDEST);
+
+		MessageDelivery first = delivery("1");
+		MessageDelivery second = delivery("2");
+		queue.offer(first);
+		queue.offer(second);
+
+		assertThat(queue.pollForProcessing(second)).isTrue();
+		assertThat(queue.pollForProcessing(first)).isTrue();
+
+		assertThat(queue.offer(delivery("3"))).isFalse();
+		assertThat(dropped).containsExactly("3");
+
+		queue.completed();
+
+		assertThat(queue.offer(delivery("4"))).isTrue();
+		assertThat(statistics.getPendingMessages()).isOne();
+	}
+
+	@Test
+	void pollForProcessingShouldSkipReplacedDelivery() {
+
+		DispatchQueue queue = createQueue(DispatchOverflowPolicy.DROP_OLDEST);
+
+		MessageDelivery first = delivery("1");
+		queue.offer(first);
+		queue.offer(delivery("2"));
+		queue.offer(delivery("3"));
+
+		assertThat(queue.pollForProcessing(first)).isFalse();
+		assertThat(dropped).containsExactly("1");
+		assertThat(statistics.getDispatchedMessages()).isZero();
+	}
+
+	@Test
+	void dropShouldReportGivenDelivery() {
+
+		DispatchQueue queue = createQueue(DispatchOverflowPolicy.DROP_NEWEST);
+
+		MessageDelivery first = delivery("1");
+		queue.offer(first);
+		queue.offer(delivery("2"));
+		queue.drop(first);
+
+		assertThat(dropped).containsExactly("1");
+		assertThat(statistics.getDroppedMessages()).isOne();
+		assertThat(statistics.getPendingMessages()).isOne();
+		assertThat(body(queue.poll())).isEqualTo("2");
+		assertThat(queue.poll()).isNull();
+	}
+
+	@Test
+	void dropShouldIgnoreDeliveryAlreadyProcessing() {
+
+		DispatchQueue queue = createQueue(DispatchOverflowPolicy.DROP_NEWEST);
+
+		MessageDelivery first = delivery("1");
+		queue.offer(first);
+		queue.pollForProcessing(first);
+		queue.drop(first);
+
+		assertThat(dropped).isEmpty();
+		assertThat(statistics.getDroppedMessages()).isZero();
+	}
+
+	@Test
+	void pollShouldReturnNullAfterTimeout() throws InterruptedException {
+		assertThat(createQueue(DispatchOverflowPolicy.BLOCK).poll(1, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+	private DispatchQueue createQueue(DispatchOverflowPolicy policy) {
+		return new DispatchQueue(2, policy, statistics, it -> dropped.add(body(it)));
+	}
+
+	private MessageDelivery delivery(String body) {
+
+		byte[] channel = "channel".getBytes(StandardCharsets.UTF_8);
+		return new MessageDelivery(listener, new DefaultMessage(channel, body.getBytes(StandardCharsets.UTF_8)), channel);
+	}
+
+	private static String body(MessageDelivery delivery) {
+		return new String(delivery.message.getBody(), StandardCharsets.UTF_8);
+	}
+}
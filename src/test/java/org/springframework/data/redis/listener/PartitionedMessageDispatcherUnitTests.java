@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * Unit tests for {@link PartitionedMessageDispatcher}.
+ *
+ * @author agent
+ */
+class PartitionedMessageDispatcherUnitTests {
+
+	private static final byte[] CHANNEL = "channel".getBytes(StandardCharsets.UTF_8);
+
+	private final List<String> received = new CopyOnWriteArrayList<>();
+	private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+	private PartitionedMessageDispatcher dispatcher;
+
+	@AfterEach
+	void tearDown() {
+		if (dispatcher != null) {
+			dispatcher.stop();
+		}
+	}
+
+	@Test
+	void shouldPreserveOrderWithinPartition() throws InterruptedException {
+
+		CountDownLatch latch = new CountDownLatch(100);
+		MessageListener listener = (message, pattern) -> {
+			received.add(new String(message.getBody(), StandardCharsets.UTF_8));
+			latch.countDown();
+		};
+
+		dispatcher = createDispatcher(4, 1);
+		dispatcher.start(new SimpleAsyncTaskExecutor());
+
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			expected.add("message-" + i);
+			dispatcher.dispatch(Collections.singletonList(listener), message("message-" + i), CHANNEL);
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(received).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	void shouldDeliverQueuedMessagesAsBatches() throws InterruptedException {
+
+		CountDownLatch latch = new CountDownLatch(5);
+		BatchMessageListener listener = (messages, pattern) -> {
+
+			batchSizes.add(messages.size());
+			for (Message message : messages) {
+				received.add(new String(message.getBody(), StandardCharsets.UTF_8));
+				latch.countDown();
+			}
+		};
+
+		dispatcher = createDispatcher(1, 3);
+
+		for (int i = 0; i < 5; i++) {
+			dispatcher.dispatch(Collections.singletonList(listener), message("message-" + i), CHANNEL);
+		}
+
+		dispatcher.start(new SimpleAsyncTaskExecutor());
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(batchSizes).containsExactly(3, 2);
+		assertThat(received).containsExactly("message-0", "message-1", "message-2", "message-3", "message-4");
+	}
+
+	@Test
+	void shouldBatchMessagesPerListener() throws InterruptedException {
+
+		CountDownLatch latch = new CountDownLatch(6);
+		List<String> first = new CopyOnWriteArrayList<>();
+		List<String> second = new CopyOnWriteArrayList<>();
+		List<MessageListener> listeners = Arrays.asList(batchListener(first, latch), batchListener(second, latch));
+
+		dispatcher = createDispatcher(1, 6);
+
+		for (int i = 0; i < 3; i++) {
+			dispatcher.dispatch(listeners, message("message-" + i), CHANNEL);
+		}
+
+		dispatcher.start(new SimpleAsyncTaskExecutor());
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(batchSizes).containsExactly(3, 3);
+		assertThat(first).containsExactly("message-0", "message-1", "message-2");
+		assertThat(second).containsExactly("message-0", "message-1", "message-2");
+	}
+
+	@Test
+	void shouldNotBatchMessagesForRegularListeners() throws InterruptedException {
+
+		CountDownLatch latch = new CountDownLatch(3);
+		MessageListener listener = (message, pattern) -> {
+			batchSizes.add(1);
+			latch.countDown();
+		};
+
+		dispatcher = createDispatcher(1, 10);
+
+		for (int i = 0; i < 3; i++) {
+			dispatcher.dispatch(Collections.singletonList(listener), message("message-" + i), CHANNEL);
+		}
+
+		dispatcher.start(new SimpleAsyncTaskExecutor());
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(batchSizes).containsExactly(1, 1, 1);
+	}
+
+	@Test
+	void laneIndexShouldBeWithinBounds() {
+
+		for (int hash : new int[] { Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE }) {
+			assertThat(PartitionedMessageDispatcher.laneIndex(hash, 3)).isBetween(0, 2);
+		}
+	}
+
+	private PartitionedMessageDispatcher createDispatcher(int partitions, int maxBatchSize) {
+
+		return new PartitionedMessageDispatcher(partitions,
+				partition -> new DispatchQueue(128, DispatchOverflowPolicy.BLOCK, new DispatchStatistics(), it -> {}),
+				maxBatchSize, message -> Arrays.hashCode(message.getChannel()),
+				new PartitionedMessageDispatcher.MessageProcessor() {
+
+					@Override
+					public void processMessage(MessageListener listener, Message message, byte[] source) {
+						listener.onMessage(message, source);
+					}
+
+					@Override
+					public void processMessages(BatchMessageListener listener, List<Message> messages, byte[] source) {
+						listener.onMessages(messages, source);
+					}
+				});
+	}
+
+	private BatchMessageListener batchListener(List<String> received, CountDownLatch latch) {
+
+		return (messages, pattern) -> {
+
+			batchSizes.add(messages.size());
+			for (Message message : messages) {
+				received.add(new String(message.getBody(), StandardCharsets.UTF_8));
+				latch.countDown();
+			}
+		};
+	}
+
+	private static Message message(String body) {
+		return new DefaultMessage(CHANNEL, body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -19,18 +19,29 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.Subscription;
 import org.springframework.data.redis.connection.SubscriptionListener;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.listener.adapter.RedisListenerExecutionFailedException;
 
@@ -152,4 +163,105 @@ class RedisMessageListenerContainerUnitTests {
 	void failsOnDuplicateInit() {
 		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> container.afterPropertiesSet());
 	}
+
+	@Test
+	void shouldRejectBlockingOverflowPolicyForNonBlockingSubscriptions() {
+
+		RedisMessageListenerContainer lettuceContainer = new RedisMessageListenerContainer();
+		lettuceContainer.setConnectionFactory(mock(LettuceConnectionFactory.class));
+		lettuceContainer.setTaskExecutor(new SyncTaskExecutor());
+		lettuceContainer.setDispatchPartitions(2);
+		lettuceContainer.setDispatchOverflowPolicy(DispatchOverflowPolicy.BLOCK);
+
+		assertThatIllegalStateException().isThrownBy(lettuceContainer::afterPropertiesSet);
+	}
+
+	@Test
+	void shouldBatchMessagesForMultipleListeners() throws Exception {
+
+		List<Runnable> lanes = new ArrayList<>();
+		AtomicReference<MessageListener> dispatchListener = new AtomicReference<>();
+
+		RedisMessageListenerContainer batchingContainer = new RedisMessageListenerContainer();
+		batchingContainer.setConnectionFactory(connectionFactoryMock);
+		batchingContainer.setTaskExecutor(lanes::add);
+		batchingContainer.setSubscriptionExecutor(Runnable::run);
+		batchingContainer.setMaxSubscriptionRegistrationWaitingTime(1);
+		batchingContainer.setDispatchPartitions(1);
+		batchingContainer.setMaxBatchSize(10);
+		batchingContainer.afterPropertiesSet();
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+		doAnswer(it -> {
+
+			dispatchListener.set(it.getArgument(0));
+			when(connectionMock.isSubscribed()).thenReturn(true);
+			((SubscriptionListener) dispatchListener.get()).onChannelSubscribed("a".getBytes(StandardCharsets.UTF_8), 0);
+
+			return null;
+		}).when(connectionMock).subscribe(any(), any());
+
+		CountDownLatch latch = new CountDownLatch(6);
+		List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+		BatchMessageListener listener = (messages, pattern) -> {
+
+			batchSizes.add(messages.size());
+			messages.forEach(message -> latch.countDown());
+		};
+
+		batchingContainer.addMessageListener(listener, new ChannelTopic("a"));
+		batchingContainer.addMessageListener((BatchMessageListener) listener::onMessages, new ChannelTopic("a"));
+		batchingContainer.start();
+
+		for (int i = 0; i < 3; i++) {
+			dispatchListener.get().onMessage(new DefaultMessage("a".getBytes(StandardCharsets.UTF_8),
+					("message-" + i).getBytes(StandardCharsets.UTF_8)), null);
+		}
+
+		assertThat(lanes).hasSize(1);
+		new Thread(lanes.get(0)).start();
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(batchSizes).containsExactly(3, 3);
+
+		when(connectionMock.getSubscription()).thenReturn(subscriptionMock);
+		batchingContainer.destroy();
+	}
+
+	@Test
+	void unboundedDispatchShouldPropagateRejectedExecution() throws Exception {
+
+		AtomicReference<MessageListener> dispatchListener = new AtomicReference<>();
+
+		RedisMessageListenerContainer rejectingContainer = new RedisMessageListenerContainer();
+		rejectingContainer.setConnectionFactory(connectionFactoryMock);
+		rejectingContainer.setTaskExecutor(task -> {
+			throw new RejectedExecutionException();
+		});
+		rejectingContainer.setSubscriptionExecutor(Runnable::run);
+		rejectingContainer.setMaxSubscriptionRegistrationWaitingTime(1);
+		rejectingContainer.afterPropertiesSet();
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+		doAnswer(it -> {
+
+			dispatchListener.set(it.getArgument(0));
+			when(connectionMock.isSubscribed()).thenReturn(true);
+			((SubscriptionListener) dispatchListener.get()).onChannelSubscribed("a".getBytes(StandardCharsets.UTF_8), 0);
+
+			return null;
+		}).when(connectionMock).subscribe(any(), any());
+
+		rejectingContainer.addMessageListener((message, pattern) -> {}, new ChannelTopic("a"));
+		rejectingContainer.start();
+
+		Message message = new DefaultMessage("a".getBytes(StandardCharsets.UTF_8), new byte[0]);
+		assertThatExceptionOfType(RejectedExecutionException.class)
+				.isThrownBy(() -> dispatchListener.get().onMessage(message, null));
+		assertThat(rejectingContainer.getDispatchMetrics().getDroppedMessages()).isZero();
+		assertThat(rejectingContainer.getDispatchMetrics().getPendingMessages()).isZero();
+
+		when(connectionMock.getSubscription()).thenReturn(subscriptionMock);
+		rejectingContainer.destroy();
+	}
 }
@@ -18,6 +18,10 @@ package org.springframework.data.redis.listener.adapter;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -257,6 +261,79 @@ class MessageListenerUnitTests {
 		verify(listener, times(1)).handle(any(Pojo.class), anyString());
 	}
 
+	@Test
+	void resolvesListenerMethodByPayloadType() {
+
+		ConcreteMessageHandler listener = spy(new ConcreteMessageHandler());
+
+		MessageListenerAdapter adapter = new MessageListenerAdapter(listener);
+		adapter.setSerializer(null);
+		adapter.afterPropertiesSet();
+
+		adapter.onMessage(new DefaultMessage("channel1".getBytes(), "body".getBytes()), "".getBytes());
+		adapter.onMessage(new DefaultMessage("channel1".getBytes(), "body".getBytes()), "".getBytes());
+
+		adapter.setSerializer(RedisSerializer.string());
+		adapter.onMessage(new DefaultMessage("channel1".getBytes(), "body".getBytes()), "".getBytes());
+
+		verify(listener, times(2)).handleMessage(any(byte[].class), anyString());
+		verify(listener).handleMessage("body", "");
+	}
+
+	@Test
+	void doesNotPassChannelOfIncompatibleType() {
+
+		List<String> invocations = new ArrayList<>();
+		MessageListenerAdapter adapter = new MessageListenerAdapter(new Object() {
+
+			@SuppressWarnings("unused")
+			public void handleMessage(String message, String channel) {
+				invocations.add(message + "@" + channel);
+			}
+
+			@SuppressWarnings("unused")
+			public void handleMessage(String message) {
+				invocations.add(message);
+			}
+		}) {
+
+			@Override
+			protected void invokeListenerMethod(String methodName, Object[] arguments) {
+				super.invokeListenerMethod(methodName, new Object[] { arguments[0], RAW_CHANNEL });
+			}
+		};
+		adapter.afterPropertiesSet();
+
+		adapter.onMessage(STRING_MSG, RAW_CHANNEL);
+
+		assertThat(invocations).containsExactly(PAYLOAD);
+	}
+
+	@Test
+	void propagatesListenerMethodException() {
+
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		MessageListenerAdapter adapter = new MessageListenerAdapter(new Object() {
+
+			@SuppressWarnings("unused")
+			public void handleMessage(String message) {
+				throw new IllegalStateException(message);
+			}
+		}) {
+
+			@Override
+			protected void handleListenerException(Throwable ex) {
+				error.set(ex);
+			}
+		};
+		adapter.afterPropertiesSet();
+
+		adapter.onMessage(STRING_MSG, RAW_CHANNEL);
+
+		assertThat(error.get()).isInstanceOf(RedisListenerExecutionFailedException.class)
+				.hasRootCauseInstanceOf(IllegalStateException.class).hasRootCauseMessage(PAYLOAD);
+	}
+
 	class SampleListener implements MessageListener {
 
 		int count;
@@ -30,6 +30,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Reference;
 import org.springframework.data.domain.Example;
@@ -48,6 +49,7 @@ import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.index.IndexDefinition;
 import org.springframework.data.redis.core.index.Indexed;
 import org.springframework.data.redis.core.index.SimpleIndexDefinition;
+import org.springframework.data.redis.core.index.SortIndexed;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
@@ -285,6 +287,41 @@ public abstract class RedisRepositoryIntegrationTestBase {
 		assertThat(result).containsExactly(eddard);
 	}
 
+	@Test
+	void shouldFindByRangeUsingSortIndex() {
+
+		Person eddard = new Person("eddard", "stark");
+		eddard.setAlive(true);
+		eddard.setAge(43);
+
+		Person robb = new Person("robb", "stark");
+		robb.setAlive(true);
+		robb.setAge(17);
+
+		Person jon = new Person("jon", "snow");
+		jon.setAlive(false);
+		jon.setAge(18);
+
+		repo.saveAll(Arrays.asList(eddard, robb, jon));
+
+		assertThat(repo.findByAgeGreaterThan(17)).containsExactlyInAnyOrder(eddard, jon);
+		assertThat(repo.findByAliveIsTrueAndAgeBetween(10, 20)).containsExactly(robb);
+	}
+
+	@Test
+	void shouldRejectRangeQueryIfSortIndexDoesNotCoverAllEntities() {
+
+		Person eddard = new Person("eddard", "stark");
+		eddard.setAge(43);
+
+		Person robb = new Person("robb", "stark");
+
+		repo.saveAll(Arrays.asList(eddard, robb));
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> repo.findByAgeGreaterThan(17));
+	}
+
 	@Test // DATAREDIS-771
 	void shouldFindByBooleanIsFalse() {
 
@@ -494,6 +531,10 @@ public abstract class RedisRepositoryIntegrationTestBase {
 
 		List<Person> findPersonByAliveIsFalse();
 
+		List<Person> findByAgeGreaterThan(Integer age);
+
+		List<Person> findByAliveIsTrueAndAgeBetween(Integer from, Integer to);
+
 		List<Person> findByFirstnameAndLastname(String firstname, String lastname);
 
 		List<Person> findByFirstnameOrLastname(String firstname, String lastname);
@@ -552,6 +593,7 @@ public abstract class RedisRepositoryIntegrationTestBase {
 		@Id String id;
 		@Indexed String firstname;
 		@Indexed Boolean alive;
+		@SortIndexed Integer age;
 		String lastname;
 		@Reference City city;
 		City hometown;
@@ -25,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Range;
 import org.springframework.data.geo.Box;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
@@ -34,6 +35,7 @@ import org.springframework.data.geo.Shape;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.data.redis.core.convert.ConversionTestEntities.Person;
 import org.springframework.data.redis.repository.query.RedisOperationChain.PathAndValue;
+import org.springframework.data.redis.repository.query.RedisOperationChain.RangePath;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.DefaultParameters;
@@ -189,6 +191,42 @@ class RedisQueryCreatorUnitTests {
 		assertThat(query.getCriteria().getSismember()).contains(new PathAndValue("alive", false));
 	}
 
+	@Test
+	void findByGreaterThan() throws SecurityException, NoSuchMethodException {
+
+		RedisQueryCreator creator = createQueryCreatorForMethodWithArgs(
+				SampleRepository.class.getMethod("findByAgeGreaterThan", Integer.class), new Object[] { 30 });
+
+		KeyValueQuery<RedisOperationChain> query = creator.createQuery();
+
+		assertThat(query.getCriteria().getRange()).containsExactly(
+				new RangePath("age", Range.of(Range.Bound.exclusive((Object) 30), Range.Bound.unbounded())));
+	}
+
+	@Test
+	void findBySimplePropertyAndBetween() throws SecurityException, NoSuchMethodException {
+
+		RedisQueryCreator creator = createQueryCreatorForMethodWithArgs(
+				SampleRepository.class.getMethod("findByFirstnameAndAgeBetween", String.class, Integer.class, Integer.class),
+				new Object[] { "eddard", 30, 40 });
+
+		KeyValueQuery<RedisOperationChain> query = creator.createQuery();
+
+		assertThat(query.getCriteria().getSismember()).containsExactly(new PathAndValue("firstname", "eddard"));
+		assertThat(query.getCriteria().getRange()).containsExactly(
+				new RangePath("age", Range.of(Range.Bound.inclusive((Object) 30), Range.Bound.inclusive((Object) 40))));
+	}
+
+	@Test
+	void findByRangeUsingOrIsNotSupported() throws SecurityException, NoSuchMethodException {
+
+		RedisQueryCreator creator = createQueryCreatorForMethodWithArgs(
+				SampleRepository.class.getMethod("findByAgeLessThanOrFirstname", Integer.class, String.class),
+				new Object[] { 30, "eddard" });
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(creator::createQuery);
+	}
+
 	private RedisQueryCreator createQueryCreatorForMethodWithArgs(Method method, Object[] args) {
 
 		PartTree partTree = new PartTree(method.getName(), method.getReturnType());
@@ -210,6 +248,12 @@ class RedisQueryCreatorUnitTests {
 
 		Person findByAliveIsFalse();
 
+		Person findByAgeGreaterThan(Integer age);
+
+		Person findByFirstnameAndAgeBetween(String firstname, Integer from, Integer to);
+
+		Person findByAgeLessThanOrFirstname(Integer age, String firstname);
+
 		Person findByLocationWithin(Circle circle);
 
 		Person findByLocationNear(Point point, Distance distance);
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.repository.query.KeyValuePartTreeQuery;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
+import org.springframework.data.redis.core.convert.MappingConfiguration;
+import org.springframework.data.redis.core.index.IndexConfiguration;
+import org.springframework.data.redis.core.index.SortIndexDefinition;
+import org.springframework.data.redis.core.index.SortIndexed;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethod;
+
+/**
+ * Unit tests for {@link SortIndexQueryCreationListener}.
+ *
+ * @author agent
+ */
+class SortIndexQueryCreationListenerUnitTests {
+
+	private SortIndexQueryCreationListener listener;
+
+	@BeforeEach
+	void setUp() {
+
+		IndexConfiguration indexConfiguration = new IndexConfiguration();
+		indexConfiguration.addIndexDefinition(new SortIndexDefinition(Player.class.getName(), "rank"));
+
+		listener = new SortIndexQueryCreationListener(
+				new RedisMappingContext(new MappingConfiguration(indexConfiguration, new KeyspaceConfiguration())));
+	}
+
+	@Test
+	void shouldAcceptRangeQueryOnSortIndexedProperty() throws NoSuchMethodException {
+
+		assertThatNoException().isThrownBy(() -> listener.onCreation(queryFor("findByScoreGreaterThan", Integer.class)));
+		assertThatNoException()
+				.isThrownBy(() -> listener.onCreation(queryFor("findByRankBetween", Integer.class, Integer.class)));
+	}
+
+	@Test
+	void shouldAcceptSimplePropertyQueryWithoutSortIndex() throws NoSuchMethodException {
+		assertThatNoException().isThrownBy(() -> listener.onCreation(queryFor("findByName", String.class)));
+	}
+
+	@Test
+	void shouldRejectRangeQueryWithoutSortIndex() throws NoSuchMethodException {
+
+		KeyValuePartTreeQuery query = queryFor("findByLevelLessThan", Integer.class);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(() -> listener.onCreation(query))
+				.withMessageContaining("'level'");
+	}
+
+	private static KeyValuePartTreeQuery queryFor(String methodName, Class<?>... parameterTypes)
+			throws NoSuchMethodException {
+
+		QueryMethod queryMethod = new QueryMethod(PlayerRepository.class.getMethod(methodName, parameterTypes),
+				new DefaultRepositoryMetadata(PlayerRepository.class), new SpelAwareProxyProjectionFactory());
+
+		KeyValuePartTreeQuery query = mock(KeyValuePartTreeQuery.class);
+		when(query.getQueryMethod()).thenReturn(queryMethod);
+		return query;
+	}
+
+	interface PlayerRepository extends Repository<Player, String> {
+
+		List<Player> findByName(String name);
+
+		List<Player> findByScoreGreaterThan(Integer score);
+
+		List<Player> findByRankBetween(Integer from, Integer to);
+
+		List<Player> findByLevelLessThan(Integer level);
+	}
+
+	static class Player {
+
+		@Id String id;
+		String name;
+		@SortIndexed Integer score;
+		Integer rank;
+		Integer level;
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.serializer.CompressingRedisSerializer.Codec;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+/**
+ * Unit tests for {@link CompressingRedisSerializer}.
+ *
+ * @author agent
+ */
+class CompressingRedisSerializerUnitTests {
+
+	private static final String LARGE_VALUE = "{\"firstname\":\"rand\",\"lastname\":\"al'thor\"}".repeat(100);
+
+	@Test
+	void shouldNotCompressValuesBelowThreshold() {
+
+		CompressingRedisSerializer<String> serializer = new CompressingRedisSerializer<>(RedisSerializer.string());
+
+		byte[] bytes = serializer.serialize("foo-bar");
+
+		assertThat(bytes).isEqualTo("foo-bar".getBytes(StandardCharsets.UTF_8));
+		assertThat(serializer.deserialize(bytes)).isEqualTo("foo-bar");
+	}
+
+	@Test
+	void shouldCompressValuesExceedingThreshold() {
+
+		CompressingRedisSerializer<String> serializer = new CompressingRedisSerializer<>(RedisSerializer.string());
+
+		byte[] bytes = serializer.serialize(LARGE_VALUE);
+
+		assertThat(CompressingRedisSerializer.isCompressed(bytes)).isTrue();
+		assertThat(bytes.length).isLessThan(LARGE_VALUE.length() / 10);
+		assertThat(serializer.deserialize(bytes)).isEqualTo(LARGE_VALUE);
+	}
+
+	@Test
+	void shouldCompressUsingFastCodec() {
+
+		CompressingRedisSerializer<String> serializer = new CompressingRedisSerializer<>(RedisSerializer.string())
+				.withCodec(Codec.FAST);
+
+		byte[] bytes = serializer.serialize(LARGE_VALUE);
+
+		assertThat(bytes[2]).isEqualTo((byte) 1);
+		assertThat(serializer.deserialize(bytes)).isEqualTo(LARGE_VALUE);
+	}
+
+	@Test
+	void shouldReadUncompressedValuesWrittenByDelegate() {
+
+		CompressingRedisSerializer<String> serializer = new CompressingRedisSerializer<>(RedisSerializer.string())
+				.withThreshold(0);
+
+		assertThat(serializer.deserialize(LARGE_VALUE.getBytes(StandardCharsets.UTF_8))).isEqualTo(LARGE_VALUE);
+	}
+
+	@Test
+	void shouldRoundTripUsingDictionary() {
+
+		byte[] dictionary = "{\"firstname\":\"\",\"lastname\":\"\",\"street\":\"\",\"city\":\"\",\"zipCode\":\"\",\"country\":\"\",\"email\":\"\",\"phoneNumber\":\"\"}"
+				.getBytes(StandardCharsets.UTF_8);
+		CompressingRedisSerializer<String> plain = new CompressingRedisSerializer<>(RedisSerializer.string())
+				.withThreshold(0);
+		CompressingRedisSerializer<String> serializer = plain.withDictionary(dictionary);
+
+		String value = "{\"firstname\":\"rand\",\"lastname\":\"al'thor\",\"street\":\"emond's field 1\",\"city\":\"two rivers\","
+				+ "\"zipCode\":\"12345\",\"country\":\"andor\",\"email\":\"rand@example.com\",\"phoneNumber\":\"555-0100\"}";
+		byte[] bytes = serializer.serialize(value);
+
+		assertThat(CompressingRedisSerializer.isCompressed(bytes)).isTrue();
+		assertThat(bytes.length).isLessThan(plain.serialize(value).length);
+		assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> plain.deserialize(bytes));
+	}
+
+	@Test
+	void shouldNotCompressIfCompressionDoesNotPayOff() {
+
+		byte[] value = new byte[2048];
+		new Random(42).nextBytes(value);
+		value[0] = 0;
+
+		CompressingRedisSerializer<byte[]> serializer = new CompressingRedisSerializer<>(RedisSerializer.byteArray());
+
+		assertThat(serializer.serialize(value)).isSameAs(value);
+	}
+
+	@Test
+	void shouldRejectExcessiveUncompressedLength() {
+
+		byte[] bytes = { (byte) 0xFE, (byte) 0xC5, 2, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 1, 2, 3 };
+
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> new CompressingRedisSerializer<>(RedisSerializer.byteArray()).deserialize(bytes));
+	}
+
+	@Test
+	void shouldRejectValuesExceedingMaxLength() {
+
+		byte[] bytes = new CompressingRedisSerializer<>(RedisSerializer.string()).serialize(LARGE_VALUE);
+
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(
+				() -> new CompressingRedisSerializer<>(RedisSerializer.string()).withMaxLength(1024).deserialize(bytes));
+	}
+
+	@Test
+	void shouldRejectValuesCompressedWithUnknownDictionary() {
+
+		byte[] dictionary = "\"firstname\":\"lastname\":".getBytes(StandardCharsets.UTF_8);
+		CompressingRedisSerializer<String> serializer = new CompressingRedisSerializer<>(RedisSerializer.string())
+				.withDictionary(dictionary);
+
+		byte[] bytes = serializer.serialize(LARGE_VALUE);
+
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> new CompressingRedisSerializer<>(RedisSerializer.string()).deserialize(bytes));
+	}
+
+	@Test
+	void shouldEscapePayloadStartingWithMagicBytes() {
+
+		CompressingRedisSerializer<byte[]> serializer = new CompressingRedisSerializer<>(RedisSerializer.byteArray());
+		byte[] value = { (byte) 0xFE, (byte) 0xC5, 1, 2, 3, 4, 5, 6 };
+
+		byte[] bytes = serializer.serialize(value);
+
+		assertThat(bytes).hasSize(CompressingRedisSerializer.HEADER_LENGTH + value.length);
+		assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+	}
+
+	@Test
+	void shouldPassThroughNullAndEmptyValues() {
+
+		CompressingRedisSerializer<byte[]> serializer = new CompressingRedisSerializer<>(RedisSerializer.byteArray());
+
+		assertThat(serializer.serialize(null)).isNull();
+		assertThat(serializer.serialize(new byte[0])).isEmpty();
+		assertThat(serializer.deserialize(null)).isNull();
+	}
+
+	@Test
+	void compressedSerializationPairShouldRoundTrip() {
+
+		SerializationPair<String> pair = SerializationPair.compressed(RedisSerializer.string());
+
+		ByteBuffer buffer = pair.write(LARGE_VALUE);
+
+		assertThat(buffer.remaining()).isLessThan(LARGE_VALUE.length());
+		assertThat(pair.read(buffer)).isEqualTo(LARGE_VALUE);
+	}
+}
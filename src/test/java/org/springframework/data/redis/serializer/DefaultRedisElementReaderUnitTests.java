@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -54,4 +55,75 @@ class DefaultRedisElementReaderUnitTests {
 
 		assertThat(result).isEqualTo(input);
 	}
+
+	@Test
+	void shouldDecodeSlicedAndDirectByteBufferCorrectly() {
+
+		String input = "123ü?™";
+		byte[] bytes = ("xx" + input).getBytes(StandardCharsets.UTF_8);
+
+		DefaultRedisElementReader<String> reader = new DefaultRedisElementReader<>(
+				new StringRedisSerializer(StandardCharsets.UTF_8));
+
+		ByteBuffer sliced = ByteBuffer.wrap(bytes);
+		sliced.position(2);
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length - 2);
+		direct.put(bytes, 2, bytes.length - 2).flip();
+
+		assertThat(reader.read(sliced.slice())).isEqualTo(input);
+		assertThat(reader.read(direct)).isEqualTo(input);
+		assertThat(sliced.position()).isEqualTo(2);
+		assertThat(direct.position()).isZero();
+	}
+
+	@Test
+	void shouldCopyHeapBufferForByteArraySerializer() {
+
+		byte[] bytes = { 1, 2, 3 };
+
+		DefaultRedisElementReader<byte[]> reader = new DefaultRedisElementReader<>(RedisSerializer.byteArray());
+
+		assertThat(reader.read(ByteBuffer.wrap(bytes))).isNotSameAs(bytes).isEqualTo(bytes);
+		assertThat(reader.read(ByteBuffer.wrap(bytes, 1, 2))).isEqualTo(new byte[] { 2, 3 });
+	}
+
+	@Test
+	void shouldConsiderOverriddenDeserialize() {
+
+		DefaultRedisElementReader<String> reader = new DefaultRedisElementReader<>(new StringRedisSerializer() {
+
+			@Override
+			public String deserialize(byte[] bytes) {
+				return super.deserialize(bytes).toUpperCase();
+			}
+		});
+
+		assertThat(reader.read(ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8)))).isEqualTo("FOO");
+	}
+
+	@Test
+	void shouldCopyPartialHeapBufferForByteArraySerializer() {
+
+		byte[] bytes = { 1, 2, 3 };
+
+		DefaultRedisElementReader<byte[]> reader = new DefaultRedisElementReader<>(RedisSerializer.byteArray());
+
+		byte[] result = reader.read(ByteBuffer.wrap(bytes, 0, 2));
+		bytes[0] = 9;
+
+		assertThat(result).isEqualTo(new byte[] { 1, 2 });
+	}
+
+	@Test
+	void shouldDecodeJsonFromByteBuffer() {
+
+		byte[] bytes = "xx{\"value\":\"foo\"}".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 2).slice();
+
+		DefaultRedisElementReader<Map> reader = new DefaultRedisElementReader<>(
+				new Jackson2JsonRedisSerializer<>(Map.class));
+
+		assertThat(reader.read(buffer)).containsEntry("value", "foo");
+	}
 }
@@ -23,9 +23,15 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
@@ -51,6 +57,8 @@ import org.springframework.data.redis.stream.StreamMessageListenerContainer.Stre
 import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
 import org.springframework.data.redis.test.condition.EnabledOnCommand;
 import org.springframework.util.NumberUtils;
+import org.springframework.util.backoff.ExponentialBackOff;
+import org.springframework.util.backoff.FixedBackOff;
 
 /**
  * Integration tests for {@link StreamMessageListenerContainer}.
@@ -209,6 +217,263 @@ abstract class AbstractStreamMessageListenerContainerIntegrationTests {
 		cancelAwait(subscription);
 	}
 
+	@Test
+	void shouldReceiveBatchesAndAcknowledgeAfterProcessing() throws InterruptedException {
+
+		StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = StreamMessageListenerContainer
+				.create(connectionFactory, containerOptions);
+		BlockingQueue<List<MapRecord<String, String, String>>> queue = new LinkedBlockingQueue<>();
+		RecordId messageId = redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value0"));
+		redisTemplate.opsForStream().createGroup("my-stream", ReadOffset.from(messageId), "my-group");
+
+		redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value1"));
+		redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value2"));
+
+		container.start();
+
+		BatchStreamListener<String, MapRecord<String, String, String>> listener = queue::add;
+		Subscription subscription = container.register(StreamReadRequest
+				.builder(StreamOffset.create("my-stream", ReadOffset.lastConsumed()))
+				.consumer(Consumer.from("my-group", "my-consumer")).acknowledgeAfterProcessing().build(), listener);
+
+		subscription.await(DEFAULT_TIMEOUT);
+
+		List<MapRecord<String, String, String>> batch = queue.poll(1, TimeUnit.SECONDS);
+		assertThat(batch).hasSize(2);
+		assertThat(batch.get(0).getValue()).containsEntry("key", "value1");
+		assertThat(batch.get(1).getValue()).containsEntry("key", "value2");
+
+		Awaitility.await().until(() -> getNumberOfPending("my-stream", "my-group") == 0);
+
+		cancelAwait(subscription);
+	}
+
+	@Test
+	void shouldProcessRecordsConcurrentlyInPartitionOrder() throws InterruptedException {
+
+		StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = StreamMessageListenerContainer
+				.create(connectionFactory, containerOptions);
+		BlockingQueue<MapRecord<String, String, String>> queue = new LinkedBlockingQueue<>();
+
+		for (int i = 0; i < 10; i++) {
+			redisTemplate.opsForStream().add("my-stream",
+					Map.of("partition", i % 2 == 0 ? "even" : "odd", "sequence", Integer.toString(i)));
+		}
+
+		container.start();
+		Subscription subscription = container.register(
+				StreamReadRequest.builder(StreamOffset.create("my-stream", ReadOffset.from("0-0")))
+						.concurrency(2, record -> ((Map<?, ?>) record.getValue()).get("partition")).build(),
+				queue::add);
+
+		subscription.await(DEFAULT_TIMEOUT);
+
+		Map<String, List<Integer>> sequences = new HashMap<>();
+		for (int i = 0; i < 10; i++) {
+
+			MapRecord<String, String, String> record = queue.poll(1, TimeUnit.SECONDS);
+			assertThat(record).isNotNull();
+			sequences.computeIfAbsent(record.getValue().get("partition"), key -> new ArrayList<>())
+					.add(Integer.parseInt(record.getValue().get("sequence")));
+		}
+
+		assertThat(sequences.get("even")).containsExactly(0, 2, 4, 6, 8);
+		assertThat(sequences.get("odd")).containsExactly(1, 3, 5, 7, 9);
+
+		cancelAwait(subscription);
+	}
+
+	@Test
+	void concurrentProcessingShouldReuseWorkerThreadsAcrossPolls() throws InterruptedException {
+
+		StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> containerOptions = StreamMessageListenerContainerOptions
+				.builder().pollTimeout(Duration.ofMillis(100)).batchSize(2).build();
+		StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = StreamMessageListenerContainer
+				.create(connectionFactory, containerOptions);
+		BlockingQueue<MapRecord<String, String, String>> queue = new LinkedBlockingQueue<>();
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+		for (int i = 0; i < 10; i++) {
+			redisTemplate.opsForStream().add("my-stream", Map.of("partition", i % 2 == 0 ? "even" : "odd"));
+		}
+
+		container.start();
+		Subscription subscription = container.register(
+				StreamReadRequest.builder(StreamOffset.create("my-stream", ReadOffset.from("0-0")))
+						.concurrency(2, record -> ((Map<?, ?>) record.getValue()).get("partition")).build(),
+				record -> {
+					threadNames.add(Thread.currentThread().getName());
+					queue.add(record);
+				});
+
+		subscription.await(DEFAULT_TIMEOUT);
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(queue.poll(1, TimeUnit.SECONDS)).isNotNull();
+		}
+
+		// five polls processed by the polling thread and a single long-lived worker
+		assertThat(threadNames).hasSize(2);
+
+		cancelAwait(subscription);
+	}
+
+	@Test
+	void shouldClaimPendingRecordsOfOtherConsumers() throws InterruptedException {
+
+		StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = StreamMessageListenerContainer
+				.create(connectionFactory, containerOptions);
+		BlockingQueue<MapRecord<String, String, String>> queue = new LinkedBlockingQueue<>();
+		RecordId messageId = redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value0"));
+		redisTemplate.opsForStream().createGroup("my-stream", ReadOffset.from(messageId), "my-group");
+		redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value1"));
+
+		// leave the record pending for a consumer that is gone
+		redisTemplate.opsForStream().read(Consumer.from("my-group", "dead-consumer"),
+				StreamOffset.create("my-stream", ReadOffset.lastConsumed()));
+
+		container.start();
+		Subscription subscription = container.register(StreamReadRequest
+				.builder(StreamOffset.create("my-stream", ReadOffset.lastConsumed()))
+				.consumer(Consumer.from("my-group", "my-consumer")).acknowledgeAfterProcessing()
+				.claimPending(ClaimPendingOptions.minIdle(Duration.ZERO).interval(Duration.ofMillis(50))).build(), queue::add);
+
+		subscription.await(DEFAULT_TIMEOUT);
+
+		MapRecord<String, String, String> message = queue.poll(1, TimeUnit.SECONDS);
+		assertThat(message).isNotNull();
+		assertThat(message.getValue()).containsEntry("key", "value1");
+
+		Awaitility.await().until(() -> getNumberOfPending("my-stream", "my-group") == 0);
+
+		cancelAwait(subscription);
+	}
+
+	@Test
+	void shouldHandOverRecordsExceedingMaxDeliveriesToDeadLetterHandler() throws InterruptedException {
+
+		StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = StreamMessageListenerContainer
+				.create(connectionFactory, containerOptions);
+		BlockingQueue<MapRecord<String, String, String>> queue = new LinkedBlockingQueue<>();
+		BlockingQueue<Record<?, ?>> deadLetters = new LinkedBlockingQueue<>();
+		RecordId messageId = redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value0"));
+		redisTemplate.opsForStream().createGroup("my-stream", ReadOffset.from(messageId), "my-group");
+		redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value1"));
+
+		redisTemplate.opsForStream().read(Consumer.from("my-group", "dead-consumer"),
+				StreamOffset.create("my-stream", ReadOffset.lastConsumed()));
+
+		container.start();
+		Subscription subscription = container.register(StreamReadRequest
+				.builder(StreamOffset.create("my-stream", ReadOffset.lastConsumed()))
+				.consumer(Consumer.from("my-group", "my-consumer")).autoAcknowledge(false)
+				.claimPending(ClaimPendingOptions.minIdle(Duration.ZERO).interval(Duration.ofMillis(50)).maxDeliveries(1,
+						(record, deliveryCount) -> deadLetters.add(record)))
+				.build(), queue::add);
+
+		subscription.await(DEFAULT_TIMEOUT);
+
+		Record<?, ?> deadLetter = deadLetters.poll(1, TimeUnit.SECONDS);
+		assertThat(deadLetter).isNotNull();
+		assertThat(deadLetter.getId()).isNotEqualTo(messageId);
+		assertThat(queue).isEmpty();
+
+		Awaitility.await().until(() -> getNumberOfPending("my-stream", "my-group") == 0);
+
+		cancelAwait(subscription);
+	}
+
+	@Test
+	void shouldBackOffOnEmptyPollsAndRecordMetrics() throws InterruptedException {
+
+		StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> containerOptions = StreamMessageListenerContainerOptions
+				.builder().pollTimeout(Duration.ZERO).emptyPollBackOff(new ExponentialBackOff(10, 2))
+				.adaptiveBatchSize(1, 100).build();
+		StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = StreamMessageListenerContainer
+				.create(connectionFactory, containerOptions);
+		BlockingQueue<MapRecord<String, String, String>> queue = new LinkedBlockingQueue<>();
+
+		container.start();
+		Subscription subscription = container.receive(StreamOffset.create("my-stream", ReadOffset.from("0-0")), queue::add);
+
+		subscription.await(DEFAULT_TIMEOUT);
+
+		redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value1"));
+		redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value2"));
+
+		assertThat(queue.poll(2, TimeUnit.SECONDS)).isNotNull();
+		assertThat(queue.poll(2, TimeUnit.SECONDS)).isNotNull();
+
+		PollMetrics metrics = container.getPollMetrics();
+		Awaitility.await().until(() -> metrics.getRecords() == 2);
+		assertThat(metrics.getEmptyPolls()).isPositive();
+		assertThat(metrics.getPolls()).isGreaterThan(metrics.getEmptyPolls());
+
+		cancelAwait(subscription);
+	}
+
+	@Test
+	void multiplexedContainerShouldBackOffOnEmptyPolls() throws InterruptedException {
+
+		StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> containerOptions = StreamMessageListenerContainerOptions
+				.builder().pollTimeout(Duration.ZERO).emptyPollBackOff(new FixedBackOff(100, FixedBackOff.UNLIMITED_ATTEMPTS))
+				.multiplexed(true).build();
+		StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = StreamMessageListenerContainer
+				.create(connectionFactory, containerOptions);
+		BlockingQueue<MapRecord<String, String, String>> queue = new LinkedBlockingQueue<>();
+
+		container.start();
+		Subscription subscription = container.receive(StreamOffset.create("my-stream", ReadOffset.from("0-0")), queue::add);
+
+		subscription.await(DEFAULT_TIMEOUT);
+
+		// without back off, empty polls would pile up to thousands within the time it takes to observe a few of them
+		PollMetrics metrics = container.getPollMetrics();
+		Awaitility.await().atMost(Duration.ofSeconds(2)).until(() -> metrics.getEmptyPolls() >= 3);
+		assertThat(metrics.getEmptyPolls()).isLessThan(20);
+
+		redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value1"));
+
+		assertThat(queue.poll(2, TimeUnit.SECONDS)).isNotNull();
+
+		cancelAwait(subscription);
+		container.stop();
+	}
+
+	@Test
+	void shouldNotAcknowledgeFailedRecords() throws InterruptedException {
+
+		StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = StreamMessageListenerContainer
+				.create(connectionFactory, containerOptions);
+		BlockingQueue<MapRecord<String, String, String>> queue = new LinkedBlockingQueue<>();
+		RecordId messageId = redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value0"));
+		redisTemplate.opsForStream().createGroup("my-stream", ReadOffset.from(messageId), "my-group");
+
+		container.start();
+		Subscription subscription = container.register(StreamReadRequest
+				.builder(StreamOffset.create("my-stream", ReadOffset.lastConsumed()))
+				.consumer(Consumer.from("my-group", "my-consumer")).acknowledgeAfterProcessing(10, Duration.ZERO)
+				.cancelOnError(it -> false).errorHandler(it -> {}).build(), it -> {
+
+					queue.add(it);
+					if (it.getValue().containsValue("fail")) {
+						throw new IllegalStateException("Processing failed");
+					}
+				});
+
+		subscription.await(DEFAULT_TIMEOUT);
+
+		redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "fail"));
+		redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value2"));
+
+		assertThat(queue.poll(1, TimeUnit.SECONDS)).isNotNull();
+		assertThat(queue.poll(1, TimeUnit.SECONDS)).isNotNull();
+
+		Awaitility.await().until(() -> getNumberOfPending("my-stream", "my-group") == 1);
+
+		cancelAwait(subscription);
+	}
+
 	@Test // DATAREDIS-864
 	void shouldUseCustomErrorHandler() throws InterruptedException {
 
@@ -384,6 +649,111 @@ abstract class AbstractStreamMessageListenerContainerIntegrationTests {
 		cancelAwait(subscription);
 	}
 
+	@Test
+	void multiplexedContainerShouldDemultiplexStreams() throws InterruptedException {
+
+		StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> containerOptions = StreamMessageListenerContainerOptions
+				.builder().pollTimeout(Duration.ofMillis(100)).multiplexed(true).build();
+		StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = StreamMessageListenerContainer
+				.create(connectionFactory, containerOptions);
+		BlockingQueue<MapRecord<String, String, String>> queue1 = new LinkedBlockingQueue<>();
+		BlockingQueue<MapRecord<String, String, String>> queue2 = new LinkedBlockingQueue<>();
+
+		container.start();
+		Subscription subscription1 = container.receive(StreamOffset.create("{stream}-1", ReadOffset.from("0-0")),
+				queue1::add);
+		Subscription subscription2 = container.receive(StreamOffset.create("{stream}-2", ReadOffset.from("0-0")),
+				queue2::add);
+
+		subscription1.await(DEFAULT_TIMEOUT);
+		subscription2.await(DEFAULT_TIMEOUT);
+
+		redisTemplate.opsForStream().add("{stream}-1", Collections.singletonMap("key", "value1"));
+		redisTemplate.opsForStream().add("{stream}-2", Collections.singletonMap("key", "value2"));
+		redisTemplate.opsForStream().add("{stream}-1", Collections.singletonMap("key", "value3"));
+
+		assertThat(queue1.poll(1, TimeUnit.SECONDS).getValue()).containsEntry("key", "value1");
+		assertThat(queue1.poll(1, TimeUnit.SECONDS).getValue()).containsEntry("key", "value3");
+		assertThat(queue2.poll(1, TimeUnit.SECONDS).getValue()).containsEntry("key", "value2");
+
+		cancelAwait(subscription1);
+
+		redisTemplate.opsForStream().add("{stream}-1", Collections.singletonMap("key", "value4"));
+		redisTemplate.opsForStream().add("{stream}-2", Collections.singletonMap("key", "value5"));
+
+		assertThat(queue2.poll(1, TimeUnit.SECONDS).getValue()).containsEntry("key", "value5");
+		assertThat(queue1.poll(200, TimeUnit.MILLISECONDS)).isNull();
+
+		cancelAwait(subscription2);
+		container.stop();
+	}
+
+	@Test
+	void multiplexedContainerShouldReceiveMessagesInConsumerGroup() throws InterruptedException {
+
+		StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> containerOptions = StreamMessageListenerContainerOptions
+				.builder().pollTimeout(Duration.ofMillis(100)).multiplexed(true).build();
+		StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = StreamMessageListenerContainer
+				.create(connectionFactory, containerOptions);
+		BlockingQueue<MapRecord<String, String, String>> queue = new LinkedBlockingQueue<>();
+
+		for (String stream : Arrays.asList("{stream}-1", "{stream}-2")) {
+			RecordId messageId = redisTemplate.opsForStream().add(stream, Collections.singletonMap("key", "value0"));
+			redisTemplate.opsForStream().createGroup(stream, ReadOffset.from(messageId), "my-group");
+		}
+
+		container.start();
+		Subscription subscription1 = container.receiveAutoAck(Consumer.from("my-group", "my-consumer"),
+				StreamOffset.create("{stream}-1", ReadOffset.lastConsumed()), queue::add);
+		Subscription subscription2 = container.receiveAutoAck(Consumer.from("my-group", "my-consumer"),
+				StreamOffset.create("{stream}-2", ReadOffset.lastConsumed()), queue::add);
+
+		subscription1.await(DEFAULT_TIMEOUT);
+		subscription2.await(DEFAULT_TIMEOUT);
+
+		redisTemplate.opsForStream().add("{stream}-1", Collections.singletonMap("key", "value1"));
+		redisTemplate.opsForStream().add("{stream}-2", Collections.singletonMap("key", "value2"));
+
+		assertThat(queue.poll(1, TimeUnit.SECONDS)).isNotNull();
+		assertThat(queue.poll(1, TimeUnit.SECONDS)).isNotNull();
+		assertThat(getNumberOfPending("{stream}-1", "my-group")).isZero();
+
+		cancelAwait(subscription1);
+		cancelAwait(subscription2);
+		container.stop();
+	}
+
+	@Test
+	void multiplexedContainerShouldAcknowledgePendingRecordsOnRemoval() throws InterruptedException {
+
+		StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> containerOptions = StreamMessageListenerContainerOptions
+				.builder().pollTimeout(Duration.ofMillis(100)).multiplexed(true).build();
+		StreamMessageListenerContainer<String, MapRecord<String, String, String>> container = StreamMessageListenerContainer
+				.create(connectionFactory, containerOptions);
+		BlockingQueue<MapRecord<String, String, String>> queue = new LinkedBlockingQueue<>();
+		RecordId messageId = redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value0"));
+		redisTemplate.opsForStream().createGroup("my-stream", ReadOffset.from(messageId), "my-group");
+
+		container.start();
+		Subscription subscription = container.register(StreamReadRequest
+				.builder(StreamOffset.create("my-stream", ReadOffset.lastConsumed()))
+				.consumer(Consumer.from("my-group", "my-consumer")).acknowledgeAfterProcessing(100, Duration.ofMinutes(1))
+				.build(), queue::add);
+
+		subscription.await(DEFAULT_TIMEOUT);
+
+		redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value1"));
+
+		assertThat(queue.poll(1, TimeUnit.SECONDS)).isNotNull();
+		assertThat(getNumberOfPending("my-stream", "my-group")).isOne();
+
+		container.remove(subscription);
+
+		Awaitility.await().atMost(DEFAULT_TIMEOUT).until(() -> getNumberOfPending("my-stream", "my-group") == 0);
+
+		container.stop();
+	}
+
 	private static void cancelAwait(Subscription subscription) {
 
 		subscription.cancel();
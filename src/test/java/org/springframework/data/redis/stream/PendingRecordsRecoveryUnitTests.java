@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XPendingOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+/**
+ * Unit tests for {@link PendingRecordsRecovery}.
+ *
+ * @author agent
+ */
+class PendingRecordsRecoveryUnitTests {
+
+	private static final Consumer CONSUMER = Consumer.from("my-group", "dead-consumer");
+
+	@Test
+	void shouldSelectIdleRecordsOnly() {
+
+		PendingRecordsRecovery recovery = new PendingRecordsRecovery(
+				ClaimPendingOptions.minIdle(Duration.ofSeconds(10)));
+
+		PendingRecordsRecovery.Selection selection = recovery.select(pending(message("1-0", 20, 1),
+				message("2-0", 5, 1), message("3-0", 10, 1)));
+
+		assertThat(selection.getIds()).containsExactly(RecordId.of("1-0"), RecordId.of("3-0"));
+		assertThat(selection.isDeadLetter(RecordId.of("1-0"))).isFalse();
+	}
+
+	@Test
+	void shouldSelectDeadLetters() {
+
+		PendingRecordsRecovery recovery = new PendingRecordsRecovery(
+				ClaimPendingOptions.minIdle(Duration.ZERO).maxDeliveries(3, (record, deliveryCount) -> {}));
+
+		PendingRecordsRecovery.Selection selection = recovery.select(pending(message("1-0", 0, 3),
+				message("2-0", 0, 2)));
+
+		assertThat(selection.getIds()).containsExactly(RecordId.of("1-0"), RecordId.of("2-0"));
+		assertThat(selection.isDeadLetter(RecordId.of("1-0"))).isTrue();
+		assertThat(selection.getDeliveryCount(RecordId.of("1-0"))).isEqualTo(3);
+		assertThat(selection.isDeadLetter(RecordId.of("2-0"))).isFalse();
+
+		PendingRecordsRecovery.ClaimedRecords claimed = recovery.claimed(Arrays.asList(record("1-0"), record("2-0")),
+				selection);
+
+		assertThat(claimed.getRecords()).extracting(ByteRecord::getId).containsExactly(RecordId.of("2-0"));
+		assertThat(claimed.getDeadLetters()).extracting(ByteRecord::getId).containsExactly(RecordId.of("1-0"));
+	}
+
+	@Test
+	void shouldContinueAfterLastInspectedEntry() {
+
+		PendingRecordsRecovery recovery = new PendingRecordsRecovery(
+				ClaimPendingOptions.minIdle(Duration.ZERO).batchSize(2));
+
+		assertThat(recovery.start().getRange()).isEqualTo(Range.unbounded());
+		recovery.select(pending(message("1-0", 0, 1), message("2-0", 0, 1)));
+
+		XPendingOptions next = recovery.start();
+		assertThat(next.getRange().getLowerBound().getValue()).contains("2-0");
+		assertThat(next.getCount()).isEqualTo(2);
+
+		PendingRecordsRecovery.Selection selection = recovery.select(pending(message("2-0", 0, 1)));
+
+		assertThat(selection.isEmpty()).isTrue();
+		assertThat(recovery.start().getRange()).isEqualTo(Range.unbounded());
+	}
+
+	@Test
+	void shouldRespectInterval() {
+
+		PendingRecordsRecovery recovery = new PendingRecordsRecovery(
+				ClaimPendingOptions.minIdle(Duration.ZERO).interval(Duration.ofHours(1)));
+
+		assertThat(recovery.isDue()).isTrue();
+
+		recovery.start();
+
+		assertThat(recovery.isDue()).isFalse();
+	}
+
+	@Test
+	void shouldResetCursorOnEmptyPendingEntries() {
+
+		PendingRecordsRecovery recovery = new PendingRecordsRecovery(ClaimPendingOptions.minIdle(Duration.ZERO));
+
+		assertThat(recovery.select(null).isEmpty()).isTrue();
+		assertThat(recovery.select(pending()).isEmpty()).isTrue();
+		assertThat(recovery.claimed(Collections.emptyList(), PendingRecordsRecovery.Selection.EMPTY).isEmpty()).isTrue();
+	}
+
+	private static PendingMessages pending(PendingMessage... messages) {
+		return new PendingMessages("my-group", Arrays.asList(messages));
+	}
+
+	private static PendingMessage message(String id, long idleSeconds, long deliveryCount) {
+		return new PendingMessage(RecordId.of(id), CONSUMER, Duration.ofSeconds(idleSeconds), deliveryCount);
+	}
+
+	private static ByteRecord record(String id) {
+		return StreamRecords.newRecord().in(new byte[] { 1 }).withId(id)
+				.ofBytes(Collections.singletonMap(new byte[] { 2 }, new byte[] { 3 }));
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.backoff.ExponentialBackOff;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * Unit tests for {@link PollControl}.
+ *
+ * @author agent
+ */
+class PollControlUnitTests {
+
+	PollStatistics statistics = new PollStatistics();
+
+	@Test
+	void shouldNotBackOffWithoutBackOff() {
+
+		PollControl control = PollControl.fixed(statistics);
+
+		assertThat(control.afterPoll(0)).isZero();
+		assertThat(control.getBatchSize()).isZero();
+	}
+
+	@Test
+	void shouldBackOffExponentiallyOnEmptyPolls() {
+
+		ExponentialBackOff backOff = new ExponentialBackOff(10, 2);
+		backOff.setMaxInterval(40);
+		PollControl control = new PollControl(statistics, backOff, 0, 0, 0);
+
+		assertThat(control.afterPoll(0)).isEqualTo(10);
+		assertThat(control.afterPoll(0)).isEqualTo(20);
+		assertThat(control.afterPoll(0)).isEqualTo(40);
+		assertThat(control.afterPoll(0)).isEqualTo(40);
+
+		assertThat(control.afterPoll(1)).isZero();
+		assertThat(control.afterPoll(0)).isEqualTo(10);
+	}
+
+	@Test
+	void shouldRetainLastBackOffOnceExhausted() {
+
+		PollControl control = new PollControl(statistics, new FixedBackOff(25, 1), 0, 0, 0);
+
+		assertThat(control.afterPoll(0)).isEqualTo(25);
+		assertThat(control.afterPoll(0)).isEqualTo(25);
+	}
+
+	@Test
+	void shouldAdaptBatchSize() {
+
+		PollControl control = new PollControl(statistics, null, 10, 5, 40);
+
+		assertThat(control.getBatchSize()).isEqualTo(10);
+
+		control.afterPoll(10);
+		assertThat(control.getBatchSize()).isEqualTo(20);
+
+		control.afterPoll(20);
+		control.afterPoll(40);
+		assertThat(control.getBatchSize()).isEqualTo(40);
+
+		control.afterPoll(19);
+		assertThat(control.getBatchSize()).isEqualTo(20);
+
+		control.afterPoll(15);
+		assertThat(control.getBatchSize()).isEqualTo(20);
+
+		control.afterPoll(0);
+		assertThat(control.getBatchSize()).isEqualTo(5);
+	}
+
+	@Test
+	void shouldBoundInitialBatchSize() {
+
+		assertThat(new PollControl(statistics, null, 0, 5, 40).getBatchSize()).isEqualTo(5);
+		assertThat(new PollControl(statistics, null, 100, 5, 40).getBatchSize()).isEqualTo(40);
+	}
+
+	@Test
+	void shouldRecordStatistics() {
+
+		PollControl control = PollControl.fixed(statistics);
+
+		control.afterPoll(0);
+		control.afterPoll(3);
+		control.afterPoll(5);
+
+		assertThat(statistics.getPolls()).isEqualTo(3);
+		assertThat(statistics.getEmptyPolls()).isOne();
+		assertThat(statistics.getRecords()).isEqualTo(8);
+		assertThat(statistics.getAverageRecordsPerPoll()).isEqualTo(8d / 3);
+	}
+}
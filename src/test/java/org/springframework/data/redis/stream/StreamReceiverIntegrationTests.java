@@ -30,6 +30,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -174,6 +175,39 @@ public class StreamReceiverIntegrationTests {
 				}).thenCancel().verify(Duration.ofSeconds(5));
 	}
 
+	@Test
+	void shouldReceivePrefetchedRecordsInOrder() {
+
+		for (int i = 0; i < 10; i++) {
+			redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value-" + i));
+		}
+		redisTemplate.opsForStream().createGroup("my-stream", ReadOffset.from("0-0"), "my-group");
+
+		StreamReceiverOptions<String, MapRecord<String, String, String>> options = StreamReceiverOptions.builder()
+				.pollTimeout(Duration.ofMillis(100)).batchSize(3).prefetch(4).build();
+		StreamReceiver<String, MapRecord<String, String, String>> receiver = StreamReceiver.create(connectionFactory,
+				options);
+
+		// records read through XREADGROUP remain pending until acknowledged
+		receiver
+				.receive(Consumer.from("my-group", "my-consumer"), StreamOffset.create("my-stream", ReadOffset.lastConsumed())) //
+				.map(it -> it.getValue().get("key")) //
+				.as(it -> StepVerifier.create(it, 0)) //
+				.thenRequest(1) //
+				.expectNext("value-0") //
+				.then(() -> {
+
+					// two reads of three records, suspended once four records are buffered ahead of demand
+					Awaitility.await().atMost(Duration.ofSeconds(2)).until(() -> getPendingRecords() == 6);
+				}) //
+				.thenAwait(Duration.ofMillis(300)) //
+				.then(() -> assertThat(getPendingRecords()).isEqualTo(6)) //
+				.thenRequest(9) //
+				.expectNext("value-1", "value-2", "value-3", "value-4", "value-5", "value-6", "value-7", "value-8", "value-9") //
+				.thenCancel() //
+				.verify(Duration.ofSeconds(5));
+	}
+
 	@Test // DATAREDIS-864
 	void latestModeLosesMessages() {
 
@@ -237,6 +271,32 @@ public class StreamReceiverIntegrationTests {
 				.verify(Duration.ofSeconds(5));
 	}
 
+	@Test
+	void shouldClaimPendingRecordsOfOtherConsumers() {
+
+		StreamReceiverOptions<String, MapRecord<String, String, String>> options = StreamReceiverOptions.builder()
+				.pollTimeout(Duration.ofMillis(100))
+				.claimPending(ClaimPendingOptions.minIdle(Duration.ZERO).interval(Duration.ofMillis(50))).build();
+		StreamReceiver<String, MapRecord<String, String, String>> receiver = StreamReceiver.create(connectionFactory,
+				options);
+
+		redisTemplate.opsForStream().createGroup("my-stream", ReadOffset.from("0-0"), "my-group");
+		redisTemplate.opsForStream().add("my-stream", Collections.singletonMap("key", "value"));
+
+		// leave the record pending for a consumer that is gone
+		redisTemplate.opsForStream().read(Consumer.from("my-group", "dead-consumer"),
+				StreamOffset.create("my-stream", ReadOffset.lastConsumed()));
+
+		receiver.receiveAutoAck(Consumer.from("my-group", "my-consumer-id"),
+				StreamOffset.create("my-stream", ReadOffset.lastConsumed())) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(it -> assertThat(it.getValue()).containsValue("value")) //
+				.thenCancel() //
+				.verify(Duration.ofSeconds(5));
+
+		assertThat(redisTemplate.opsForStream().pending("my-stream", "my-group").getTotalPendingMessages()).isZero();
+	}
+
 	@Test // DATAREDIS-864
 	void shouldStopReceivingOnError() {
 
@@ -290,6 +350,10 @@ public class StreamReceiverIntegrationTests {
 		assertThat(((ConversionFailedException) ref.get()).getValue()).isInstanceOf(ByteBufferRecord.class);
 	}
 
+	private long getPendingRecords() {
+		return redisTemplate.opsForStream().pending("my-stream", "my-group").getTotalPendingMessages();
+	}
+
 	@Data
 	@AllArgsConstructor
 	static class LoginEvent {